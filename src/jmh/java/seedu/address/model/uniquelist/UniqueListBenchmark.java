@@ -0,0 +1,84 @@
+package seedu.address.model.uniquelist;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentID;
+import seedu.address.model.student.TelegramHandle;
+import seedu.address.model.submission.Submission;
+import seedu.address.model.submission.SubmissionStatus;
+import seedu.address.model.tutorial.Assignment;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.exceptions.DuplicateItemException;
+
+/**
+ * Measures bulk validation of a {@link UniqueList} of submissions. The time
+ * taken should grow linearly with {@code submissionCount}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueListBenchmark {
+    private static final int ASSIGNMENT_COUNT = 10;
+
+    @Param({ "5000", "50000" })
+    private int submissionCount;
+
+    private List<Submission> submissions;
+    private UniqueList<Submission> target;
+
+    /**
+     * Creates {@code submissionCount} submissions, one for every assignment and
+     * student pair
+     */
+    @Setup
+    public void setUp() {
+        var tutorial = new Tutorial("T01");
+        var assignments = IntStream.range(0, ASSIGNMENT_COUNT)
+                        .mapToObj(i -> new Assignment("Assignment %d".formatted(i), tutorial)).toList();
+
+        submissions = IntStream.range(0, submissionCount / ASSIGNMENT_COUNT)
+                        .mapToObj(UniqueListBenchmark::createStudent).flatMap(s -> assignments.stream()
+                                        .map(a -> new Submission(a, s, SubmissionStatus.NOT_SUBMITTED)))
+                        .toList();
+        target = new UniqueList<>(List.of(), Submission.IDENTITY_KEYS);
+    }
+
+    private static Student createStudent(int i) {
+        return new Student(new Name("Student %d".formatted(i)), new StudentID("A%07dZ".formatted(i)),
+                        new Phone("%08d".formatted(i)), new Email("student%d@example.com".formatted(i)),
+                        new TelegramHandle("@student_%d".formatted(i)), new HashSet<>());
+    }
+
+    @Benchmark
+    public UniqueList<Submission> construct() {
+        return new UniqueList<>(submissions, Submission.IDENTITY_KEYS);
+    }
+
+    @Benchmark
+    public UniqueList<Submission> setAll() throws DuplicateItemException {
+        target.setAll(submissions);
+        return target;
+    }
+}
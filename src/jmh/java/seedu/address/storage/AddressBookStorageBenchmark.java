@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.student.Email;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentID;
+import seedu.address.model.student.TelegramHandle;
+import seedu.address.model.tutorial.Assignment;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.exceptions.DuplicateItemException;
+import seedu.address.model.uniquelist.exceptions.ItemNotFoundException;
+import seedu.address.storage.binary.BinaryAddressBookStorage;
+import seedu.address.storage.database.DatabaseAddressBookStorage;
+import seedu.address.storage.json.JournalAddressBookStorage;
+import seedu.address.storage.json.JsonAddressBookStorage;
+import seedu.address.storage.json.ShardedAddressBookStorage;
+
+/**
+ * Compares the time taken to save and load an address book of
+ * {@code studentCount} students in each storage format, and to save it after
+ * a single student is edited.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookStorageBenchmark {
+    private static final int STUDENTS_PER_TUTORIAL = 30;
+    private static final int ASSIGNMENTS_PER_TUTORIAL = 5;
+
+    @Param({ "1000", "10000", "20000", "100000" })
+    private int studentCount;
+
+    @Param({ "JSON", "JOURNAL", "BINARY", "DATABASE", "SHARDED" })
+    private String format;
+
+    private Path folder;
+    private AddressBookStorage storage;
+    private AddressBook source;
+    private ReadOnlyAddressBook addressBook;
+
+    /**
+     * Creates an address book where every student is in one tutorial, with an
+     * attendance record and a submission for each assignment of the tutorial,
+     * and saves it so that it can be loaded.
+     */
+    @Setup
+    public void setUp() throws IOException, DuplicateItemException, ItemNotFoundException {
+        source = new AddressBook();
+        int tutorialCount = (studentCount + STUDENTS_PER_TUTORIAL - 1) / STUDENTS_PER_TUTORIAL;
+        for (int i = 0; i < tutorialCount; i++) {
+            source.addTutorial(new Tutorial("T%05d".formatted(i)));
+        }
+        for (int i = 0; i < studentCount; i++) {
+            source.addStudent(createStudent(i, new Tutorial("T%05d".formatted(i / STUDENTS_PER_TUTORIAL))));
+        }
+        for (int i = 0; i < tutorialCount; i++) {
+            for (int j = 0; j < ASSIGNMENTS_PER_TUTORIAL; j++) {
+                source.addAssignment(new Assignment("Assignment %d".formatted(j), Optional.empty(),
+                                new Tutorial("T%05d".formatted(i))));
+            }
+        }
+        addressBook = source.snapshot();
+
+        folder = Files.createTempDirectory("storage-benchmark");
+        storage = switch (format) {
+        case "JSON" -> new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        case "JOURNAL" -> new JournalAddressBookStorage(folder.resolve("addressbook.json"));
+        case "BINARY" -> new BinaryAddressBookStorage(folder.resolve("addressbook.bin"));
+        case "DATABASE" -> new DatabaseAddressBookStorage(folder.resolve("addressbook.mv.db"));
+        case "SHARDED" -> new ShardedAddressBookStorage(folder.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME));
+        default -> throw new IllegalArgumentException(format);
+        };
+        storage.saveAddressBook(addressBook);
+    }
+
+    private static Student createStudent(int i, Tutorial tutorial) {
+        return new Student(new Name("Student %d".formatted(i)), new StudentID("A%07dZ".formatted(i)),
+                        new Phone("%08d".formatted(i)), new Email("student%d@example.com".formatted(i)),
+                        new TelegramHandle("@student_%d".formatted(i)), Set.of(tutorial));
+    }
+
+    /**
+     * Removes the saved files
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var files = Files.list(folder)) {
+            for (Path file : files.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataLoadingException {
+        return storage.readAddressBook().orElseThrow();
+    }
+
+    /**
+     * Changes the phone number of one student and saves the address book, as
+     * after an edit command.
+     */
+    @Benchmark
+    public void saveAfterEdit() throws IOException {
+        Student student = source.getStudentList().get(0);
+        student.setPhone(new Phone(student.getPhone().value.equals("99999999") ? "88888888" : "99999999"));
+        storage.saveAddressBook(source.snapshot());
+    }
+}
@@ -1,11 +1,14 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -22,12 +25,18 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookConverter;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.binary.BinaryAddressBookStorage;
+import seedu.address.storage.binary.CachedAddressBookStorage;
+import seedu.address.storage.database.DatabaseAddressBookStorage;
+import seedu.address.storage.json.JournalAddressBookStorage;
 import seedu.address.storage.json.JsonAddressBookStorage;
 import seedu.address.storage.json.JsonUserPrefsStorage;
+import seedu.address.storage.json.ShardedAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -38,6 +47,8 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    public static final String MESSAGE_LOADED = "Loaded %d students and %d tutorials";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -46,8 +57,25 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /** Startup cache of the JSON data file, or null if another storage format is used */
+    private CachedAddressBookStorage cachedStorage;
+
+    /** Time at which initialization started, that startup phases are timed from */
+    private long initStartNanos;
+
+    /**
+     * Address book read from the data file at startup, or to use in its place.
+     *
+     * @param isSampleData
+     *            whether the data file was missing, so {@code addressBook} holds
+     *            sample data that is not saved yet
+     */
+    private record InitialData(ReadOnlyAddressBook addressBook, boolean isSampleData) {
+    }
+
     @Override
     public void init() throws Exception {
+        initStartNanos = System.nanoTime();
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
@@ -57,30 +85,80 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        // The address book is read in the background once the window is shown
+        model = new ModelManager(new AddressBook(), userPrefs);
 
         logic = new LogicManager(model, storage);
+        logic.startLoading();
 
         ui = new UiManager(logic);
+        logger.info("Startup: initialized in " + millisSince(initStartNanos) + " ms");
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the storage format in
+     * {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using storage format : " + userPrefs.getStorageFormat());
+        Path filePath = userPrefs.getAddressBookFilePath();
+        boolean isPrettyPrinted = config.isDataFilePrettyPrinted();
+        return switch (userPrefs.getStorageFormat()) {
+        case JSON -> {
+            cachedStorage = new CachedAddressBookStorage(new JsonAddressBookStorage(filePath, isPrettyPrinted),
+                            CachedAddressBookStorage.getCachePath(filePath));
+            yield cachedStorage;
+        }
+        case JOURNAL -> new JournalAddressBookStorage(filePath, isPrettyPrinted);
+        case BINARY -> initConvertedAddressBookStorage(filePath,
+                        new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryPath(filePath)));
+        case DATABASE -> initConvertedAddressBookStorage(filePath,
+                        new DatabaseAddressBookStorage(DatabaseAddressBookStorage.getDatabasePath(filePath)));
+        case SHARDED -> initConvertedAddressBookStorage(filePath,
+                        new ShardedAddressBookStorage(ShardedAddressBookStorage.getManifestPath(filePath),
+                                        isPrettyPrinted));
+        };
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address
-     * book and {@code userPrefs}. <br>
+     * Returns {@code storage}, which keeps its data next to the JSON file at
+     * {@code jsonFilePath}. The JSON file is converted if there is no file for
+     * {@code storage} yet, and is otherwise left alone.
+     */
+    private AddressBookStorage initConvertedAddressBookStorage(Path jsonFilePath, AddressBookStorage storage) {
+        if (Files.exists(storage.getAddressBookFilePath())) {
+            return storage;
+        }
+
+        try {
+            if (AddressBookConverter.convert(new JsonAddressBookStorage(jsonFilePath), storage)) {
+                logger.info("Converted " + jsonFilePath + " to " + storage.getAddressBookFilePath());
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Could not convert " + jsonFilePath + " to " + storage.getAddressBookFilePath() + ": "
+                            + e);
+        }
+        return storage;
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
      * The data from the sample address book will be used instead if
      * {@code storage}'s address book is not found, or an empty address book will be
      * used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private InitialData readInitialData(Storage storage) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
+        boolean isSampleData = false;
         try {
             addressBookOptional = storage.readAddressBook();
+            isSampleData = addressBookOptional.isEmpty();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                                 + " populated with a sample AddressBook.");
@@ -96,7 +174,32 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new InitialData(initialData, isSampleData);
+    }
+
+    /**
+     * Reads the address book on the current thread, then attaches it to the model
+     * on the JavaFX application thread.
+     */
+    private void loadAddressBook() {
+        long readStartNanos = System.nanoTime();
+        InitialData initialData = readInitialData(storage);
+        logger.info("Startup: address book read in " + millisSince(readStartNanos) + " ms");
+
+        Platform.runLater((
+        ) -> {
+            long attachStartNanos = System.nanoTime();
+            // Sample data is not in the data file yet
+            logic.finishLoading(initialData.addressBook(), initialData.isSampleData());
+            ui.showLoaded(String.format(MESSAGE_LOADED, initialData.addressBook().getStudentList().size(),
+                            initialData.addressBook().getTutorialList().size()));
+            logger.info("Startup: address book attached in " + millisSince(attachStartNanos) + " ms, ready "
+                            + millisSince(initStartNanos) + " ms after start");
+        });
+    }
+
+    private static long millisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
     }
 
     private void initLogging(Config config) {
@@ -180,11 +283,25 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        logger.info("Startup: window shown " + millisSince(initStartNanos) + " ms after start");
+
+        Thread loader = new Thread(this::loadAddressBook, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.flush();
+        // The cache must not be written while the data file is still being read
+        if (cachedStorage != null && !logic.isLoading()) {
+            try {
+                cachedStorage.saveCache();
+            } catch (IOException e) {
+                logger.warning("Failed to save startup cache " + StringUtil.getDetails(e));
+            }
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
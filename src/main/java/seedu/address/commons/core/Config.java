@@ -17,6 +17,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isDataFilePrettyPrinted = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +35,18 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the data file is written with indentation, instead of on a
+     * single line.
+     */
+    public boolean isDataFilePrettyPrinted() {
+        return isDataFilePrettyPrinted;
+    }
+
+    public void setDataFilePrettyPrinted(boolean isDataFilePrettyPrinted) {
+        this.isDataFilePrettyPrinted = isDataFilePrettyPrinted;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,18 +60,19 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                        && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                        && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                        && isDataFilePrettyPrinted == otherConfig.isDataFilePrettyPrinted;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isDataFilePrettyPrinted);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("logLevel", logLevel).add("userPrefsFilePath", userPrefsFilePath)
-                        .toString();
+                        .add("isDataFilePrettyPrinted", isDataFilePrettyPrinted).toString();
     }
 
 }
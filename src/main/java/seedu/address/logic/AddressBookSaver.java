@@ -0,0 +1,129 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves the address book on a background thread.
+ * <p>
+ * A snapshot of the address book is taken a short delay after a save is
+ * requested, and written on the saving thread. Requests made before the snapshot
+ * is taken are covered by it, so a burst of changes results in a single
+ * snapshot and a single write of the latest data.
+ * <p>
+ * The snapshots are taken on the thread that changes the address book, which
+ * the saver hands them to with the given executor, so the saving thread only
+ * reads data that nothing else changes.
+ */
+class AddressBookSaver {
+    /** Delay between a save request and the write, in milliseconds */
+    static final long DEFAULT_DELAY_MILLIS = 300;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final Storage storage;
+    private final Supplier<ReadOnlyAddressBook> snapshotter;
+    private final Executor modelExecutor;
+    private final long delayMillis;
+    private final Consumer<Exception> errorHandler;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** True if a save was requested and the snapshot is not taken yet, only used on the model thread */
+    private boolean isRequested;
+
+    /**
+     * Creates a saver writing to {@code storage}.
+     *
+     * @param snapshotter
+     *            returns a snapshot of the address book, see
+     *            {@link ReadOnlyAddressBook#snapshot()}
+     * @param modelExecutor
+     *            runs tasks on the thread that changes the address book
+     * @param errorHandler
+     *            called on the saving thread when a write fails, with the
+     *            {@code IOException}, or any unexpected exception thrown by the
+     *            storage
+     */
+    AddressBookSaver(Storage storage, Supplier<ReadOnlyAddressBook> snapshotter, Executor modelExecutor,
+                    long delayMillis, Consumer<Exception> errorHandler) {
+        this.storage = storage;
+        this.snapshotter = snapshotter;
+        this.modelExecutor = modelExecutor;
+        this.delayMillis = delayMillis;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Requests the address book to be saved. Must be called on the thread that
+     * changes the address book.
+     */
+    void requestSave() {
+        if (isRequested) {
+            return;
+        }
+
+        isRequested = true;
+        executor.schedule((
+        ) -> modelExecutor.execute(this::takeSnapshot), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the address book if a save was requested, and waits for every write
+     * to finish. Must be called on the thread that changes the address book.
+     */
+    void flush() {
+        takeSnapshot();
+        try {
+            executor.submit((
+            ) -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Takes the snapshot of a requested save and queues its write. Runs on the
+     * thread that changes the address book.
+     */
+    private void takeSnapshot() {
+        if (!isRequested) {
+            return;
+        }
+
+        isRequested = false;
+        var snapshot = snapshotter.get();
+        executor.execute((
+        ) -> write(snapshot));
+    }
+
+    private void write(ReadOnlyAddressBook snapshot) {
+        try {
+            storage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + e.getMessage());
+            errorHandler.accept(e);
+        } catch (RuntimeException e) {
+            // Would otherwise be kept in the future of the scheduled write, and never seen
+            logger.log(Level.SEVERE, "Unexpected error while saving address book", e);
+            errorHandler.accept(e);
+        }
+    }
+}
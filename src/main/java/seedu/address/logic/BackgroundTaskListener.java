@@ -0,0 +1,20 @@
+package seedu.address.logic;
+
+/**
+ * Receives updates about background tasks started by commands. Methods are
+ * called on the thread running the tasks.
+ */
+public interface BackgroundTaskListener {
+
+    /**
+     * Called as the task with {@code description} makes progress, with
+     * {@code done} out of {@code total} steps done.
+     */
+    void onProgress(String description, long done, long total);
+
+    /**
+     * Called once a task has finished, failed or been cancelled, with the message
+     * to show the user.
+     */
+    void onFinished(String message);
+}
@@ -0,0 +1,128 @@
+package seedu.address.logic;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BackgroundTask;
+
+/**
+ * Runs the background tasks of commands one at a time, on a thread of its own.
+ * <p>
+ * Progress is passed on at most once every {@link #PROGRESS_INTERVAL_MILLIS},
+ * so that a task reporting every step does not flood the listener.
+ */
+class BackgroundTaskRunner {
+    static final String MESSAGE_CANCELLED = "%s cancelled";
+    static final String MESSAGE_FAILED = "%s failed: %s";
+
+    /** Smallest time between two progress updates, in milliseconds */
+    static final long PROGRESS_INTERVAL_MILLIS = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundTaskRunner.class);
+
+    private static final BackgroundTaskListener NO_LISTENER = new BackgroundTaskListener() {
+        @Override
+        public void onProgress(String description, long done, long total) {
+        }
+
+        @Override
+        public void onFinished(String message) {
+        }
+    };
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "background-task");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Tasks that are running or waiting to run */
+    private final List<Pending> pending = new ArrayList<>();
+
+    private volatile BackgroundTaskListener listener = NO_LISTENER;
+
+    void setListener(BackgroundTaskListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Runs {@code task} after the tasks that were started before it.
+     */
+    synchronized void start(BackgroundTask task) {
+        pending.removeIf(p -> p.future().isDone());
+        var isStarted = new AtomicBoolean();
+        pending.add(new Pending(task, executor.submit((
+        ) -> run(task, isStarted)), isStarted));
+    }
+
+    /**
+     * Cancels the tasks that are running or waiting to run. The listener is told
+     * that a task which had not started yet is finished, as it never runs to tell
+     * it so.
+     *
+     * @return the number of tasks cancelled
+     */
+    synchronized int cancelAll() {
+        int count = 0;
+        for (var p : pending) {
+            if (p.isStarted().compareAndSet(false, true)) {
+                p.future().cancel(false);
+                String message = MESSAGE_CANCELLED.formatted(p.task().getDescription());
+                logger.info(message);
+                listener.onFinished(message);
+                count++;
+            } else if (p.future().cancel(true)) {
+                count++;
+            }
+        }
+        pending.clear();
+        return count;
+    }
+
+    /**
+     * Runs {@code task}, unless it was cancelled before it started.
+     */
+    private void run(BackgroundTask task, AtomicBoolean isStarted) {
+        if (!isStarted.compareAndSet(false, true)) {
+            return;
+        }
+
+        String description = task.getDescription();
+        logger.info("Starting background task: " + description);
+        long[] lastUpdate = {Long.MIN_VALUE};
+        String message;
+        try {
+            message = task.run((
+                            done, total
+            ) -> {
+                long now = System.nanoTime();
+                if (done == total || now - lastUpdate[0] >= PROGRESS_INTERVAL_MILLIS * 1_000_000) {
+                    lastUpdate[0] = now;
+                    listener.onProgress(description, done, total);
+                }
+            });
+        } catch (InterruptedIOException | ClosedByInterruptException e) {
+            message = MESSAGE_CANCELLED.formatted(description);
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Background task failed: " + description + ": " + e);
+            message = MESSAGE_FAILED.formatted(description, e.getMessage());
+        }
+        logger.info(message);
+        listener.onFinished(message);
+    }
+
+    /**
+     * A task that was started, and whether it started running
+     */
+    private record Pending(BackgroundTask task, Future<?> future, AtomicBoolean isStarted) {
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.ObservableList;
@@ -33,6 +34,46 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler for errors from saving the address book. Changes are saved
+     * in the background, so the handler is called on the saving thread, after
+     * {@link #execute(String)} has returned.
+     */
+    void setSaveErrorHandler(Consumer<String> handler);
+
+    /**
+     * Sets the listener for background tasks started by commands, such as
+     * exports. The listener is called on the thread running the tasks.
+     */
+    void setBackgroundTaskListener(BackgroundTaskListener listener);
+
+    /**
+     * Marks the address book as being loaded. Until {@link #finishLoading} is
+     * called, commands that use the address book are rejected.
+     */
+    void startLoading();
+
+    /**
+     * Replaces the address book with the loaded {@code addressBook}, and accepts
+     * all commands again.
+     *
+     * @param isModified
+     *            whether {@code addressBook} differs from the data file, so that
+     *            it is saved
+     */
+    void finishLoading(ReadOnlyAddressBook addressBook, boolean isModified);
+
+    /**
+     * Returns true if the address book is still being loaded.
+     */
+    boolean isLoading();
+
+    /**
+     * Saves any unsaved changes to the address book, and waits for the write to
+     * finish.
+     */
+    void flush();
+
     /**
      * Returns the AddressBook.
      *
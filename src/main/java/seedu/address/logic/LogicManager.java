@@ -3,8 +3,11 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -38,15 +41,32 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AddressBookSaver saver;
+    private final BackgroundTaskRunner backgroundTaskRunner;
+    private volatile Consumer<String> saveErrorHandler = message -> {};
+    private volatile boolean isLoading;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
      * {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, AddressBookSaver.DEFAULT_DELAY_MILLIS, Platform::runLater);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that saves changes to the address book
+     * {@code saveDelayMillis} milliseconds after they are made, taking the
+     * snapshot to save with {@code modelExecutor}, which must run tasks on the
+     * thread that executes commands.
+     */
+    LogicManager(Model model, Storage storage, long saveDelayMillis, Executor modelExecutor) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        saver = new AddressBookSaver(storage, (
+        ) -> model.getAddressBook().snapshot(), modelExecutor, saveDelayMillis, this::reportSaveError);
+        backgroundTaskRunner = new BackgroundTaskRunner();
     }
 
     @Override
@@ -55,21 +75,76 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        if (isLoading && !command.isAvailableWhileLoading()) {
+            throw new CommandException(String.format(Messages.MESSAGE_LOADING, model.getAddressBookFilePath()));
+        }
         commandResult = command.execute(model);
 
         assert model.check();
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        requestSave();
+
+        if (commandResult.isCancelBackgroundTasks()) {
+            backgroundTaskRunner.cancelAll();
         }
+        commandResult.getBackgroundTask().ifPresent(backgroundTaskRunner::start);
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveErrorHandler(Consumer<String> handler) {
+        saveErrorHandler = handler;
+    }
+
+    @Override
+    public void setBackgroundTaskListener(BackgroundTaskListener listener) {
+        backgroundTaskRunner.setListener(listener);
+    }
+
+    @Override
+    public void startLoading() {
+        isLoading = true;
+    }
+
+    @Override
+    public void finishLoading(ReadOnlyAddressBook addressBook, boolean isModified) {
+        model.setAddressBook(addressBook);
+        model.setAddressBookModified(isModified);
+        isLoading = false;
+    }
+
+    @Override
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    @Override
+    public void flush() {
+        requestSave();
+        saver.flush();
+    }
+
+    /**
+     * Requests a save of the address book if it has changed since the last
+     * request. The snapshot to save is taken later, once for a burst of changes.
+     */
+    private void requestSave() {
+        if (!model.isAddressBookModified()) {
+            return;
+        }
+
+        saver.requestSave();
+        model.setAddressBookModified(false);
+    }
+
+    private void reportSaveError(Exception e) {
+        String message = e instanceof AccessDeniedException
+                        ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                        : String.format(FILE_OPS_ERROR_FORMAT, e instanceof IOException ? e.getMessage() : e);
+        saveErrorHandler.accept(message);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
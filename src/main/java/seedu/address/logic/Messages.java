@@ -24,11 +24,13 @@ public class Messages {
     public static final String MESSAGE_INCORRECT_NAVIGATION_MODE = "Incorrect mode, correct mode is '%s',"
                     + " switching to it now";
     public static final String MESSAGE_UNKNOWN_ERROR = "Something went wrong";
+    public static final String MESSAGE_LOADING = "Data is still being loaded from %s, please try again shortly";
 
     public static final String MESSAGE_TUTORIAL_NOT_FOUND = "Tutorial '%s' is not found";
     public static final String MESSAGE_TUTORIAL_INDEX_NOT_FOUND = "Tutorial index '%s' is not found";
     public static final String MESSAGE_ASSIGNMENT_NOT_FOUND = "Assignment '%s' is not found in Tutorial '%s'";
     public static final String MESSAGE_STUDENT_NOT_FOUND = "Student '%s' is not found";
+    public static final String MESSAGE_ATTENDANCE_NOT_FOUND = "Attendance of '%s' in Tutorial '%s' is not found";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
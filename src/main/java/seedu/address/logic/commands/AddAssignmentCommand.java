@@ -54,36 +54,41 @@ public class AddAssignmentCommand extends Command {
 
         var msgs = new ArrayList<String>();
         var hasErrors = false;
-        for (var idx : new LinkedHashSet<>(tutorialIdxList)) {
-            var idxZeroBased = idx.getZeroBased();
-
-            var tutorials = model.getFilteredTutorialList();
-            if (idxZeroBased >= tutorials.size()) {
-                msgs.add(MESSAGE_TUTORIAL_INDEX_NOT_FOUND.formatted(idx.getOneBased()));
-                hasErrors = true;
-                continue;
+        model.beginTransaction();
+        try {
+            for (var idx : new LinkedHashSet<>(tutorialIdxList)) {
+                var idxZeroBased = idx.getZeroBased();
+
+                var tutorials = model.getFilteredTutorialList();
+                if (idxZeroBased >= tutorials.size()) {
+                    msgs.add(MESSAGE_TUTORIAL_INDEX_NOT_FOUND.formatted(idx.getOneBased()));
+                    hasErrors = true;
+                    continue;
+                }
+
+                var tutorial = tutorials.get(idxZeroBased);
+                if (tutorial == null) {
+                    msgs.add(MESSAGE_TUTORIAL_INDEX_NOT_FOUND.formatted(idx.getOneBased()));
+                    hasErrors = true;
+                    continue;
+                }
+
+                try {
+                    model.addAssignment(new Assignment(toAdd.name(), toAdd.dueDate(), tutorial));
+                } catch (ItemNotFoundException e) {
+                    msgs.add(e.getMessage());
+                    hasErrors = true;
+                    continue;
+                } catch (DuplicateItemException e) {
+                    msgs.add(MESSAGE_DUPLICATE_ASSIGNMENT);
+                    hasErrors = true;
+                    continue;
+                }
+
+                msgs.add("Successfully deleted assignment '%s' for tutorial '%s'".formatted(toAdd, tutorial));
             }
-
-            var tutorial = tutorials.get(idxZeroBased);
-            if (tutorial == null) {
-                msgs.add(MESSAGE_TUTORIAL_INDEX_NOT_FOUND.formatted(idx.getOneBased()));
-                hasErrors = true;
-                continue;
-            }
-
-            try {
-                model.addAssignment(new Assignment(toAdd.name(), toAdd.dueDate(), tutorial));
-            } catch (ItemNotFoundException e) {
-                msgs.add(e.getMessage());
-                hasErrors = true;
-                continue;
-            } catch (DuplicateItemException e) {
-                msgs.add(MESSAGE_DUPLICATE_ASSIGNMENT);
-                hasErrors = true;
-                continue;
-            }
-
-            msgs.add("Successfully deleted assignment '%s' for tutorial '%s'".formatted(toAdd, tutorial));
+        } finally {
+            model.commitTransaction();
         }
 
         assert model.check();
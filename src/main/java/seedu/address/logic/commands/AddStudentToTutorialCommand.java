@@ -64,26 +64,31 @@ public class AddStudentToTutorialCommand extends Command {
         List<Student> lastShownList = model.getFilteredStudentList();
 
         var errMsg = new ArrayList<String>();
-        for (Index index : new LinkedHashSet<>(indices)) {
-            // Check that index is in bounds.
-            if (index.getZeroBased() >= lastShownList.size()) {
-                errMsg.add(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
-                continue;
-            }
-
-            Student studentToEdit = lastShownList.get(index.getZeroBased());
-            assert model.hasStudent(studentToEdit);
+        model.beginTransaction();
+        try {
+            for (Index index : new LinkedHashSet<>(indices)) {
+                // Check that index is in bounds.
+                if (index.getZeroBased() >= lastShownList.size()) {
+                    errMsg.add(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+                    continue;
+                }
 
-            if (studentToEdit.hasTutorial(tutorial)) {
-                errMsg.add(MESSAGE_TUTORIAL_HAS_BEEN_ADDED);
-            } else {
-                try {
-                    model.addStudentToTutorial(tutorial, studentToEdit);
-                } catch (ItemNotFoundException e) {
-                    errMsg.add(Messages.MESSAGE_TUTORIAL_NOT_FOUND.formatted(tutorial.name()));
+                Student studentToEdit = lastShownList.get(index.getZeroBased());
+                assert model.hasStudent(studentToEdit);
+
+                if (studentToEdit.hasTutorial(tutorial)) {
+                    errMsg.add(MESSAGE_TUTORIAL_HAS_BEEN_ADDED);
+                } else {
+                    try {
+                        model.addStudentToTutorial(tutorial, studentToEdit);
+                    } catch (ItemNotFoundException e) {
+                        errMsg.add(Messages.MESSAGE_TUTORIAL_NOT_FOUND.formatted(tutorial.name()));
+                    }
                 }
-            }
 
+            }
+        } finally {
+            model.commitTransaction();
         }
         if (!errMsg.isEmpty()) {
             var msg = errMsg.stream().distinct().collect(Collectors.joining("\n"));
@@ -0,0 +1,29 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Checks the whole address book for inconsistent data.
+ */
+public class AuditCommand extends Command {
+
+    public static final String COMMAND_WORD = "audit";
+    public static final String MESSAGE_SUCCESS = "Address book is consistent";
+    public static final String MESSAGE_FAILURE = "Address book is inconsistent: %s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        try {
+            model.audit();
+        } catch (IllegalStateException e) {
+            throw new CommandException(MESSAGE_FAILURE.formatted(e.getMessage()), e);
+        }
+
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
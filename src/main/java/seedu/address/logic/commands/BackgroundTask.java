@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import java.io.IOException;
+
+/**
+ * Work that a command leaves to run in the background after it returns, such
+ * as writing a large file.
+ * <p>
+ * The task runs on another thread while the model keeps changing, so it must
+ * only use data that the command copied from the model, such as a snapshot of
+ * the address book.
+ */
+public interface BackgroundTask {
+
+    /**
+     * Receives the progress of a task.
+     */
+    @FunctionalInterface
+    interface Progress {
+        /**
+         * Reports that {@code done} out of {@code total} steps of the task are done.
+         */
+        void update(long done, long total);
+    }
+
+    /**
+     * Returns a short description of the task, shown with its progress.
+     */
+    String getDescription();
+
+    /**
+     * Runs the task, reporting its progress to {@code progress}.
+     *
+     * @return message to show the user once the task is done
+     * @throws IOException
+     *             if the task was cancelled, in which case it is an
+     *             {@link java.io.InterruptedIOException}, or failed
+     */
+    String run(Progress progress) throws IOException;
+}
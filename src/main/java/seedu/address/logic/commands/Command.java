@@ -20,4 +20,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command can be executed while the address book is still
+     * being loaded, which is only the case for commands that do not use it.
+     */
+    public boolean isAvailableWhileLoading() {
+        return false;
+    }
+
 }
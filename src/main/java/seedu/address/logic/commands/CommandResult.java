@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.NavigationMode;
@@ -25,14 +26,27 @@ public class CommandResult {
     /** Command results in a change in navigation mode. */
     private final NavigationMode resultingMode;
 
+    /** Work to run in the background after the command, or null if there is none. */
+    private final BackgroundTask backgroundTask;
+
+    /** Background tasks that are running or waiting to run should be cancelled. */
+    private final boolean cancelBackgroundTasks;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, NavigationMode resultingMode, boolean showHelp, boolean exit) {
+        this(feedbackToUser, resultingMode, showHelp, exit, null, false);
+    }
+
+    private CommandResult(String feedbackToUser, NavigationMode resultingMode, boolean showHelp, boolean exit,
+                    BackgroundTask backgroundTask, boolean cancelBackgroundTasks) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.resultingMode = resultingMode;
         this.showHelp = showHelp;
         this.exit = exit;
+        this.backgroundTask = backgroundTask;
+        this.cancelBackgroundTasks = cancelBackgroundTasks;
     }
 
     /**
@@ -51,6 +65,24 @@ public class CommandResult {
         this(feedbackToUser, resultingMode, false, false);
     }
 
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}
+     * that starts {@code backgroundTask}, and other fields set to their default
+     * value.
+     */
+    public CommandResult(String feedbackToUser, BackgroundTask backgroundTask) {
+        this(feedbackToUser, DEFAULT_RESULTING_MODE, false, false, requireNonNull(backgroundTask), false);
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}
+     * that cancels background tasks if {@code cancelBackgroundTasks} is true, and
+     * other fields set to their default value.
+     */
+    public CommandResult(String feedbackToUser, boolean cancelBackgroundTasks) {
+        this(feedbackToUser, DEFAULT_RESULTING_MODE, false, false, null, cancelBackgroundTasks);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -67,6 +99,14 @@ public class CommandResult {
         return resultingMode;
     }
 
+    public Optional<BackgroundTask> getBackgroundTask() {
+        return Optional.ofNullable(backgroundTask);
+    }
+
+    public boolean isCancelBackgroundTasks() {
+        return cancelBackgroundTasks;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -81,18 +121,21 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                         && resultingMode == otherCommandResult.resultingMode && showHelp == otherCommandResult.showHelp
-                        && exit == otherCommandResult.exit;
+                        && exit == otherCommandResult.exit
+                        && Objects.equals(backgroundTask, otherCommandResult.backgroundTask)
+                        && cancelBackgroundTasks == otherCommandResult.cancelBackgroundTasks;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, resultingMode, showHelp, exit);
+        return Objects.hash(feedbackToUser, resultingMode, showHelp, exit, backgroundTask, cancelBackgroundTasks);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("feedbackToUser", feedbackToUser).add("resultingMode", resultingMode)
-                        .add("showHelp", showHelp).add("exit", exit).toString();
+                        .add("showHelp", showHelp).add("exit", exit).add("backgroundTask", backgroundTask)
+                        .add("cancelBackgroundTasks", cancelBackgroundTasks).toString();
     }
 
 }
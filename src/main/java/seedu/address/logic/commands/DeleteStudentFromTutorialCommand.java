@@ -63,26 +63,31 @@ public class DeleteStudentFromTutorialCommand extends Command {
         List<Student> lastShownList = model.getFilteredStudentList();
 
         var errMsg = new ArrayList<String>();
-        for (Index index : new LinkedHashSet<>(indices)) {
-            // Check that index is in bounds.
-            if (index.getZeroBased() >= lastShownList.size()) {
-                errMsg.add(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
-                continue;
-            }
-
-            Student studentToEdit = lastShownList.get(index.getZeroBased());
+        model.beginTransaction();
+        try {
+            for (Index index : new LinkedHashSet<>(indices)) {
+                // Check that index is in bounds.
+                if (index.getZeroBased() >= lastShownList.size()) {
+                    errMsg.add(Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+                    continue;
+                }
+
+                Student studentToEdit = lastShownList.get(index.getZeroBased());
+
+                if (!studentToEdit.hasTutorial(tutorial)) {
+                    errMsg.add("'%s' not in '%s'".formatted(studentToEdit.getName(), tutorial));
+                    continue;
+                }
+
+                try {
+                    model.removeStudentFromTutorial(tutorial, studentToEdit);
+                } catch (ItemNotFoundException e) {
+                    errMsg.add(e.getMessage());
+                }
 
-            if (!studentToEdit.hasTutorial(tutorial)) {
-                errMsg.add("'%s' not in '%s'".formatted(studentToEdit.getName(), tutorial));
-                continue;
             }
-
-            try {
-                model.removeStudentFromTutorial(tutorial, studentToEdit);
-            } catch (ItemNotFoundException e) {
-                errMsg.add(e.getMessage());
-            }
-
+        } finally {
+            model.commitTransaction();
         }
 
         if (!errMsg.isEmpty()) {
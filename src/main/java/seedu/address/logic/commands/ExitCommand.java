@@ -19,4 +19,8 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, NavigationMode.UNCHANGED, false, true);
     }
 
+    @Override
+    public boolean isAvailableWhileLoading() {
+        return true;
+    }
 }
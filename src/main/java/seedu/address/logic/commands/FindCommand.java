@@ -8,53 +8,56 @@ import java.util.Objects;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.student.StudentContainsKeywordsPredicate;
 import seedu.address.model.tutorial.StudentContainsTutorialKeywordsPredicate;
 
 /**
- * Finds and lists all students in address book whose name contains any of the
- * argument keywords. Keyword matching is case insensitive.
+ * Finds and lists all students in address book who have any of the argument
+ * keywords as a word of their name, student ID, email, handle or details, or
+ * who are in any of the specified tutorials. Keyword matching is case
+ * insensitive.
+ * <p>
+ * Students are looked up in the indexes of the student list by word and by
+ * tutorial, so only the students found are visited. The filter stays in place,
+ * so students added or edited later are shown if they match.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose names contain any of "
-                    + "the specified keywords (case-insensitive) or who are in the specified tutorial group(s), "
-                    + "and displays them as a list with index numbers.\n" + "Parameters: [" + PREFIX_TUTORIAL_NAME
-                    + "TUTORIAL]...\n" + "Example: " + COMMAND_WORD + " alice bob \n\t\t find " + PREFIX_TUTORIAL_NAME
-                    + "CS2103_T01 ";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all students whose name, student ID, email, "
+                    + "handle or details contain any of the specified keywords (case-insensitive) or who are in the "
+                    + "specified tutorial group(s), and displays them as a list with index numbers.\n"
+                    + "Parameters: [KEYWORD]... [" + PREFIX_TUTORIAL_NAME + "TUTORIAL]...\n" + "Example: "
+                    + COMMAND_WORD + " alice bob \n\t\t find " + PREFIX_TUTORIAL_NAME + "CS2103_T01 ";
 
-    private final NameContainsKeywordsPredicate namePredicate;
+    private final StudentContainsKeywordsPredicate keywordPredicate;
 
     private final StudentContainsTutorialKeywordsPredicate tutorialPredicate;
 
     /**
      * Constructs a {@code FindCommand} with the specified
-     * {@code NameContainsKeywordsPredicate} and
+     * {@code StudentContainsKeywordsPredicate} and
      * {@code StudentContainsTutorialKeywordsPredicate}.
      *
-     * @param namePredicate
-     *            A predicate to filter students based on their name
+     * @param keywordPredicate
+     *            A predicate to filter students based on the words of their
+     *            fields
      * @param tutorialPredicate
      *            A predicate to filter students based on their tutorial
      */
-    public FindCommand(NameContainsKeywordsPredicate namePredicate,
+    public FindCommand(StudentContainsKeywordsPredicate keywordPredicate,
                     StudentContainsTutorialKeywordsPredicate tutorialPredicate) {
-        this.namePredicate = namePredicate;
+        this.keywordPredicate = keywordPredicate;
         this.tutorialPredicate = tutorialPredicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        if (namePredicate != null && tutorialPredicate != null) {
-            model.updateFilteredStudentList(
-                            namePredicate.and(student -> student.getTutorials().stream().anyMatch(tutorialPredicate)));
-        } else if (namePredicate != null) {
-            model.updateFilteredStudentList(namePredicate);
-        } else if (tutorialPredicate != null) {
-            model.updateFilteredStudentsByTutorialList(tutorialPredicate);
+
+        if (keywordPredicate != null || tutorialPredicate != null) {
+            model.findStudents(keywordPredicate != null ? keywordPredicate.getKeywords() : null, tutorialPredicate);
         }
 
         assert model.check();
@@ -74,13 +77,13 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return Objects.equals(namePredicate, otherFindCommand.namePredicate)
+        return Objects.equals(keywordPredicate, otherFindCommand.keywordPredicate)
                         && Objects.equals(tutorialPredicate, otherFindCommand.tutorialPredicate);
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("namePredicate", namePredicate).add("tutorialPredicate", tutorialPredicate)
-                        .toString();
+        return new ToStringBuilder(this).add("keywordPredicate", keywordPredicate)
+                        .add("tutorialPredicate", tutorialPredicate).toString();
     }
 }
@@ -21,4 +21,9 @@ public class HelpCommand extends Command {
         assert model.check();
         return new CommandResult(SHOWING_HELP_MESSAGE, NavigationMode.UNCHANGED, true, false);
     }
+
+    @Override
+    public boolean isAvailableWhileLoading() {
+        return true;
+    }
 }
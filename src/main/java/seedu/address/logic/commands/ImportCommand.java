@@ -0,0 +1,165 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.student.Student;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.UniqueList;
+import seedu.address.storage.csv.CsvAdaptedStudent;
+import seedu.address.storage.csv.CsvListStorage;
+
+/**
+ * Adds the students in a CSV file to the address book, enrolled in the
+ * tutorials listed for them.
+ * <p>
+ * Rows are validated in parallel. Rows that are invalid, or that repeat a
+ * student of the address book or of an earlier row, are skipped and reported.
+ * The other students are added together, so the lists shown are updated, and
+ * the address book is saved, once.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+    public static final String DEFAULT_FILE_NAME = "students.csv";
+
+    public static final String MESSAGE_USAGE = ("%s: Adds the students in a CSV file in the data folder, in the "
+                    + "format written by \"export students\".\n").formatted(COMMAND_WORD)
+                    + "Parameters: [FILE_NAME]\n"
+                    + "Example: %s %s".formatted(COMMAND_WORD, DEFAULT_FILE_NAME);
+
+    public static final String MESSAGE_SUCCESS = "Imported %d students from %s";
+    public static final String MESSAGE_PROBLEMS = "%d problems:";
+    public static final String MESSAGE_MORE_PROBLEMS = "... and %d more, see the log";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File %s not found";
+    public static final String MESSAGE_FILE_NOT_READ = "Could not read %s: %s";
+
+    public static final String MESSAGE_INVALID_ROW = "Line %d: %s";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "Line %d: %s already exists";
+    public static final String MESSAGE_TUTORIAL_NOT_FOUND = "Line %d: tutorial %s does not exist, %s is not "
+                    + "enrolled in it";
+
+    /** Number of problems listed in the result, the rest are only logged */
+    static final int MAX_PROBLEMS_SHOWN = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final String fileName;
+
+    /**
+     * Creates an ImportCommand to add the students in the file named
+     * {@code fileName}, in the folder of the data file.
+     */
+    public ImportCommand(String fileName) {
+        requireNonNull(fileName);
+        this.fileName = fileName;
+    }
+
+    /**
+     * Student decoded from a row, or the reason it could not be
+     */
+    private record Decoded(int line, Student student, String error) {
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Path filePath = model.getAddressBookFilePath().resolveSibling(fileName);
+        List<Map<String, String>> rows;
+        try {
+            rows = new CsvListStorage<CsvAdaptedStudent>(filePath, CsvAdaptedStudent.HEADER)
+                            .readCsvList(CsvAdaptedStudent.REQUIRED_COLUMNS)
+                            .orElseThrow(() -> new CommandException(MESSAGE_FILE_NOT_FOUND.formatted(filePath)));
+        } catch (DataLoadingException e) {
+            throw new CommandException(MESSAGE_FILE_NOT_READ.formatted(filePath, e.getCause().getMessage()));
+        }
+
+        // The header is line 1
+        List<Decoded> decoded = IntStream.range(0, rows.size()).parallel()
+                        .mapToObj(i -> decode(i + 2, rows.get(i))).toList();
+
+        List<String> problems = new ArrayList<>();
+        List<Student> toAdd = new ArrayList<>();
+        UniqueList<Student> seen = new UniqueList<>(List.of(), Student.IDENTITY_KEYS);
+        for (var row : decoded) {
+            if (row.error() != null) {
+                problems.add(MESSAGE_INVALID_ROW.formatted(row.line(), row.error()));
+                continue;
+            }
+
+            Student student = row.student();
+            if (model.hasStudent(student) || seen.containsIdentity(student)) {
+                problems.add(MESSAGE_DUPLICATE_STUDENT.formatted(row.line(), student.getName()));
+                continue;
+            }
+            for (Tutorial tutorial : student.getTutorials()) {
+                if (!model.hasTutorial(tutorial)) {
+                    problems.add(MESSAGE_TUTORIAL_NOT_FOUND.formatted(row.line(), tutorial.name(),
+                                    student.getName()));
+                }
+            }
+            seen.add(student);
+            toAdd.add(student);
+        }
+
+        model.addStudents(toAdd);
+
+        assert model.check();
+        return new CommandResult(formatResult(filePath, toAdd.size(), problems));
+    }
+
+    private static Decoded decode(int line, Map<String, String> row) {
+        try {
+            return new Decoded(line, new CsvAdaptedStudent(row).toModelType(), null);
+        } catch (IllegalValueException e) {
+            return new Decoded(line, null, e.getMessage());
+        }
+    }
+
+    private static String formatResult(Path filePath, int importedCount, List<String> problems) {
+        StringBuilder result = new StringBuilder(MESSAGE_SUCCESS.formatted(importedCount, filePath));
+        if (problems.isEmpty()) {
+            return result.toString();
+        }
+
+        problems.forEach(problem -> logger.info("Import of " + filePath + ": " + problem));
+        result.append("\n").append(MESSAGE_PROBLEMS.formatted(problems.size()));
+        problems.stream().limit(MAX_PROBLEMS_SHOWN).forEach(problem -> result.append("\n").append(problem));
+        if (problems.size() > MAX_PROBLEMS_SHOWN) {
+            result.append("\n").append(MESSAGE_MORE_PROBLEMS.formatted(problems.size() - MAX_PROBLEMS_SHOWN));
+        }
+        return result.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand otherImportCommand)) {
+            return false;
+        }
+
+        return fileName.equals(otherImportCommand.fileName);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("fileName", fileName).toString();
+    }
+}
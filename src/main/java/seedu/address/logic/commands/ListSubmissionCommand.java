@@ -32,13 +32,16 @@ public class ListSubmissionCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        model.updateFilteredSubmissionList(s -> s.assignment().name().toLowerCase()
-                        .startsWith(assignmentName.toLowerCase())
-                        && s.assignment().tutorial().name().toLowerCase().startsWith(tutorialName.toLowerCase())
-                        && s.student().getName().toString().toLowerCase().startsWith(studentName.toLowerCase()));
+        model.updateFilteredSubmissionList(s -> startsWithIgnoreCase(s.assignment().name(), assignmentName)
+                        && startsWithIgnoreCase(s.assignment().tutorial().name(), tutorialName)
+                        && startsWithIgnoreCase(s.student().getName().fullName, studentName));
 
         assert model.check();
         return new CommandResult(MESSAGE_SUCCESS, NavigationMode.SUBMISSION);
     }
 
+    private static boolean startsWithIgnoreCase(String str, String prefix) {
+        return str.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
 }
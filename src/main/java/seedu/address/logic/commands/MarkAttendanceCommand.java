@@ -28,17 +28,14 @@ public class MarkAttendanceCommand extends Command {
 
     public static final String MESSAGE_TUTORIAL_NOT_FOUND = "Tutorial not found";
 
-    public static final String MESSAGE_INVALID_WEEK = "Weeks are from 3 to 13.\nIf you are making up for tutorials, "
-                    + "enter the week that is being accounted for.";
+    public static final String MESSAGE_INVALID_WEEK = "Attendance at index %d is taken from week %d to week %d.\n"
+                    + "If you are making up for tutorials, enter the week that is being accounted for.";
 
     public static final String MESSAGE_ATTENDANCE_NOT_FOUND = "Attendance at index %d is out of bounds\n";
 
     public static final String MESSSAGE_SWITCHED_TO_ATTENDANCE = "Unable to mark attendance "
                     + "due to being in wrong view!\nListing all attendances";
 
-    public static final int START_WEEK = 3;
-    public static final int END_WEEK = 13;
-
     private final int week;
     private final List<Index> indices;
 
@@ -55,9 +52,6 @@ public class MarkAttendanceCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        assert week >= START_WEEK;
-        assert week <= END_WEEK;
-
         List<Attendance> attendances = model.getFilteredAttendanceList();
 
         var errMsg = new StringBuilder();
@@ -67,26 +61,41 @@ public class MarkAttendanceCommand extends Command {
             return new CommandResult(MESSSAGE_SWITCHED_TO_ATTENDANCE, NavigationMode.ATTENDANCE);
         }
 
+        // Each record has its own weeks, which are checked before any record is changed
         for (Index index : indices) {
-            if (index.getZeroBased() >= attendances.size()) {
-                errMsg.append(MESSAGE_ATTENDANCE_NOT_FOUND.formatted(index.getOneBased()));
-                continue;
+            if (index.getZeroBased() < attendances.size()
+                            && !attendances.get(index.getZeroBased()).weeks().contains(week)) {
+                var weeks = attendances.get(index.getZeroBased()).weeks();
+                throw new CommandException(MESSAGE_INVALID_WEEK.formatted(index.getOneBased(), weeks.firstWeek(),
+                                weeks.lastWeek()));
             }
-            Attendance attendanceToEdit = attendances.get(index.getZeroBased());
-            assert model.hasAttendance(attendanceToEdit);
-
-            Student studentToEdit = attendanceToEdit.student();
-            assert model.hasStudent(studentToEdit);
-
-            Tutorial tutorial = attendanceToEdit.tutorial();
-            assert model.hasTutorial(tutorial);
+        }
 
-            try {
-                model.markAttendance(tutorial, week, studentToEdit);
-            } catch (ItemNotFoundException e) {
-                // This should not be possible
-                throw new IllegalStateException(Messages.MESSAGE_UNKNOWN_ERROR);
+        model.beginTransaction();
+        try {
+            for (Index index : indices) {
+                if (index.getZeroBased() >= attendances.size()) {
+                    errMsg.append(MESSAGE_ATTENDANCE_NOT_FOUND.formatted(index.getOneBased()));
+                    continue;
+                }
+                Attendance attendanceToEdit = attendances.get(index.getZeroBased());
+                assert model.hasAttendance(attendanceToEdit);
+
+                Student studentToEdit = attendanceToEdit.student();
+                assert model.hasStudent(studentToEdit);
+
+                Tutorial tutorial = attendanceToEdit.tutorial();
+                assert model.hasTutorial(tutorial);
+
+                try {
+                    model.markAttendance(tutorial, week, studentToEdit);
+                } catch (ItemNotFoundException e) {
+                    // This should not be possible
+                    throw new IllegalStateException(Messages.MESSAGE_UNKNOWN_ERROR);
+                }
             }
+        } finally {
+            model.commitTransaction();
         }
 
         String msg = (errMsg.isEmpty()) ? MESSAGE_SUCCESS : "Warning: %s".formatted(errMsg.toString());
@@ -51,16 +51,21 @@ public class SetSubmissionCommand extends Command {
 
         var result = new ArrayList<String>();
         var hasError = false;
-        for (var studentName : new LinkedHashSet<>(studentList)) {
-            try {
-                model.setSubmissionStatus(tutorialName, assignmentName, studentName, status);
-            } catch (ItemNotFoundException | CommandException e) {
-                result.add(e.getMessage());
-                hasError = true;
-                continue;
+        model.beginTransaction();
+        try {
+            for (var studentName : new LinkedHashSet<>(studentList)) {
+                try {
+                    model.setSubmissionStatus(tutorialName, assignmentName, studentName, status);
+                } catch (ItemNotFoundException | CommandException e) {
+                    result.add(e.getMessage());
+                    hasError = true;
+                    continue;
+                }
+
+                result.add("Successfully set submission status for '%s'".formatted(studentName));
             }
-
-            result.add("Successfully set submission status for '%s'".formatted(studentName));
+        } finally {
+            model.commitTransaction();
         }
 
         assert model.check();
@@ -0,0 +1,139 @@
+package seedu.address.logic.commands.export;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BackgroundTask;
+import seedu.address.storage.csv.CsvListStorage;
+import seedu.address.storage.csv.CsvRecord;
+
+/**
+ * Writes lists of records to CSV files in the background.
+ * <p>
+ * The task is given lists from a snapshot of the model, see
+ * {@link seedu.address.model.ReadOnlyAddressBook#snapshot()}, which later
+ * changes to the model do not affect. The items are only converted to their
+ * CSV-friendly versions while they are written, on the thread running the
+ * task, so the command returns without visiting them.
+ */
+class CsvExportTask implements BackgroundTask {
+
+    private static final Logger logger = LogsCenter.getLogger(CsvExportTask.class);
+
+    private final String description;
+    private final String successMessage;
+    private final List<Part> parts = new ArrayList<>();
+    private Runnable preparation = (
+    ) -> {};
+
+    /**
+     * Records to write to one file, computed when the task runs.
+     */
+    private record Part(Path filePath, Supplier<List<String>> header, Supplier<List<? extends CsvRecord>> records) {
+    }
+
+    CsvExportTask(String description, String successMessage) {
+        this.description = description;
+        this.successMessage = successMessage;
+    }
+
+    /**
+     * Adds the items returned by {@code items} to write to the file at
+     * {@code filePath}, under {@code header}, converting them with
+     * {@code adapter} as they are written. {@code items} is called when the task
+     * runs, and must only return items that do not change.
+     */
+    <S, T extends CsvRecord> CsvExportTask add(Path filePath, List<String> header,
+                    Supplier<? extends List<? extends S>> items, Function<S, T> adapter) {
+        parts.add(new Part(filePath, (
+        ) -> header, (
+        ) -> new AdaptedList<>(items.get(), adapter)));
+        return this;
+    }
+
+    /**
+     * Adds the records returned by {@code records} to write to the file at
+     * {@code filePath}, under the header returned by {@code header}. Both are
+     * called when the task runs, after its preparation.
+     */
+    CsvExportTask add(Path filePath, Supplier<List<String>> header, Supplier<List<? extends CsvRecord>> records) {
+        parts.add(new Part(filePath, header, records));
+        return this;
+    }
+
+    /**
+     * Sets {@code preparation} to run at the start of the task, before any file is
+     * written, such as to compute the records of the files.
+     */
+    CsvExportTask prepareWith(Runnable preparation) {
+        this.preparation = preparation;
+        return this;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String run(Progress progress) throws IOException {
+        preparation.run();
+        List<List<? extends CsvRecord>> records = parts.stream().<List<? extends CsvRecord>>map(
+                        part -> part.records().get()).toList();
+        long total = records.stream().mapToLong(List::size).sum();
+        long done = 0;
+        for (int i = 0; i < parts.size(); i++) {
+            var part = parts.get(i);
+            var partRecords = records.get(i);
+            long start = done;
+            try {
+                new CsvListStorage<CsvRecord>(part.filePath(), part.header().get()).saveCsvList(partRecords, (
+                                rows
+                ) -> progress.update(start + rows, total));
+            } catch (InterruptedIOException | ClosedByInterruptException e) {
+                throw e;
+            } catch (AccessDeniedException e) {
+                logger.info("Access Denied Error (" + part.filePath() + "): " + e.getMessage());
+                return String.format(ExportCommand.FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+            } catch (IOException e) {
+                logger.info("IO Exception (" + part.filePath() + "): " + e.getMessage());
+                return String.format(ExportCommand.FILE_OPS_ERROR_FORMAT, e.getMessage());
+            }
+            done += partRecords.size();
+        }
+        return successMessage;
+    }
+
+    /**
+     * View of a list whose items are converted as they are read.
+     */
+    private static class AdaptedList<S, T> extends AbstractList<T> {
+        private final List<? extends S> items;
+        private final Function<S, T> adapter;
+
+        private AdaptedList(List<? extends S> items, Function<S, T> adapter) {
+            this.items = items;
+            this.adapter = adapter;
+        }
+
+        @Override
+        public T get(int index) {
+            return adapter.apply(items.get(index));
+        }
+
+        @Override
+        public int size() {
+            return items.size();
+        }
+    }
+}
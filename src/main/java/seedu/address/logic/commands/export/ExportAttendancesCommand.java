@@ -0,0 +1,38 @@
+package seedu.address.logic.commands.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.csv.CsvAdaptedAttendance;
+
+/**
+ * Exports the attendance list.
+ */
+public class ExportAttendancesCommand extends Command {
+
+    public static final String COMMAND_WORD = "attendances";
+
+    public static final String MESSAGE_USAGE = "Usage: export attendances";
+
+    public static final String MESSAGE_SUCCESS = "Attendances exported successfully!";
+
+    public static final String ATTENDANCE_CSV_FILE = "attendances.csv";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        Path exportAttendanceFilePath = model.getAddressBookFilePath().resolveSibling(ATTENDANCE_CSV_FILE);
+        ReadOnlyAddressBook snapshot = model.getFilteredSnapshot();
+        var task = new CsvExportTask("Export of attendances", MESSAGE_SUCCESS).add(exportAttendanceFilePath,
+                        CsvAdaptedAttendance.HEADER, snapshot::getAttendanceList, CsvAdaptedAttendance::new);
+
+        return new CommandResult(String.format(ExportCommand.MESSAGE_STARTED, "attendances"), task);
+    }
+
+}
@@ -0,0 +1,23 @@
+package seedu.address.logic.commands.export;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+
+/**
+ * Cancels the exports that are running in the background.
+ */
+public class ExportCancelCommand extends Command {
+
+    public static final String COMMAND_WORD = "cancel";
+
+    public static final String MESSAGE_USAGE = "Usage: export cancel";
+
+    public static final String MESSAGE_SUCCESS = "Cancelling exports in progress, if any.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        return new CommandResult(MESSAGE_SUCCESS, true);
+    }
+
+}
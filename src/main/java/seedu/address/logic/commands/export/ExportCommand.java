@@ -2,16 +2,16 @@ package seedu.address.logic.commands.export;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.IOException;
-import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
-import seedu.address.model.student.Student;
-import seedu.address.model.tutorial.Tutorial;
-import seedu.address.storage.csv.CsvListStorage;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.csv.CsvAdaptedAttendance;
+import seedu.address.storage.csv.CsvAdaptedStudent;
+import seedu.address.storage.csv.CsvAdaptedSubmission;
+import seedu.address.storage.csv.CsvAdaptedTutorial;
 
 /**
  * Exports the address book.
@@ -19,13 +19,18 @@ import seedu.address.storage.csv.CsvListStorage;
 public class ExportCommand extends Command {
 
     public static final String COMMAND_WORD = "export";
-    public static final String MESSAGE_SUCCESS = "Students and tutorials exported successfully!";
+    public static final String MESSAGE_SUCCESS = "Students, tutorials, attendances and submissions exported "
+                    + "successfully!";
+
+    public static final String MESSAGE_STARTED = "Exporting %s in the background. Enter \"export cancel\" to stop.";
 
     public static final String FILE_OPS_ERROR_FORMAT = "Could not export data due to the following error: %s";
 
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT = "Could not export data to file %s due to "
                     + "insufficient permissions to write to the file or the folder.";
 
+    private static final String EXPORTED = "students, tutorials, attendances and submissions";
+
     /**
      * Creates an {@link ExportCommand} to export the specified list
      */
@@ -37,25 +42,23 @@ public class ExportCommand extends Command {
         requireNonNull(model);
 
         Path addressBookFilePath = model.getAddressBookFilePath();
-
-        Path exportStudentFilePath = addressBookFilePath.resolveSibling(ExportStudentsCommand.STUDENT_CSV_FILE);
-        CsvListStorage<Student> exportStudentStorage = new CsvListStorage<Student>(exportStudentFilePath);
-
-        Path exportTutorialFilePath = addressBookFilePath.resolveSibling(ExportTutorialsCommand.TUTORIAL_CSV_FILE);
-        CsvListStorage<Tutorial> exportTutorialStorage = new CsvListStorage<Tutorial>(exportTutorialFilePath);
-
-        try {
-
-            exportStudentStorage.saveCsvList(model.getFilteredStudentList());
-            exportTutorialStorage.saveCsvList(model.getFilteredTutorialList());
-
-        } catch (AccessDeniedException e) {
-            return new CommandResult(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
-        } catch (IOException ioe) {
-            return new CommandResult(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()));
-        }
-
-        return new CommandResult(MESSAGE_SUCCESS);
+        ReadOnlyAddressBook snapshot = model.getFilteredSnapshot();
+
+        var task = new CsvExportTask("Export of " + EXPORTED, MESSAGE_SUCCESS)
+                        .add(addressBookFilePath.resolveSibling(ExportStudentsCommand.STUDENT_CSV_FILE),
+                                        CsvAdaptedStudent.HEADER, snapshot::getStudentList,
+                                        CsvAdaptedStudent::new)
+                        .add(addressBookFilePath.resolveSibling(ExportTutorialsCommand.TUTORIAL_CSV_FILE),
+                                        CsvAdaptedTutorial.HEADER, snapshot::getTutorialList,
+                                        CsvAdaptedTutorial::new)
+                        .add(addressBookFilePath.resolveSibling(ExportAttendancesCommand.ATTENDANCE_CSV_FILE),
+                                        CsvAdaptedAttendance.HEADER, snapshot::getAttendanceList,
+                                        CsvAdaptedAttendance::new)
+                        .add(addressBookFilePath.resolveSibling(ExportSubmissionsCommand.SUBMISSION_CSV_FILE),
+                                        CsvAdaptedSubmission.HEADER, snapshot::getSubmissionList,
+                                        CsvAdaptedSubmission::new);
+
+        return new CommandResult(String.format(MESSAGE_STARTED, EXPORTED), task);
     }
 
 }
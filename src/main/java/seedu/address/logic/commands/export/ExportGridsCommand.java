@@ -0,0 +1,126 @@
+package seedu.address.logic.commands.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.Submission;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.storage.csv.CsvAttendanceGrid;
+import seedu.address.storage.csv.CsvGradebook;
+
+/**
+ * Exports the attendance and submissions of each tutorial as grids, with one
+ * row per student, and one column per week or assignment.
+ * <p>
+ * The grids of all tutorials are filled in the background from a snapshot of
+ * the address book, in one pass over each of the student, attendance and
+ * submission lists, looking up rows and columns by name.
+ */
+public class ExportGridsCommand extends Command {
+
+    public static final String COMMAND_WORD = "grids";
+
+    public static final String MESSAGE_USAGE = "Usage: export grids [TUTORIAL_NAME]";
+
+    public static final String MESSAGE_SUCCESS = "Attendance and submission grids (%s) exported successfully!";
+
+    public static final String ATTENDANCE_GRID_CSV_FILE = "attendance-grid-%s.csv";
+    public static final String GRADEBOOK_CSV_FILE = "gradebook-%s.csv";
+
+    private final Optional<Tutorial> tutorial;
+
+    /**
+     * Creates a {@link ExportGridsCommand} to export the grids of all tutorials
+     */
+    public ExportGridsCommand() {
+        this.tutorial = Optional.empty();
+    }
+
+    /**
+     * Creates a {@link ExportGridsCommand} to export the grids of the specified
+     * {@code Tutorial}
+     */
+    public ExportGridsCommand(Tutorial tutorial) {
+        requireNonNull(tutorial);
+        this.tutorial = Optional.of(tutorial);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook().snapshot();
+        List<Tutorial> tutorials;
+        String message;
+        if (tutorial.isPresent()) {
+            Optional<Tutorial> existing = addressBook.getTutorialList().stream()
+                            .filter(t -> t.hasSameIdentity(tutorial.get())).findFirst();
+            if (existing.isEmpty()) {
+                return new CommandResult(String.format(ExportStudentsCommand.MESSAGE_TUTORIAL_DOES_NOT_EXIST,
+                                tutorial.get().name()));
+            }
+            tutorials = List.of(existing.get());
+            message = String.format(MESSAGE_SUCCESS, tutorial.get().name());
+        } else {
+            tutorials = addressBook.getTutorialList();
+            message = String.format(MESSAGE_SUCCESS, "all tutorials");
+        }
+
+        Map<String, CsvAttendanceGrid> attendanceGrids = new LinkedHashMap<>();
+        Map<String, CsvGradebook> gradebooks = new LinkedHashMap<>();
+        for (Tutorial t : tutorials) {
+            attendanceGrids.put(t.name(), new CsvAttendanceGrid());
+            gradebooks.put(t.name(), new CsvGradebook(t.assignments()));
+        }
+
+        Runnable fillGrids = (
+        ) -> {
+            for (Student student : addressBook.getStudentList()) {
+                for (Tutorial t : student.getTutorials()) {
+                    CsvAttendanceGrid attendanceGrid = attendanceGrids.get(t.name());
+                    if (attendanceGrid != null) {
+                        attendanceGrid.addStudent(student);
+                        gradebooks.get(t.name()).addStudent(student);
+                    }
+                }
+            }
+            for (Attendance attendance : addressBook.getAttendanceList()) {
+                CsvAttendanceGrid attendanceGrid = attendanceGrids.get(attendance.tutorial().name());
+                if (attendanceGrid != null) {
+                    attendanceGrid.addAttendance(attendance);
+                }
+            }
+            for (Submission submission : addressBook.getSubmissionList()) {
+                CsvGradebook gradebook = gradebooks.get(submission.assignment().tutorial().name());
+                if (gradebook != null) {
+                    gradebook.addSubmission(submission);
+                }
+            }
+        };
+
+        Path addressBookFilePath = model.getAddressBookFilePath();
+        var task = new CsvExportTask("Export of grids", message).prepareWith(fillGrids);
+        for (Tutorial t : tutorials) {
+            CsvAttendanceGrid attendanceGrid = attendanceGrids.get(t.name());
+            CsvGradebook gradebook = gradebooks.get(t.name());
+            task.add(addressBookFilePath.resolveSibling(String.format(ATTENDANCE_GRID_CSV_FILE, t.name())),
+                            attendanceGrid::getHeader, attendanceGrid::getRows);
+            task.add(addressBookFilePath.resolveSibling(String.format(GRADEBOOK_CSV_FILE, t.name())),
+                            gradebook::getHeader, gradebook::getRows);
+        }
+
+        return new CommandResult(String.format(ExportCommand.MESSAGE_STARTED, "grids"), task);
+    }
+
+}
@@ -2,22 +2,18 @@ package seedu.address.logic.commands.export;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.IOException;
-import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.logging.Logger;
+import java.util.function.Supplier;
 
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.student.Student;
 import seedu.address.model.tutorial.Tutorial;
-import seedu.address.storage.csv.CsvListStorage;
-import seedu.address.storage.json.JsonAddressBookStorage;
+import seedu.address.storage.csv.CsvAdaptedStudent;
 
 /**
  * Exports student lists.
@@ -34,10 +30,7 @@ public class ExportStudentsCommand extends Command {
     public static final String STUDENT_CSV_FILE = "students.csv";
     public static final String STUDENT_BELONGING_TO_CSV_FILE = "students-%s.csv";
 
-    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
-
     private final Optional<Tutorial> tutorial;
-    private List<Student> toExport;
 
     /**
      * Creates a {@link ExportStudentsCommand} to export all students
@@ -62,38 +55,33 @@ public class ExportStudentsCommand extends Command {
         Path addressBookFilePath = model.getAddressBookFilePath();
 
         Path exportStudentFilePath;
-        List<Student> studentList = new ArrayList<>();
+        Supplier<List<Student>> students;
 
         String message = "";
 
         if (tutorial.isPresent()) {
+            String tutorialName = tutorial.get().name();
             exportStudentFilePath = addressBookFilePath
-                            .resolveSibling(String.format(STUDENT_BELONGING_TO_CSV_FILE, tutorial.get().name()));
-            if (model.hasTutorial(tutorial.get())) {
-                studentList.addAll(model.getStudentsInTutorial(tutorial.get()));
-            } else {
-                return new CommandResult(String.format(MESSAGE_TUTORIAL_DOES_NOT_EXIST, tutorial.get().name()));
+                            .resolveSibling(String.format(STUDENT_BELONGING_TO_CSV_FILE, tutorialName));
+            if (!model.hasTutorial(tutorial.get())) {
+                return new CommandResult(String.format(MESSAGE_TUTORIAL_DOES_NOT_EXIST, tutorialName));
             }
-            message = String.format(MESSAGE_SUCCESS, tutorial.get().name());
+            ReadOnlyAddressBook snapshot = model.getAddressBook().snapshot();
+            students = (
+            ) -> snapshot.getStudentList().stream()
+                            .filter(s -> s.getTutorials().stream().anyMatch(t -> t.name().equals(tutorialName)))
+                            .toList();
+            message = String.format(MESSAGE_SUCCESS, tutorialName);
         } else {
             exportStudentFilePath = addressBookFilePath.resolveSibling(STUDENT_CSV_FILE);
-            studentList.addAll(model.getFilteredStudentList());
+            students = model.getFilteredSnapshot()::getStudentList;
             message = String.format(MESSAGE_SUCCESS, "all tutorials");
         }
 
-        CsvListStorage<Student> exportStudentStorage = new CsvListStorage<Student>(exportStudentFilePath);
-        try {
-            exportStudentStorage.saveCsvList(studentList);
-        } catch (AccessDeniedException e) {
-            logger.info("Access Denied Error (" + exportStudentFilePath + "): " + e.getMessage());
-            return new CommandResult(String.format(ExportCommand.FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
-        } catch (IOException ioe) {
-            logger.info("IO Exception (" + exportStudentFilePath + "): " + ioe.getMessage());
-            return new CommandResult(String.format(ExportCommand.FILE_OPS_ERROR_FORMAT, ioe.getMessage()));
-        }
-
-        return new CommandResult(message);
+        var task = new CsvExportTask("Export of students", message).add(exportStudentFilePath,
+                        CsvAdaptedStudent.HEADER, students, CsvAdaptedStudent::new);
 
+        return new CommandResult(String.format(ExportCommand.MESSAGE_STARTED, "students"), task);
     }
 
 }
@@ -0,0 +1,38 @@
+package seedu.address.logic.commands.export;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.csv.CsvAdaptedSubmission;
+
+/**
+ * Exports the submission list.
+ */
+public class ExportSubmissionsCommand extends Command {
+
+    public static final String COMMAND_WORD = "submissions";
+
+    public static final String MESSAGE_USAGE = "Usage: export submissions";
+
+    public static final String MESSAGE_SUCCESS = "Submissions exported successfully!";
+
+    public static final String SUBMISSION_CSV_FILE = "submissions.csv";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        Path exportSubmissionFilePath = model.getAddressBookFilePath().resolveSibling(SUBMISSION_CSV_FILE);
+        ReadOnlyAddressBook snapshot = model.getFilteredSnapshot();
+        var task = new CsvExportTask("Export of submissions", MESSAGE_SUCCESS).add(exportSubmissionFilePath,
+                        CsvAdaptedSubmission.HEADER, snapshot::getSubmissionList, CsvAdaptedSubmission::new);
+
+        return new CommandResult(String.format(ExportCommand.MESSAGE_STARTED, "submissions"), task);
+    }
+
+}
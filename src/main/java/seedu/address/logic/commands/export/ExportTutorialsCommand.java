@@ -2,16 +2,13 @@ package seedu.address.logic.commands.export;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.IOException;
-import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
-import java.util.List;
 
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.model.Model;
-import seedu.address.model.tutorial.Tutorial;
-import seedu.address.storage.csv.CsvListStorage;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.csv.CsvAdaptedTutorial;
 
 /**
  * Exports the tutorial list.
@@ -26,10 +23,8 @@ public class ExportTutorialsCommand extends Command {
 
     public static final String TUTORIAL_CSV_FILE = "tutorials.csv";
 
-    private List<Tutorial> toExport;
-
     /**
-     * Creates a {@link ExportStudentsCommand} to export all students
+     * Creates a {@link ExportTutorialsCommand} to export all tutorials
      */
     public ExportTutorialsCommand() {
     }
@@ -38,19 +33,12 @@ public class ExportTutorialsCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        Path addressBookFilePath = model.getAddressBookFilePath();
-        Path exportTutorialFilePath = addressBookFilePath.resolveSibling(TUTORIAL_CSV_FILE);
-        CsvListStorage<Tutorial> exportTutorialStorage = new CsvListStorage<Tutorial>(exportTutorialFilePath);
-
-        try {
-            exportTutorialStorage.saveCsvList(model.getFilteredTutorialList());
-        } catch (AccessDeniedException e) {
-            return new CommandResult(String.format(ExportCommand.FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
-        } catch (IOException ioe) {
-            return new CommandResult(String.format(ExportCommand.FILE_OPS_ERROR_FORMAT, ioe.getMessage()));
-        }
+        Path exportTutorialFilePath = model.getAddressBookFilePath().resolveSibling(TUTORIAL_CSV_FILE);
+        ReadOnlyAddressBook snapshot = model.getFilteredSnapshot();
+        var task = new CsvExportTask("Export of tutorials", MESSAGE_SUCCESS).add(exportTutorialFilePath,
+                        CsvAdaptedTutorial.HEADER, snapshot::getTutorialList, CsvAdaptedTutorial::new);
 
-        return new CommandResult(MESSAGE_SUCCESS);
+        return new CommandResult(String.format(ExportCommand.MESSAGE_STARTED, "tutorials"), task);
     }
 
 }
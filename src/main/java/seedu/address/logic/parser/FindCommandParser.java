@@ -9,7 +9,7 @@ import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.student.StudentContainsKeywordsPredicate;
 import seedu.address.model.tutorial.StudentContainsTutorialKeywordsPredicate;
 
 /**
@@ -27,7 +27,7 @@ public class FindCommandParser implements Parser<FindCommand> {
     public FindCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TUTORIAL_NAME);
         String trimmedPreamble = argMultimap.getPreamble().trim();
-        ArrayList<String> nameKeywords = trimmedPreamble.isEmpty()
+        ArrayList<String> keywords = trimmedPreamble.isEmpty()
                         ? new ArrayList<>()
                         : new ArrayList<>(Arrays.asList(trimmedPreamble.split("\\s+")));
 
@@ -38,25 +38,25 @@ public class FindCommandParser implements Parser<FindCommand> {
             String[] parts = tutorial.split("\\s+");
             if (parts.length > 1) {
                 tutorialKeywords.add(parts[0]);
-                nameKeywords.addAll(Arrays.asList(parts).subList(1, parts.length));
+                keywords.addAll(Arrays.asList(parts).subList(1, parts.length));
             } else {
                 tutorialKeywords.add(tutorial);
             }
         }
 
-        if (nameKeywords.isEmpty() && tutorialKeywords.isEmpty()) {
+        if (keywords.isEmpty() && tutorialKeywords.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        NameContainsKeywordsPredicate namePredicate = nameKeywords.isEmpty()
+        StudentContainsKeywordsPredicate keywordPredicate = keywords.isEmpty()
                         ? null
-                        : new NameContainsKeywordsPredicate(nameKeywords);
+                        : new StudentContainsKeywordsPredicate(keywords);
 
         StudentContainsTutorialKeywordsPredicate tutorialPredicate = tutorialKeywords.isEmpty()
                         ? null
                         : new StudentContainsTutorialKeywordsPredicate(tutorialKeywords);
 
-        return new FindCommand(namePredicate, tutorialPredicate);
+        return new FindCommand(keywordPredicate, tutorialPredicate);
     }
 
 }
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the
+     * ImportCommand and returns an ImportCommand object for execution.
+     *
+     * @throws ParseException
+     *             if the user input does not conform the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        String fileName = args.strip();
+        if (fileName.isEmpty()) {
+            return new ImportCommand(ImportCommand.DEFAULT_FILE_NAME);
+        }
+
+        // Only files in the data folder can be imported
+        if (fileName.contains("/") || fileName.contains("\\")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        return new ImportCommand(fileName);
+    }
+
+}
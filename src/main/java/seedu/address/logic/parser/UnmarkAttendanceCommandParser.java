@@ -41,12 +41,9 @@ public class UnmarkAttendanceCommandParser implements Parser<UnmarkAttendanceCom
 
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_WEEK);
 
+        // Whether the week is one of the weeks of each attendance record is checked by the command
         int week = ParserUtil.parseWeek(argMultimap.getValue(PREFIX_WEEK).get()).getOneBased();
 
-        if (week < UnmarkAttendanceCommand.START_WEEK || week > UnmarkAttendanceCommand.END_WEEK) {
-            throw new ParseException(String.format(UnmarkAttendanceCommand.MESSAGE_INVALID_WEEK));
-        }
-
         List<Index> indices = new ArrayList<>();
         for (String index : argMultimap.getAllValues(PREFIX_ATTENDANCE_INDEX)) {
             indices.add(ParserUtil.parseIndex(index));
@@ -7,8 +7,12 @@ import java.util.stream.Collectors;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.export.ExportAttendancesCommand;
+import seedu.address.logic.commands.export.ExportCancelCommand;
 import seedu.address.logic.commands.export.ExportCommand;
+import seedu.address.logic.commands.export.ExportGridsCommand;
 import seedu.address.logic.commands.export.ExportStudentsCommand;
+import seedu.address.logic.commands.export.ExportSubmissionsCommand;
 import seedu.address.logic.commands.export.ExportTutorialsCommand;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -30,7 +34,11 @@ public class ExportCommandParser implements Parser<Command> {
 
         // All Student Lists || List of Students belonging to a Tutorial
         subcmds.put(ExportStudentsCommand.COMMAND_WORD, new ExportStudentsCommandParser());
-        subcmds.put(ExportTutorialsCommand.COMMAND_WORD, null); // temporary
+        subcmds.put(ExportTutorialsCommand.COMMAND_WORD, args -> new ExportTutorialsCommand());
+        subcmds.put(ExportAttendancesCommand.COMMAND_WORD, args -> new ExportAttendancesCommand());
+        subcmds.put(ExportSubmissionsCommand.COMMAND_WORD, args -> new ExportSubmissionsCommand());
+        subcmds.put(ExportGridsCommand.COMMAND_WORD, new ExportGridsCommandParser());
+        subcmds.put(ExportCancelCommand.COMMAND_WORD, args -> new ExportCancelCommand());
 
         usage = """
                         Usage: export COMMAND
@@ -47,11 +55,6 @@ public class ExportCommandParser implements Parser<Command> {
 
         var cmd = arguments.trim().split(" ");
 
-        // All Tutorials Lists
-        if (cmd[0].equals(ExportTutorialsCommand.COMMAND_WORD)) {
-            return new ExportTutorialsCommand();
-        }
-
         var rest = Arrays.stream(cmd).skip(1).collect(Collectors.joining(" "));
 
         if (!subcmds.containsKey(cmd[0])) {
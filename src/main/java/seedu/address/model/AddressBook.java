@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_ASSIGNMENT_NOT_FOUND;
+import static seedu.address.logic.Messages.MESSAGE_ATTENDANCE_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_STUDENT_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_TUTORIAL_NOT_FOUND;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_ERROR;
@@ -10,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -18,6 +20,8 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.WeekRange;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
 import seedu.address.model.submission.Submission;
 import seedu.address.model.submission.SubmissionStatus;
@@ -37,6 +41,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueList<Tutorial> tutorials;
     private final UniqueList<Attendance> attendances;
     private final UniqueList<Submission> submissions;
+    private final IntegrityTracker integrityTracker;
+    private final SnapshotTracker snapshotTracker;
+    private WeekRange weekRange = WeekRange.DEFAULT;
 
     /*
      * The 'unusual' code block below is a non-static initialization block,
@@ -47,10 +54,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      * ways to avoid duplication among constructors.
      */
     {
-        students = new UniqueList<>();
-        tutorials = new UniqueList<>();
-        attendances = new UniqueList<>();
-        submissions = new UniqueList<>();
+        students = new UniqueList<>(List.of(), Student.IDENTITY_KEYS, List.of(Student.BY_TUTORIAL, Student.BY_TOKEN));
+        tutorials = new UniqueList<>(List.of(), Tutorial.IDENTITY_KEYS);
+        attendances = new UniqueList<>(List.of(), Attendance.IDENTITY_KEYS, Attendance.GROUP_KEYS);
+        submissions = new UniqueList<>(List.of(), Submission.IDENTITY_KEYS, Submission.GROUP_KEYS);
+        integrityTracker = new IntegrityTracker(students, tutorials, attendances, submissions);
+        snapshotTracker = new SnapshotTracker(students, tutorials, attendances, submissions);
     }
 
     public AddressBook() {
@@ -91,6 +100,43 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
     }
 
+    /**
+     * Sets the weeks that attendance records created from now on are taken for.
+     * Existing records keep their weeks.
+     */
+    public void setWeekRange(WeekRange weekRange) {
+        this.weekRange = requireNonNull(weekRange);
+    }
+
+    public WeekRange getWeekRange() {
+        return weekRange;
+    }
+
+    //// transactions
+
+    /**
+     * Starts grouping changes to the lists of this address book. Until the
+     * matching {@link #commitTransaction()}, listeners of the lists are not
+     * notified, and each list then publishes a single change. Transactions may be
+     * nested, and are not rolled back on failure.
+     */
+    public void beginTransaction() {
+        students.beginTransaction();
+        tutorials.beginTransaction();
+        attendances.beginTransaction();
+        submissions.beginTransaction();
+    }
+
+    /**
+     * Publishes the changes made since the matching {@link #beginTransaction()}.
+     */
+    public void commitTransaction() {
+        submissions.commitTransaction();
+        attendances.commitTransaction();
+        tutorials.commitTransaction();
+        students.commitTransaction();
+    }
+
     //// student-level operations
 
     /**
@@ -102,6 +148,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return students.containsIdentity(student);
     }
 
+    /**
+     * Returns the student named {@code name}, if any
+     */
+    public Optional<Student> findStudent(Name name) {
+        requireNonNull(name);
+        return students.findByKey(Student.BY_NAME, name);
+    }
+
     /**
      * Adds a student to the address book. The student must not already exist in the
      * address book.
@@ -134,6 +188,32 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     }
 
+    /**
+     * Adds {@code newStudents} to the address book, enrolling each in the
+     * tutorials it lists that exist, with its attendance and a submission for
+     * every assignment of those tutorials. The students must not already exist in
+     * the address book. Listeners of the lists are notified once.
+     */
+    public void addStudents(List<Student> newStudents) {
+        beginTransaction();
+        try {
+            for (var newStudent : newStudents) {
+                addStudent(newStudent);
+                var student = students.find(newStudent).orElseThrow();
+                for (var tutorial : student.getTutorials()) {
+                    for (var assignment : tutorial.assignments()) {
+                        setSubmissionStatus(new Submission(assignment, student, SubmissionStatus.NOT_SUBMITTED));
+                    }
+                }
+            }
+        } catch (ItemNotFoundException | CommandException e) {
+            // The student was just added to tutorials that exist
+            throw new IllegalStateException(e);
+        } finally {
+            commitTransaction();
+        }
+    }
+
     /**
      * Replaces the given student {@code target} in the list with
      * {@code editedstudent}. {@code target} must exist in the address book. The
@@ -154,14 +234,19 @@ public class AddressBook implements ReadOnlyAddressBook {
         target.setDetails(editedstudent.getDetails());
         target.setPhone(editedstudent.getPhone());
 
-        students.set(target, target);
+        beginTransaction();
+        try {
+            students.set(target, target);
 
-        for (var s : target.getSubmissions()) {
-            submissions.set(s, s);
-        }
+            for (var s : target.getSubmissions()) {
+                submissions.set(s, s);
+            }
 
-        for (var a : target.getAttendances()) {
-            attendances.set(a, a);
+            for (var a : target.getAttendances()) {
+                attendances.set(a, a);
+            }
+        } finally {
+            commitTransaction();
         }
     }
 
@@ -174,18 +259,25 @@ public class AddressBook implements ReadOnlyAddressBook {
         // - submissions
         // - attendances
 
-        removeStudentFromAttendances(key);
-        removeStudentFromSubmissions(key);
-        tutorials.forEach(t -> {
-            t.removeStudent(key);
-            try {
-                tutorials.set(t, t);
-            } catch (DuplicateItemException | ItemNotFoundException e) {
-                throw new IllegalStateException(e);
-            }
-        });
+        beginTransaction();
+        try {
+            removeStudentFromAttendances(key);
+            removeStudentFromSubmissions(key);
+            var allocatedTutorials = students.find(key).orElse(key).getTutorials().stream()
+                            .map(t -> tutorials.find(t).orElseThrow()).toList();
+            allocatedTutorials.forEach(t -> {
+                t.removeStudent(key);
+                try {
+                    tutorials.set(t, t);
+                } catch (DuplicateItemException | ItemNotFoundException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
 
-        students.remove(key);
+            students.remove(key);
+        } finally {
+            commitTransaction();
+        }
     }
 
     //// Tutorial operations
@@ -201,61 +293,74 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Deletes a tutorial slot
      */
     public void removeTutorial(Tutorial tutorial) {
-        removeTutorialFromSubmissions(tutorial);
-        removeTutorialFromAttendances(tutorial);
-        students.forEach(s -> {
-            s.removeTutorial(tutorial);
-            try {
-                students.set(s, s);
-            } catch (DuplicateItemException | ItemNotFoundException e) {
-                throw new IllegalStateException(e);
-            }
-        });
+        beginTransaction();
+        try {
+            removeTutorialFromSubmissions(tutorial);
+            removeTutorialFromAttendances(tutorial);
+            getStudentsInTutorial(tutorial).forEach(s -> {
+                s.removeTutorial(tutorial);
+                try {
+                    students.set(s, s);
+                } catch (DuplicateItemException | ItemNotFoundException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
 
-        tutorials.remove(tutorial);
+            tutorials.remove(tutorial);
+        } finally {
+            commitTransaction();
+        }
     }
 
     /**
      * Deletes a tutorial from all students that were allocated to it
      */
     public void removeTutorialFromStudents(Tutorial tutorial) {
-        List<Student> currentList = this.getStudentList();
-
-        for (Student student : currentList) {
-            if (!student.hasTutorial(tutorial)) {
-                continue;
-            }
-            Student editedstudent = student.clone();
-            Set<Tutorial> newTutorials = new HashSet<>(editedstudent.getTutorials());
-            newTutorials.remove(tutorial);
-            editedstudent.setTutorials(newTutorials);
+        beginTransaction();
+        try {
+            for (Student student : getStudentsInTutorial(tutorial)) {
+                Student editedstudent = student.clone();
+                Set<Tutorial> newTutorials = new HashSet<>(editedstudent.getTutorials());
+                newTutorials.remove(tutorial);
+                editedstudent.setTutorials(newTutorials);
 
-            // Assertions
-            // - editedStudent always be unique
-            assert students.contains(student);
+                // Assertions
+                // - editedStudent always be unique
+                assert students.contains(student);
 
-            try {
-                this.setStudent(student, editedstudent);
-            } catch (DuplicateItemException | ItemNotFoundException e) {
-                throw new IllegalStateException(MESSAGE_UNKNOWN_ERROR);
+                try {
+                    this.setStudent(student, editedstudent);
+                } catch (DuplicateItemException | ItemNotFoundException e) {
+                    throw new IllegalStateException(MESSAGE_UNKNOWN_ERROR);
+                }
             }
+        } finally {
+            commitTransaction();
         }
     }
 
     public void removeStudentFromSubmissions(Student stu) {
-        submissions.removeIf(s -> s.student().hasSameIdentity(stu));
+        submissions.removeItems(submissions.findGroup(Submission.BY_STUDENT, resolveName(stu)));
     }
 
     public void removeStudentFromAttendances(Student stu) {
-        attendances.removeIf(a -> a.student().hasSameIdentity(stu));
+        attendances.removeItems(attendances.findGroup(Attendance.BY_STUDENT, resolveName(stu)));
     }
 
     public void removeTutorialFromSubmissions(Tutorial tut) {
-        submissions.removeIf(s -> s.assignment().tutorial().hasSameIdentity(tut));
+        submissions.removeItems(submissions.findGroup(Submission.BY_TUTORIAL, tut.name()));
     }
 
     public void removeTutorialFromAttendances(Tutorial tut) {
-        attendances.removeIf(a -> a.tutorial().hasSameIdentity(tut));
+        attendances.removeItems(attendances.findGroup(Attendance.BY_TUTORIAL, tut.name()));
+    }
+
+    /**
+     * Returns the name of the student in the address book with the same identity
+     * as {@code stu}, which submissions and attendances are grouped by
+     */
+    private Name resolveName(Student stu) {
+        return students.find(stu).orElse(stu).getName();
     }
 
     /**
@@ -293,22 +398,27 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         student.addTutorial(existingTutorial);
 
-        addAttendance(existingTutorial, student);
-        var submissionsToAdd = existingTutorial.assignments().stream()
-                        .map(a -> new Submission(a, student, SubmissionStatus.NOT_SUBMITTED)).toList();
-        submissionsToAdd.stream().forEach(submission -> {
+        beginTransaction();
+        try {
+            addAttendance(existingTutorial, student);
+            var submissionsToAdd = existingTutorial.assignments().stream()
+                            .map(a -> new Submission(a, student, SubmissionStatus.NOT_SUBMITTED)).toList();
+            submissionsToAdd.stream().forEach(submission -> {
+                try {
+                    setSubmissionStatus(submission);
+                } catch (ItemNotFoundException | CommandException e) {
+                    // Tutorial, assignment, and student should exist
+                    throw new IllegalStateException(e);
+                }
+            });
+
             try {
-                setSubmissionStatus(submission);
-            } catch (ItemNotFoundException | CommandException e) {
-                // Tutorial, assignment, and student should exist
+                students.set(student, student);
+            } catch (DuplicateItemException | ItemNotFoundException e) {
                 throw new IllegalStateException(e);
             }
-        });
-
-        try {
-            students.set(student, student);
-        } catch (DuplicateItemException | ItemNotFoundException e) {
-            throw new IllegalStateException(e);
+        } finally {
+            commitTransaction();
         }
     }
 
@@ -322,19 +432,24 @@ public class AddressBook implements ReadOnlyAddressBook {
         var existingTutorial = tutorials.find(tutorial).orElseThrow((
         ) -> new ItemNotFoundException(MESSAGE_TUTORIAL_NOT_FOUND.formatted(tutorial)));
 
-        submissions.removeIf(s -> s.student().hasSameIdentity(student)
-                        && s.assignment().tutorial().hasSameIdentity(tutorial));
-        attendances.removeIf(s -> s.student().hasSameIdentity(student) && s.tutorial().hasSameIdentity(tutorial));
+        beginTransaction();
+        try {
+            submissions.removeItems(submissions.findGroup(Submission.BY_STUDENT, resolveName(student)).stream()
+                            .filter(s -> s.assignment().tutorial().hasSameIdentity(tutorial)).toList());
+            attendances.removeItems(findAttendance(tutorial, student).stream().toList());
 
-        student.removeTutorial(existingTutorial);
-        existingTutorial.assignments().forEach(a -> a.removeStudent(student));
-        existingTutorial.removeStudent(student);
+            student.removeTutorial(existingTutorial);
+            existingTutorial.assignments().forEach(a -> a.removeStudent(student));
+            existingTutorial.removeStudent(student);
 
-        try {
-            students.set(student, student);
-            tutorials.set(existingTutorial, existingTutorial);
-        } catch (DuplicateItemException | ItemNotFoundException e) {
-            throw new IllegalStateException(e);
+            try {
+                students.set(student, student);
+                tutorials.set(existingTutorial, existingTutorial);
+            } catch (DuplicateItemException | ItemNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        } finally {
+            commitTransaction();
         }
     }
 
@@ -353,20 +468,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         var addedAssignment = tut.addAssignment(assignment);
 
         // Handle submissions
-        var studentsAffected = students.stream().filter(s -> s.getTutorials().contains(addedAssignment.tutorial()))
-                        .toList();
-        var newSubmissions = studentsAffected.stream()
+        var newSubmissions = getStudentsInTutorial(addedAssignment.tutorial()).stream()
                         .map(s -> new Submission(addedAssignment, s, SubmissionStatus.NOT_SUBMITTED)).toList();
 
-        for (var s : newSubmissions) {
-            try {
-                setSubmissionStatus(s);
-            } catch (ItemNotFoundException | CommandException e) {
-                throw new IllegalStateException(MESSAGE_UNKNOWN_ERROR);
+        beginTransaction();
+        try {
+            for (var s : newSubmissions) {
+                try {
+                    setSubmissionStatus(s);
+                } catch (ItemNotFoundException | CommandException e) {
+                    throw new IllegalStateException(MESSAGE_UNKNOWN_ERROR);
+                }
             }
-        }
 
-        tutorials.set(tut, tut);
+            tutorials.set(tut, tut);
+        } finally {
+            commitTransaction();
+        }
     }
 
     /**
@@ -384,8 +502,10 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         tut.deleteAssignment(assignment);
-        submissions.removeIf(s -> s.assignment().hasSameIdentity(assignment));
-        students.stream().forEach(s -> s.removeAssignment(assignment));
+        var submissionsRemoved = submissions.findGroup(Submission.BY_ASSIGNMENT,
+                        Submission.assignmentKey(assignment));
+        submissions.removeItems(submissionsRemoved);
+        submissionsRemoved.forEach(s -> s.student().removeAssignment(assignment));
 
         try {
             tutorials.set(tut, tut);
@@ -401,8 +521,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         var assign = tut.findAssignment(new Assignment(assignmentName, tut)).orElseThrow((
         ) -> new ItemNotFoundException(MESSAGE_ASSIGNMENT_NOT_FOUND.formatted(assignmentName, tut)));
 
-        var student = students.stream().filter(s -> s.getName().toString().equals(studentName)).findAny().orElseThrow((
-        ) -> new ItemNotFoundException(MESSAGE_STUDENT_NOT_FOUND.formatted(studentName)));
+        var student = Optional.of(studentName).filter(Name::isValidName).map(Name::new)
+                        .flatMap(this::findStudent).orElseThrow((
+                        ) -> new ItemNotFoundException(MESSAGE_STUDENT_NOT_FOUND.formatted(studentName)));
 
         setSubmissionStatus(new Submission(assign, student, status));
     }
@@ -449,10 +570,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Creates attendance record for a student in specified tutorial
+     * Creates attendance record for a student in specified tutorial, taken for
+     * the {@link #getWeekRange() current weeks}
      */
     public void addAttendance(Tutorial tutorial, Student student) throws ItemNotFoundException {
-        setAttendance(new Attendance(tutorial, student));
+        setAttendance(new Attendance(tutorial, student, weekRange, 0));
     }
 
     private void setIndividualAttendance(Attendance attendance) throws ItemNotFoundException {
@@ -471,13 +593,10 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(tutorial);
         requireNonNull(student);
 
-        for (Attendance attendance : attendances) {
-            if (attendance.tutorial().hasSameIdentity(tutorial) && attendance.student().hasSameIdentity(student)) {
-                attendance.setAttendance(week, isPresent);
-                setIndividualAttendance(attendance);
-                break;
-            }
-        }
+        var attendance = findAttendance(tutorial, student).orElseThrow((
+        ) -> new ItemNotFoundException(MESSAGE_ATTENDANCE_NOT_FOUND.formatted(student.getName(), tutorial)));
+        attendance.setAttendance(week, isPresent);
+        setIndividualAttendance(attendance);
     }
 
     public void setAttendance(Attendance attendance) throws ItemNotFoundException {
@@ -499,7 +618,7 @@ public class AddressBook implements ReadOnlyAddressBook {
             attendances.add(newAttendance);
         } else {
             var existingAttendance = maybeAttendance.orElseThrow();
-            existingAttendance.setAttendances(attendance.attendances());
+            existingAttendance.setAttendances(attendance);
             try {
                 attendances.set(existingAttendance, existingAttendance);
             } catch (DuplicateItemException e) {
@@ -545,26 +664,43 @@ public class AddressBook implements ReadOnlyAddressBook {
         return attendances.containsIdentity(attendance);
     }
 
+    /**
+     * Returns the attendance record of {@code student} in {@code tutorial}. The
+     * attendance list is indexed by (tutorial, student) identity, so this does not
+     * scan the list.
+     */
+    public Optional<Attendance> findAttendance(Tutorial tutorial, Student student) {
+        requireNonNull(tutorial);
+        requireNonNull(student);
+        return attendances.find(new Attendance(tutorial, student));
+    }
+
     /**
      * Creates a submission object for every assignment-student pair (if it doesn't
      * already exists)
      */
     public void populateSubmissions() {
-        for (var student : students) {
-            var assignments = student.getTutorials().stream().flatMap(t -> t.assignments().stream()).toList();
-
-            var submissions = assignments.stream().map(a -> new Submission(a, student, SubmissionStatus.NOT_SUBMITTED))
-                            .collect(Collectors.toCollection(ArrayList::new));
-
-            submissions.removeIf(s -> this.submissions.find(s).isPresent());
-
-            submissions.stream().forEach(s -> {
-                try {
-                    setSubmissionStatus(s);
-                } catch (ItemNotFoundException | CommandException e) {
-                    throw new IllegalStateException(e);
-                }
-            });
+        beginTransaction();
+        try {
+            for (var student : students) {
+                var assignments = student.getTutorials().stream().flatMap(t -> t.assignments().stream()).toList();
+
+                var submissions = assignments.stream()
+                                .map(a -> new Submission(a, student, SubmissionStatus.NOT_SUBMITTED))
+                                .collect(Collectors.toCollection(ArrayList::new));
+
+                submissions.removeIf(s -> this.submissions.find(s).isPresent());
+
+                submissions.stream().forEach(s -> {
+                    try {
+                        setSubmissionStatus(s);
+                    } catch (ItemNotFoundException | CommandException e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+            }
+        } finally {
+            commitTransaction();
         }
     }
 
@@ -595,6 +731,19 @@ public class AddressBook implements ReadOnlyAddressBook {
         return submissions.asUnmodifiableObservableList();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the items changed since the previous snapshot are copied; the copies of
+     * the other items are shared with it. The lists of the snapshot hold the copies
+     * in the order of the lists of this address book, item for item. Must not be
+     * called during a transaction.
+     */
+    @Override
+    public AddressBookSnapshot snapshot() {
+        return snapshotTracker.snapshot();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -629,26 +778,48 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Retrieves the list of students enrolled in a specific tutorial. This method
-     * is a placeholder and should be implemented to return the actual students
-     * enrolled in the given tutorial.
+     * Retrieves the list of students enrolled in a specific tutorial, in list
+     * order.
      *
      * @param tutorial
      *            The tutorial for which the enrolled students are to be retrieved.
      * @return A list of students enrolled in the given tutorial.
      */
-    private List<Student> getStudentsInTutorial(Tutorial tutorial) {
-        return this.getStudentList().stream().filter(student -> student.getTutorials().contains(tutorial))
-                        .collect(Collectors.toList());
+    public List<Student> getStudentsInTutorial(Tutorial tutorial) {
+        requireNonNull(tutorial);
+        return students.findGroup(Student.BY_TUTORIAL, tutorial.name());
+    }
+
+    /**
+     * Returns the students that have {@code word} among their
+     * {@link Student#getSearchTokens() search tokens}, in list order. The tokens
+     * are looked up in the index of the student list, not computed again.
+     */
+    public List<Student> findStudentsWithWord(String word) {
+        requireNonNull(word);
+        return students.findGroup(Student.BY_TOKEN, Student.toSearchToken(word));
     }
 
     /**
-     * Checks whether the address book is valid.
+     * Checks whether the changes made since the last check left the address book
+     * valid. Only the changed items are checked, see {@link #audit()} for a full
+     * check. Changes are only tracked while assertions are enabled, otherwise the
+     * full check is made.
      *
      * @throws IllegalStateException
      *             if the data in the address book is inconsistent
      */
     public boolean check() {
+        return integrityTracker.isTracking() ? integrityTracker.check() : audit();
+    }
+
+    /**
+     * Checks whether the whole address book is valid.
+     *
+     * @throws IllegalStateException
+     *             if the data in the address book is inconsistent
+     */
+    public boolean audit() {
         // Students
         var studentsFromSubmissions = students.stream().flatMap(s -> s.getTutorials().stream()).toList();
         var studentsFromAttendances = submissions.stream().map(s -> s.assignment().tutorial()).toList();
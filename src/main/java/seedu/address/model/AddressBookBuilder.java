@@ -0,0 +1,315 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_ASSIGNMENT_NOT_FOUND;
+import static seedu.address.logic.Messages.MESSAGE_STUDENT_NOT_FOUND;
+import static seedu.address.logic.Messages.MESSAGE_TUTORIAL_NOT_FOUND;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.WeekRange;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.Submission;
+import seedu.address.model.submission.SubmissionStatus;
+import seedu.address.model.tutorial.Assignment;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.CompositeKey;
+import seedu.address.model.uniquelist.IdentityKey;
+import seedu.address.model.uniquelist.UniqueList;
+
+/**
+ * Builds an {@link AddressBook} from records loaded in bulk, such as the
+ * contents of a data file.
+ * <p>
+ * Adding an item one at a time through {@link AddressBook} updates every
+ * relation it takes part in, and notifies the listeners of each list. Instead,
+ * the builder collects all records first, and {@link #build()} resolves the
+ * references between them through hash maps in a single pass, then fills each
+ * list in one step.
+ * <p>
+ * The result is the same as adding the records to an {@code AddressBook} in
+ * the order tutorials, students, assignments, attendances and submissions.
+ * Students get an attendance record for each of their tutorials, and a
+ * submission for each assignment of those tutorials. Records referring to
+ * something that is not in the address book are skipped with a warning.
+ */
+public class AddressBookBuilder {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookBuilder.class);
+
+    private final List<Tutorial> tutorials = new ArrayList<>();
+    private final List<Student> students = new ArrayList<>();
+    private final List<Assignment> assignments = new ArrayList<>();
+    private final List<AttendanceRecord> attendances = new ArrayList<>();
+    private final List<SubmissionRecord> submissions = new ArrayList<>();
+
+    /**
+     * Adds a tutorial. Its assignments and attendances are not copied, they are
+     * added separately.
+     */
+    public AddressBookBuilder addTutorial(Tutorial tutorial) {
+        tutorials.add(requireNonNull(tutorial));
+        return this;
+    }
+
+    /**
+     * Adds a student, allocated to those of its tutorials that are in the address
+     * book. Its attendances and submissions are not copied.
+     */
+    public AddressBookBuilder addStudent(Student student) {
+        students.add(requireNonNull(student));
+        return this;
+    }
+
+    /**
+     * Adds an assignment to the tutorial it refers to.
+     */
+    public AddressBookBuilder addAssignment(Assignment assignment) {
+        requireNonNull(assignment.tutorial());
+        assignments.add(assignment);
+        return this;
+    }
+
+    /**
+     * Sets the attendance of the student named {@code student} in the tutorial
+     * named {@code tutorial}.
+     */
+    public AddressBookBuilder addAttendance(String tutorial, Name student, WeekRange weeks, long presence) {
+        return addAttendance(new AttendanceRecord(tutorial, student, weeks, presence));
+    }
+
+    /**
+     * Adds an attendance that refers to its tutorial and student by name.
+     */
+    public AddressBookBuilder addAttendance(AttendanceRecord attendance) {
+        attendances.add(requireNonNull(attendance));
+        return this;
+    }
+
+    /**
+     * Sets the status of the submission of the student named {@code student} for
+     * the assignment named {@code assignment} of the tutorial named
+     * {@code tutorial}.
+     */
+    public AddressBookBuilder addSubmission(String tutorial, String assignment, Name student,
+                    SubmissionStatus status) {
+        return addSubmission(new SubmissionRecord(tutorial, assignment, student, status));
+    }
+
+    /**
+     * Adds a submission that refers to its tutorial, assignment and student by
+     * name.
+     */
+    public AddressBookBuilder addSubmission(SubmissionRecord submission) {
+        submissions.add(requireNonNull(submission));
+        return this;
+    }
+
+    /**
+     * Returns an address book holding the records added so far.
+     */
+    public AddressBook build() {
+        Map<String, Tutorial> tutorialsByName = new LinkedHashMap<>();
+        for (var tutorial : tutorials) {
+            tutorialsByName.putIfAbsent(tutorial.name(), new Tutorial(tutorial.name()));
+        }
+
+        var uniqueStudents = new UniqueList<Student>(List.of(), Student.IDENTITY_KEYS);
+        Map<String, List<Student>> studentsByTutorial = new HashMap<>();
+        for (var source : students) {
+            Set<Tutorial> studentTutorials = source.getTutorials().stream().map(t -> tutorialsByName.get(t.name()))
+                            .filter(Objects::nonNull).collect(Collectors.toCollection(HashSet::new));
+            var student = new Student(source.getName(), source.getStudentId(), source.getPhone(), source.getEmail(),
+                            source.getHandle(), studentTutorials, source.getDetails());
+            if (!uniqueStudents.add(student)) {
+                logger.warning("Skipping duplicate student %s".formatted(student.getName()));
+                continue;
+            }
+            studentTutorials.forEach(t -> studentsByTutorial.computeIfAbsent(t.name(), k -> new ArrayList<>())
+                            .add(student));
+        }
+
+        Map<Object, Assignment> assignmentsByKey = new LinkedHashMap<>();
+        for (var source : assignments) {
+            var tutorial = tutorialsByName.get(source.tutorial().name());
+            if (tutorial == null) {
+                logger.warning("Failed to add assignment %s: %s".formatted(source,
+                                MESSAGE_TUTORIAL_NOT_FOUND.formatted(source.tutorial())));
+                continue;
+            }
+
+            var assignment = new Assignment(source.name(), source.dueDate(), tutorial);
+            if (assignmentsByKey.putIfAbsent(Submission.assignmentKey(assignment), assignment) != null) {
+                logger.warning("Skipping duplicate assignment %s in %s".formatted(assignment, tutorial));
+            }
+        }
+
+        var attendancesByKey = buildAttendances(uniqueStudents, tutorialsByName);
+        var submissionsByKey = buildSubmissions(uniqueStudents, tutorialsByName, assignmentsByKey,
+                        studentsByTutorial);
+
+        link(tutorialsByName.values(), assignmentsByKey.values(), attendancesByKey.values(),
+                        submissionsByKey.values());
+        return new AddressBook(new AddressBookSnapshot(uniqueStudents, List.copyOf(tutorialsByName.values()),
+                        List.copyOf(attendancesByKey.values()), List.copyOf(submissionsByKey.values())));
+    }
+
+    /**
+     * Returns the attendance records by tutorial and student name, with a blank
+     * record for every tutorial of every student, overwritten by the attendances
+     * added.
+     */
+    private Map<Object, Attendance> buildAttendances(UniqueList<Student> uniqueStudents,
+                    Map<String, Tutorial> tutorialsByName) {
+        Map<Object, Attendance> attendancesByKey = new LinkedHashMap<>();
+        for (var student : uniqueStudents) {
+            for (var tutorial : student.getTutorials()) {
+                attendancesByKey.put(CompositeKey.of(tutorial.name(), student.getName()),
+                                new Attendance(tutorial, student));
+            }
+        }
+
+        for (var record : attendances) {
+            var tutorial = tutorialsByName.get(record.tutorial());
+            var student = uniqueStudents.findByKey(Student.BY_NAME, record.student());
+            if (tutorial == null || student.isEmpty()) {
+                logger.warning("Failed to add attendance: %s".formatted(tutorial == null
+                                ? MESSAGE_TUTORIAL_NOT_FOUND.formatted(record.tutorial())
+                                : MESSAGE_STUDENT_NOT_FOUND.formatted(record.student())));
+                continue;
+            }
+
+            var attendance = new Attendance(tutorial, student.get(), record.weeks(), record.presence());
+            var existing = attendancesByKey.putIfAbsent(CompositeKey.of(tutorial.name(), record.student()),
+                            attendance);
+            if (existing != null) {
+                existing.setAttendances(attendance);
+            }
+        }
+        return attendancesByKey;
+    }
+
+    /**
+     * Returns the submissions by tutorial, assignment and student name, with a
+     * submission that is not submitted for every assignment of every student,
+     * overwritten by the submissions added.
+     */
+    private Map<Object, Submission> buildSubmissions(UniqueList<Student> uniqueStudents,
+                    Map<String, Tutorial> tutorialsByName, Map<Object, Assignment> assignmentsByKey,
+                    Map<String, List<Student>> studentsByTutorial) {
+        Map<Object, Submission> submissionsByKey = new LinkedHashMap<>();
+        for (var assignment : assignmentsByKey.values()) {
+            for (var student : studentsByTutorial.getOrDefault(assignment.tutorial().name(), List.of())) {
+                submissionsByKey.put(CompositeKey.of(Submission.assignmentKey(assignment), student.getName()),
+                                new Submission(assignment, student, SubmissionStatus.NOT_SUBMITTED));
+            }
+        }
+
+        for (var record : submissions) {
+            String error = null;
+            var assignmentKey = CompositeKey.of(record.assignment(), record.tutorial());
+            var student = uniqueStudents.findByKey(Student.BY_NAME, record.student());
+            if (!tutorialsByName.containsKey(record.tutorial())) {
+                error = MESSAGE_TUTORIAL_NOT_FOUND.formatted(record.tutorial());
+            } else if (!assignmentsByKey.containsKey(assignmentKey)) {
+                error = MESSAGE_ASSIGNMENT_NOT_FOUND.formatted(record.assignment(), record.tutorial());
+            } else if (student.isEmpty()) {
+                error = MESSAGE_STUDENT_NOT_FOUND.formatted(record.student());
+            }
+
+            var submission = submissionsByKey.get(CompositeKey.of(assignmentKey, record.student()));
+            if (error == null && submission == null) {
+                error = "'%s' not in '%s'".formatted(record.student(), record.tutorial());
+            }
+            if (error != null) {
+                logger.warning("Failed to add submission %s: %s".formatted(record, error));
+                continue;
+            }
+
+            submission.setStatus(record.status());
+        }
+        return submissionsByKey;
+    }
+
+    /**
+     * Adds every attendance and submission to the tutorial, assignment and student
+     * it belongs to. Each of them is already unique, so the lists of tutorials and
+     * assignments are filled in one step.
+     */
+    private static void link(Iterable<Tutorial> tutorials, Iterable<Assignment> assignments,
+                    Iterable<Attendance> attendances, Iterable<Submission> submissions) {
+        Map<String, List<Attendance>> attendancesByTutorial = new HashMap<>();
+        for (var attendance : attendances) {
+            attendance.student().addAttendance(attendance);
+            attendancesByTutorial.computeIfAbsent(attendance.tutorial().name(), k -> new ArrayList<>())
+                            .add(attendance);
+        }
+        for (var tutorial : tutorials) {
+            tutorial.attendances().setAll(new UniqueList<>(
+                            attendancesByTutorial.getOrDefault(tutorial.name(), List.of()), Attendance.IDENTITY_KEYS));
+        }
+
+        Map<Object, List<Submission>> submissionsByAssignment = new HashMap<>();
+        for (var submission : submissions) {
+            submission.student().addSubmission(submission);
+            submissionsByAssignment.computeIfAbsent(Submission.assignmentKey(submission.assignment()),
+                            k -> new ArrayList<>()).add(submission);
+        }
+
+        Map<String, List<Assignment>> assignmentsByTutorial = new HashMap<>();
+        for (var assignment : assignments) {
+            assignment.submissions().setAll(new UniqueList<>(submissionsByAssignment
+                            .getOrDefault(Submission.assignmentKey(assignment), List.of()), Submission.IDENTITY_KEYS));
+            assignmentsByTutorial.computeIfAbsent(assignment.tutorial().name(), k -> new ArrayList<>())
+                            .add(assignment);
+        }
+        for (var tutorial : tutorials) {
+            tutorial.assignments().setAll(new UniqueList<>(assignmentsByTutorial.getOrDefault(tutorial.name(),
+                            List.of()), List.<IdentityKey<Assignment>>of(Submission::assignmentKey)));
+        }
+    }
+
+    /**
+     * An attendance of the student named {@code student} in the tutorial named
+     * {@code tutorial}, resolved when the address book is built.
+     */
+    public record AttendanceRecord(String tutorial, Name student, WeekRange weeks, long presence) {
+        /**
+         * Constructs an {@code AttendanceRecord}, all fields must be present.
+         */
+        public AttendanceRecord {
+            requireNonNull(tutorial);
+            requireNonNull(student);
+            requireNonNull(weeks);
+        }
+    }
+
+    /**
+     * A submission of the student named {@code student} for the assignment named
+     * {@code assignment} of the tutorial named {@code tutorial}, resolved when the
+     * address book is built.
+     */
+    public record SubmissionRecord(String tutorial, String assignment, Name student, SubmissionStatus status) {
+        /**
+         * Constructs a {@code SubmissionRecord}, all fields must be present.
+         */
+        public SubmissionRecord {
+            requireNonNull(tutorial);
+            requireNonNull(assignment);
+            requireNonNull(student);
+            requireNonNull(status);
+        }
+    }
+}
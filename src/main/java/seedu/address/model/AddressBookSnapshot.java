@@ -0,0 +1,179 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.Submission;
+import seedu.address.model.tutorial.Assignment;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.IdentityKey;
+import seedu.address.model.uniquelist.UniqueList;
+
+/**
+ * Address book frozen at a point in time, see {@link ReadOnlyAddressBook#snapshot()}
+ * <p>
+ * The lists of a snapshot never change. A snapshot taken with
+ * {@link #copyOf(ReadOnlyAddressBook)}, or from an {@link AddressBook}, also
+ * holds its own copies of the students, tutorials, assignments and records,
+ * which the address book does not change, so it can be read from any thread
+ * while the address book it was taken from keeps changing.
+ * <p>
+ * A snapshot taken from an {@link AddressBook} also has the {@link #changes()}
+ * made since the previous snapshot of the address book, null for other
+ * snapshots.
+ */
+public record AddressBookSnapshot(List<Student> students, List<Tutorial> tutorials, List<Attendance> attendances,
+                List<Submission> submissions, SnapshotChanges changes) implements ReadOnlyAddressBook {
+
+    /**
+     * Creates a snapshot of the given lists, copying any list that is not already
+     * immutable. The items of the lists are not copied.
+     */
+    public AddressBookSnapshot {
+        students = List.copyOf(students);
+        tutorials = List.copyOf(tutorials);
+        attendances = List.copyOf(attendances);
+        submissions = List.copyOf(submissions);
+    }
+
+    /**
+     * Creates a snapshot of the given lists, without changes.
+     */
+    public AddressBookSnapshot(List<Student> students, List<Tutorial> tutorials, List<Attendance> attendances,
+                    List<Submission> submissions) {
+        this(students, tutorials, attendances, submissions, null);
+    }
+
+    /**
+     * Returns a snapshot holding a copy of every item of {@code source}. The copies
+     * refer to each other the way the items of {@code source} do, except that
+     * students and tutorials do not list their attendances and submissions, which
+     * are only in the lists of the snapshot. Records referring to something that
+     * is not in {@code source} are left out.
+     */
+    public static AddressBookSnapshot copyOf(ReadOnlyAddressBook source) {
+        Map<String, Tutorial> tutorialsByName = new HashMap<>();
+        Map<Object, Assignment> assignmentsByKey = new HashMap<>();
+        List<Tutorial> tutorials = new ArrayList<>();
+        for (var original : source.getTutorialList()) {
+            var tutorial = copyTutorial(original);
+            tutorialsByName.put(tutorial.name(), tutorial);
+            tutorial.assignments().forEach(a -> assignmentsByKey.put(Submission.assignmentKey(a), a));
+            tutorials.add(tutorial);
+        }
+
+        Map<Name, Student> studentsByName = new HashMap<>();
+        List<Student> students = new ArrayList<>();
+        for (var original : source.getStudentList()) {
+            var student = copyStudent(original, tutorialsByName);
+            studentsByName.put(student.getName(), student);
+            students.add(student);
+        }
+
+        List<Attendance> attendances = source.getAttendanceList().stream()
+                        .map(a -> copyAttendance(a, t -> tutorialsByName.get(t.name()),
+                                        s -> studentsByName.get(s.getName())))
+                        .filter(Objects::nonNull)
+                        .toList();
+        List<Submission> submissions = source.getSubmissionList().stream()
+                        .map(s -> copySubmission(s, a -> assignmentsByKey.get(Submission.assignmentKey(a)),
+                                        st -> studentsByName.get(st.getName())))
+                        .filter(Objects::nonNull)
+                        .toList();
+
+        return new AddressBookSnapshot(students, tutorials, attendances, submissions);
+    }
+
+    /**
+     * Returns a copy of {@code original} with copies of its assignments, and no
+     * attendances
+     */
+    static Tutorial copyTutorial(Tutorial original) {
+        var tutorial = new Tutorial(original.name());
+        List<Assignment> assignments = new ArrayList<>();
+        for (var assignment : original.assignments()) {
+            assignments.add(new Assignment(assignment.name(), assignment.dueDate(), tutorial));
+        }
+        tutorial.assignments().setAll(new UniqueList<>(assignments,
+                        List.<IdentityKey<Assignment>>of(Submission::assignmentKey)));
+        return tutorial;
+    }
+
+    /**
+     * Returns a copy of {@code original} in the copies of its tutorials found in
+     * {@code tutorialsByName}, without attendances or submissions
+     */
+    static Student copyStudent(Student original, Map<String, Tutorial> tutorialsByName) {
+        Set<Tutorial> tutorials = original.getTutorials().stream().map(t -> tutorialsByName.get(t.name()))
+                        .filter(Objects::nonNull).collect(Collectors.toCollection(HashSet::new));
+        return new Student(original.getName(), original.getStudentId(), original.getPhone(), original.getEmail(),
+                        original.getHandle(), tutorials, original.getDetails());
+    }
+
+    /**
+     * Returns a copy of {@code original} referring to the copies of its tutorial
+     * and student returned by {@code tutorialCopies} and {@code studentCopies},
+     * or null if either returns null
+     */
+    static Attendance copyAttendance(Attendance original, Function<Tutorial, Tutorial> tutorialCopies,
+                    Function<Student, Student> studentCopies) {
+        var tutorial = tutorialCopies.apply(original.tutorial());
+        var student = studentCopies.apply(original.student());
+        return tutorial != null && student != null
+                        ? new Attendance(tutorial, student, original.weeks(), original.presence())
+                        : null;
+    }
+
+    /**
+     * Returns a copy of {@code original} referring to the copies of its assignment
+     * and student returned by {@code assignmentCopies} and {@code studentCopies},
+     * or null if either returns null
+     */
+    static Submission copySubmission(Submission original, Function<Assignment, Assignment> assignmentCopies,
+                    Function<Student, Student> studentCopies) {
+        var assignment = assignmentCopies.apply(original.assignment());
+        var student = studentCopies.apply(original.student());
+        return assignment != null && student != null ? new Submission(assignment, student, original.status()) : null;
+    }
+
+    @Override
+    public ObservableList<Student> getStudentList() {
+        return view(students);
+    }
+
+    @Override
+    public ObservableList<Tutorial> getTutorialList() {
+        return view(tutorials);
+    }
+
+    @Override
+    public ObservableList<Attendance> getAttendanceList() {
+        return view(attendances);
+    }
+
+    @Override
+    public ObservableList<Submission> getSubmissionList() {
+        return view(submissions);
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return this;
+    }
+
+    private static <T> ObservableList<T> view(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(list));
+    }
+}
@@ -0,0 +1,261 @@
+package seedu.address.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.Submission;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.Identifiable;
+import seedu.address.model.uniquelist.UniqueList;
+
+/**
+ * Incrementally checks the referential integrity of an {@link AddressBook}.
+ * <p>
+ * The tracker listens to the lists of the address book, and records every item
+ * added, replaced or removed since the last {@link #check()}. A check only
+ * looks at those items and their direct references, instead of rebuilding every
+ * relation in the address book. The number of records referring to each
+ * tutorial is counted as the lists change, so removing a tutorial that is still
+ * in use is caught without a scan.
+ * <p>
+ * Checks are only made in assertions, so the lists are only tracked when
+ * assertions are enabled. Otherwise the changes would pile up, and keep
+ * removed items alive, as nothing drains them.
+ */
+class IntegrityTracker {
+
+    private final UniqueList<Student> students;
+    private final UniqueList<Tutorial> tutorials;
+    private final UniqueList<Attendance> attendances;
+    private final UniqueList<Submission> submissions;
+
+    private final Delta<Student> studentDelta = new Delta<>();
+    private final Delta<Tutorial> tutorialDelta = new Delta<>();
+    private final Delta<Attendance> attendanceDelta = new Delta<>();
+    private final Delta<Submission> submissionDelta = new Delta<>();
+
+    /** Number of students, attendances and submissions referring to each tutorial name */
+    private final Map<String, Integer> tutorialReferences = new HashMap<>();
+    /** Tutorial names each tracked record referred to when it was last counted */
+    private final Map<Object, List<String>> countedReferences = new IdentityHashMap<>();
+    private final boolean isTracking;
+
+    /**
+     * Starts tracking the given lists if assertions are enabled. The lists are
+     * expected to be empty.
+     */
+    IntegrityTracker(UniqueList<Student> students, UniqueList<Tutorial> tutorials,
+                    UniqueList<Attendance> attendances, UniqueList<Submission> submissions) {
+        this(students, tutorials, attendances, submissions, IntegrityTracker.class.desiredAssertionStatus());
+    }
+
+    /**
+     * Creates a tracker of the given lists, which only tracks them if
+     * {@code isTracking} is true. The lists are expected to be empty.
+     */
+    IntegrityTracker(UniqueList<Student> students, UniqueList<Tutorial> tutorials,
+                    UniqueList<Attendance> attendances, UniqueList<Submission> submissions, boolean isTracking) {
+        this.students = students;
+        this.tutorials = tutorials;
+        this.attendances = attendances;
+        this.submissions = submissions;
+        this.isTracking = isTracking;
+
+        if (!isTracking) {
+            return;
+        }
+
+        track(students, studentDelta, s -> s.getTutorials().stream().map(Tutorial::name).toList());
+        track(tutorials, tutorialDelta, t -> List.of());
+        track(attendances, attendanceDelta, a -> List.of(a.tutorial().name()));
+        track(submissions, submissionDelta, s -> List.of(s.assignment().tutorial().name()));
+    }
+
+    /**
+     * Returns true if the lists are tracked, so that {@link #check()} can be used
+     */
+    boolean isTracking() {
+        return isTracking;
+    }
+
+    /**
+     * Checks the items changed since the last check. Must only be called while
+     * {@link #isTracking() tracking}.
+     *
+     * @throws IllegalStateException
+     *             if a change left the address book inconsistent
+     */
+    boolean check() {
+        assert isTracking;
+        var changedStudents = studentDelta.drain();
+        var changedTutorials = tutorialDelta.drain();
+        var changedAttendances = attendanceDelta.drain();
+        var changedSubmissions = submissionDelta.drain();
+
+        for (var t : changedTutorials.absent(tutorials)) {
+            if (tutorialReferences.containsKey(t.name()) && tutorials.find(t).isEmpty()) {
+                throw new IllegalStateException("Tutorials are inconsistent");
+            }
+        }
+
+        changedStudents.present(students).forEach(this::checkStudent);
+        changedTutorials.present(tutorials).forEach(this::checkTutorial);
+        changedAttendances.present(attendances).forEach(this::checkAttendance);
+        changedSubmissions.present(submissions).forEach(this::checkSubmission);
+        changedAttendances.absent(attendances).forEach(this::checkRemovedAttendance);
+        changedSubmissions.absent(submissions).forEach(this::checkRemovedSubmission);
+
+        return true;
+    }
+
+    private void checkStudent(Student s) {
+        for (var t : s.getTutorials()) {
+            if (tutorials.find(t).isEmpty()) {
+                throw new IllegalStateException("%s is not linked to %s".formatted(s, t));
+            }
+        }
+
+        if (!(s.getSubmissions().stream().allMatch(submissions::containsItem)
+                        && s.getAttendances().stream().allMatch(attendances::containsItem))) {
+            throw new IllegalStateException("Students are inconsistent");
+        }
+    }
+
+    private void checkTutorial(Tutorial t) {
+        for (var a : t.assignments()) {
+            if (!a.tutorial().hasSameIdentity(t)) {
+                throw new IllegalStateException("%s is not mapped to %s".formatted(a, t));
+            }
+            for (var s : a.submissions()) {
+                if (!s.assignment().hasSameIdentity(a)) {
+                    throw new IllegalStateException("%s is not mapped to %s".formatted(s, a));
+                }
+                if (!submissions.containsItem(s)) {
+                    throw new IllegalStateException("Submissions are inconsistent");
+                }
+            }
+        }
+
+        if (!t.attendances().stream().allMatch(attendances::containsItem)) {
+            throw new IllegalStateException("Attendances are inconsistent");
+        }
+    }
+
+    private void checkAttendance(Attendance a) {
+        var tutorial = tutorials.find(a.tutorial())
+                        .orElseThrow(() -> new IllegalStateException("Tutorials are inconsistent"));
+
+        if (!(students.containsItem(a.student()) && a.student().getAttendances().contains(a)
+                        && tutorial.attendances().contains(a))) {
+            throw new IllegalStateException("Attendances are inconsistent");
+        }
+    }
+
+    private void checkSubmission(Submission s) {
+        var tutorial = tutorials.find(s.assignment().tutorial())
+                        .orElseThrow(() -> new IllegalStateException("Tutorials are inconsistent"));
+        var assignment = tutorial.findAssignment(s.assignment())
+                        .orElseThrow(() -> new IllegalStateException("Assignments are inconsistent"));
+
+        if (!(students.containsItem(s.student()) && s.student().getSubmissions().contains(s)
+                        && assignment.submissions().contains(s))) {
+            throw new IllegalStateException("Submissions are inconsistent");
+        }
+    }
+
+    private void checkRemovedAttendance(Attendance a) {
+        var isReferenced = students.containsItem(a.student()) && a.student().getAttendances().contains(a)
+                        || tutorials.find(a.tutorial()).map(t -> t.attendances().contains(a)).orElse(false);
+
+        if (isReferenced) {
+            throw new IllegalStateException("Attendances are inconsistent");
+        }
+    }
+
+    private void checkRemovedSubmission(Submission s) {
+        var isReferenced = students.containsItem(s.student()) && s.student().getSubmissions().contains(s)
+                        || tutorials.find(s.assignment().tutorial()).flatMap(t -> t.findAssignment(s.assignment()))
+                                        .map(a -> a.submissions().contains(s)).orElse(false);
+
+        if (isReferenced) {
+            throw new IllegalStateException("Submissions are inconsistent");
+        }
+    }
+
+    private <T extends Identifiable<T>> void track(UniqueList<T> list, Delta<T> delta,
+                    Function<T, List<String>> referencedTutorials) {
+        list.asUnmodifiableObservableList().addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                for (var item : change.getRemoved()) {
+                    delta.removed.add(item);
+                    uncount(item);
+                }
+                for (var item : change.getAddedSubList()) {
+                    delta.changed.add(item);
+                    count(item, referencedTutorials.apply(item));
+                }
+            }
+        });
+    }
+
+    private void count(Object item, List<String> tutorialNames) {
+        uncount(item);
+        countedReferences.put(item, tutorialNames);
+        tutorialNames.forEach(name -> tutorialReferences.merge(name, 1, Integer::sum));
+    }
+
+    private void uncount(Object item) {
+        var tutorialNames = countedReferences.remove(item);
+        if (tutorialNames == null) {
+            return;
+        }
+
+        tutorialNames.forEach(name -> tutorialReferences.computeIfPresent(name, (k, n) -> n > 1 ? n - 1 : null));
+    }
+
+    /**
+     * Items of one list that changed since the last check, compared by reference
+     */
+    private static class Delta<T extends Identifiable<T>> {
+        private Set<T> changed = newIdentitySet();
+        private Set<T> removed = newIdentitySet();
+
+        private static <E> Set<E> newIdentitySet() {
+            return Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+
+        /**
+         * Returns the pending changes and starts recording a new batch
+         */
+        private Delta<T> drain() {
+            var pending = new Delta<T>();
+            pending.changed = changed;
+            pending.removed = removed;
+            changed = newIdentitySet();
+            removed = newIdentitySet();
+            return pending;
+        }
+
+        /**
+         * Returns the changed items that are still in {@code list}
+         */
+        private List<T> present(UniqueList<T> list) {
+            return changed.stream().filter(list::containsItem).toList();
+        }
+
+        /**
+         * Returns the removed items that are no longer in {@code list}
+         */
+        private List<T> absent(UniqueList<T> list) {
+            return removed.stream().filter(item -> !list.containsItem(item)).toList();
+        }
+    }
+}
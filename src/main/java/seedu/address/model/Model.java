@@ -79,6 +79,25 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a snapshot of the address book whose lists only hold the items shown
+     * in the filtered lists, in the same order, see
+     * {@link ReadOnlyAddressBook#snapshot()}.
+     */
+    ReadOnlyAddressBook getFilteredSnapshot();
+
+    /**
+     * Returns true if the address book has changed since it was last marked as
+     * unmodified.
+     */
+    boolean isAddressBookModified();
+
+    /**
+     * Marks the address book as modified or unmodified, e.g. after it has been
+     * saved.
+     */
+    void setAddressBookModified(boolean isModified);
+
     /**
      * Returns true if a student with the same identity as {@code student} exists in
      * the address book.
@@ -106,6 +125,13 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds the given students, enrolling each in the tutorials it lists that
+     * exist, with a single update of the lists shown. The students must not
+     * already exist in the address book.
+     */
+    void addStudents(List<Student> students);
+
     /**
      * Replaces the given student {@code target} with {@code editedStudent}.
      * {@code target} must exist in the address book. The student identity of
@@ -256,6 +282,17 @@ public interface Model {
      */
     List<Student> getStudentsInTutorial(Tutorial tutorial);
 
+    /**
+     * Updates the filter of the filtered student list to the students who have any
+     * of {@code keywords} as a word of their name, student ID, email, handle or
+     * details, ignoring case, and who are in a tutorial matching
+     * {@code tutorialPredicate}. A null {@code keywords} or
+     * {@code tutorialPredicate} does not filter the students. The students are
+     * looked up in indexes rather than tested one by one, and found again when the
+     * student list changes.
+     */
+    void findStudents(List<String> keywords, Predicate<Tutorial> tutorialPredicate);
+
     /**
      * Updates the filter of the filtered tutorial list to filter by the given
      * {@code predicate} for tutorial group(s), along with retrieving students in
@@ -268,6 +305,25 @@ public interface Model {
 
     boolean check();
 
+    /**
+     * Starts grouping changes to the address book, so that each of its lists
+     * publishes a single change when {@link #commitTransaction()} is called.
+     */
+    void beginTransaction();
+
+    /**
+     * Publishes the changes made since the matching {@link #beginTransaction()}.
+     */
+    void commitTransaction();
+
+    /**
+     * Checks the whole address book for consistency.
+     *
+     * @throws IllegalStateException
+     *             if the data in the address book is inconsistent
+     */
+    boolean audit();
+
     void addStudentToTutorial(Tutorial tutorial, Student student) throws ItemNotFoundException;
 
     void removeStudentFromTutorial(Tutorial tutorial, Student student) throws ItemNotFoundException;
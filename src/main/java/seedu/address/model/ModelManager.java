@@ -4,11 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
@@ -40,6 +42,9 @@ public class ModelManager implements Model {
     private ObjectProperty<Student> student;
     private final FilteredList<Attendance> filteredAttendances;
     private final FilteredList<Submission> filteredSubmissions;
+    private boolean isAddressBookModified;
+    /** Search filtering the student list, null if it is filtered by another predicate */
+    private StudentSearch studentSearch;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -51,11 +56,25 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.addressBook.setWeekRange(this.userPrefs.getWeekRange());
         student = new SimpleObjectProperty<>();
+        // Invalidation listeners run before change listeners, so the search is updated
+        // before the filtered list tests the changed students
+        this.addressBook.getStudentList().addListener((InvalidationListener) observable -> {
+            if (studentSearch != null) {
+                studentSearch.update();
+            }
+        });
         filteredStudents = new FilteredList<>(this.addressBook.getStudentList());
         filteredTutorials = new FilteredList<>(this.addressBook.getTutorialList());
         filteredAttendances = new FilteredList<>(this.addressBook.getAttendanceList());
         filteredSubmissions = new FilteredList<>(this.addressBook.getSubmissionList());
+
+        InvalidationListener markModified = observable -> isAddressBookModified = true;
+        this.addressBook.getStudentList().addListener(markModified);
+        this.addressBook.getTutorialList().addListener(markModified);
+        this.addressBook.getAttendanceList().addListener(markModified);
+        this.addressBook.getSubmissionList().addListener(markModified);
     }
 
     public ModelManager() {
@@ -69,6 +88,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setWeekRange(this.userPrefs.getWeekRange());
     }
 
     @Override
@@ -122,6 +142,42 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getFilteredSnapshot() {
+        var snapshot = addressBook.snapshot();
+        return new AddressBookSnapshot(shown(filteredStudents, snapshot.students()),
+                        shown(filteredTutorials, snapshot.tutorials()),
+                        shown(filteredAttendances, snapshot.attendances()),
+                        shown(filteredSubmissions, snapshot.submissions()));
+    }
+
+    /**
+     * Returns the items of {@code copies} shown in {@code filtered}, where
+     * {@code copies} holds a copy of each item of the source of {@code filtered},
+     * in the same order. Only the positions of the items shown are looked up.
+     */
+    private static <T> List<T> shown(FilteredList<T> filtered, List<T> copies) {
+        if (filtered.size() == copies.size()) {
+            return copies;
+        }
+
+        List<T> shown = new ArrayList<>(filtered.size());
+        for (int i = 0; i < filtered.size(); i++) {
+            shown.add(copies.get(filtered.getSourceIndex(i)));
+        }
+        return shown;
+    }
+
+    @Override
+    public boolean isAddressBookModified() {
+        return isAddressBookModified;
+    }
+
+    @Override
+    public void setAddressBookModified(boolean isModified) {
+        isAddressBookModified = isModified;
+    }
+
     @Override
     public boolean hasStudent(Student student) {
         requireNonNull(student);
@@ -149,6 +205,12 @@ public class ModelManager implements Model {
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
+    @Override
+    public void addStudents(List<Student> students) {
+        addressBook.addStudents(students);
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) throws DuplicateItemException, ItemNotFoundException {
         requireAllNonNull(target, editedStudent);
@@ -225,6 +287,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         requireNonNull(predicate);
+        studentSearch = null;
         filteredStudents.setPredicate(predicate);
     }
 
@@ -232,9 +295,16 @@ public class ModelManager implements Model {
     public void updateFilteredStudentsByTutorialList(Predicate<Tutorial> predicate) {
         requireNonNull(predicate);
         Predicate<Student> studentPredicate = student -> student.getTutorials().stream().anyMatch(predicate);
+        studentSearch = null;
         filteredStudents.setPredicate(studentPredicate);
     }
 
+    @Override
+    public void findStudents(List<String> keywords, Predicate<Tutorial> tutorialPredicate) {
+        studentSearch = new StudentSearch(addressBook, keywords, tutorialPredicate);
+        filteredStudents.setPredicate(studentSearch);
+    }
+
     // =========== Filtered Tutorial List Accessors
     // =============================================================
 
@@ -255,8 +325,7 @@ public class ModelManager implements Model {
 
     @Override
     public List<Student> getStudentsInTutorial(Tutorial tutorial) {
-        return this.addressBook.getStudentList().stream().filter(student -> student.getTutorials().contains(tutorial))
-                        .collect(Collectors.toList());
+        return addressBook.getStudentsInTutorial(tutorial);
     }
 
     @Override
@@ -277,6 +346,21 @@ public class ModelManager implements Model {
         return addressBook.check();
     }
 
+    @Override
+    public void beginTransaction() {
+        addressBook.beginTransaction();
+    }
+
+    @Override
+    public void commitTransaction() {
+        addressBook.commitTransaction();
+    }
+
+    @Override
+    public boolean audit() {
+        return addressBook.audit();
+    }
+
     @Override
     public void addStudentToTutorial(Tutorial tutorial, Student student) throws ItemNotFoundException {
         addressBook.addStudentToTutorial(tutorial, student);
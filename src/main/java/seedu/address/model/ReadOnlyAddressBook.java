@@ -32,4 +32,15 @@ public interface ReadOnlyAddressBook {
      * Returns an unmodifiable view of the submission list.
      */
     ObservableList<Submission> getSubmissionList();
+
+    /**
+     * Returns a copy of the address book that is not affected by later changes,
+     * and can be handed to other threads. The students, tutorials and records are
+     * copied too, so changes made to them in place are not seen by the copy. Must
+     * be called on the thread that changes the address book. The default copies
+     * every item.
+     */
+    default ReadOnlyAddressBook snapshot() {
+        return AddressBookSnapshot.copyOf(this);
+    }
 }
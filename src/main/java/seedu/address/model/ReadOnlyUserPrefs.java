@@ -3,6 +3,7 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.attendance.WeekRange;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,11 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    StorageFormat getStorageFormat();
+
+    /**
+     * Returns the weeks that new attendance records are taken for
+     */
+    WeekRange getWeekRange();
+
 }
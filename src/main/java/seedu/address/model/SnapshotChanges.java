@@ -0,0 +1,63 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Changes made to an address book between one of its snapshots and the next,
+ * see {@link AddressBookSnapshot#changes()}.
+ * <p>
+ * The changes are given as the copies of the previous snapshot that are not in
+ * the next one, and the copies of the next snapshot that were not in the
+ * previous one. An item changed in place is in both, as its copy is replaced.
+ * The changes of consecutive snapshots are linked, so the changes since any
+ * earlier snapshot can be found from those of the earlier snapshot.
+ */
+public final class SnapshotChanges {
+    private final AddressBookSnapshot removed;
+    private final AddressBookSnapshot added;
+    // Set on the thread taking the snapshots, read by the threads they are handed to
+    private volatile SnapshotChanges next;
+
+    SnapshotChanges(AddressBookSnapshot removed, AddressBookSnapshot added) {
+        this.removed = removed;
+        this.added = added;
+    }
+
+    /**
+     * Returns the copies of the previous snapshot that are not in the next one,
+     * in no particular order
+     */
+    public AddressBookSnapshot removed() {
+        return removed;
+    }
+
+    /**
+     * Returns the copies of the next snapshot that were not in the previous one,
+     * in the order of the lists of the address book
+     */
+    public AddressBookSnapshot added() {
+        return added;
+    }
+
+    void setNext(SnapshotChanges next) {
+        this.next = next;
+    }
+
+    /**
+     * Returns the changes made after these, in order, up to and including
+     * {@code last}, or an empty {@code Optional} if {@code last} were not made
+     * after these.
+     */
+    public Optional<List<SnapshotChanges>> until(SnapshotChanges last) {
+        List<SnapshotChanges> changes = new ArrayList<>();
+        for (var node = this; node != last; node = node.next) {
+            if (node.next == null) {
+                return Optional.empty();
+            }
+            changes.add(node.next);
+        }
+        return Optional.of(changes);
+    }
+}
@@ -0,0 +1,232 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.Submission;
+import seedu.address.model.tutorial.Assignment;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.Identifiable;
+import seedu.address.model.uniquelist.UniqueList;
+
+/**
+ * Keeps a copy of every item of an {@link AddressBook}, so that taking a
+ * {@link ReadOnlyAddressBook#snapshot() snapshot} only copies the items changed
+ * since the previous one.
+ * <p>
+ * Items of the address book are changed in place and then replaced by
+ * themselves in their list, so every change reaches the listeners of the
+ * tracker. The listeners only keep the positions of the copies in step with
+ * the lists and note the changed items; these are copied when the next
+ * snapshot is taken, after every change of a command has been published.
+ * Copies of unchanged items, and the lists of unchanged lists, are shared by
+ * consecutive snapshots.
+ * <p>
+ * The lists of a snapshot hold the copies in the order of the lists of the
+ * address book, item for item. A copied record refers to the copies of its
+ * student and tutorial as they were when the record was copied. The address book replaces the records of a student
+ * whose name changes, so these copies always carry the current names.
+ * <p>
+ * Each snapshot also has the copies it replaced and the copies it added, see
+ * {@link SnapshotChanges}.
+ */
+class SnapshotTracker {
+
+    private final Copies<Student> students;
+    private final Copies<Tutorial> tutorials;
+    private final Copies<Attendance> attendances;
+    private final Copies<Submission> submissions;
+
+    private final Map<String, Tutorial> tutorialsByName = new HashMap<>();
+    private final Map<Object, Assignment> assignmentsByKey = new HashMap<>();
+    private final Map<Name, Student> studentsByName = new HashMap<>();
+
+    private AddressBookSnapshot snapshot;
+
+    SnapshotTracker(UniqueList<Student> students, UniqueList<Tutorial> tutorials,
+                    UniqueList<Attendance> attendances, UniqueList<Submission> submissions) {
+        this.students = new Copies<>(students, s -> studentsByName.remove(s.getName(), s));
+        this.tutorials = new Copies<>(tutorials, this::forgetTutorial);
+        this.attendances = new Copies<>(attendances, a -> {
+        });
+        this.submissions = new Copies<>(submissions, s -> {
+        });
+    }
+
+    /**
+     * Returns a snapshot of the lists, copying the items changed since the last
+     * snapshot. Must not be called during a transaction.
+     */
+    AddressBookSnapshot snapshot() {
+        if (snapshot != null && !(students.isChanged() || tutorials.isChanged() || attendances.isChanged()
+                        || submissions.isChanged())) {
+            return snapshot;
+        }
+
+        // Records refer to tutorials and students, and students to tutorials
+        tutorials.update(this::copyTutorial);
+        students.update(this::copyStudent);
+        attendances.update(a -> AddressBookSnapshot.copyAttendance(a, this::copyOf, this::copyOf));
+        submissions.update(s -> AddressBookSnapshot.copySubmission(s, this::copyOf, this::copyOf));
+
+        var changes = new SnapshotChanges(
+                        new AddressBookSnapshot(students.takeRemoved(), tutorials.takeRemoved(),
+                                        attendances.takeRemoved(), submissions.takeRemoved()),
+                        new AddressBookSnapshot(students.added(), tutorials.added(), attendances.added(),
+                                        submissions.added()));
+        if (snapshot != null) {
+            snapshot.changes().setNext(changes);
+        }
+        snapshot = new AddressBookSnapshot(students.list(), tutorials.list(), attendances.list(),
+                        submissions.list(), changes);
+        return snapshot;
+    }
+
+    private Tutorial copyTutorial(Tutorial original) {
+        var tutorial = AddressBookSnapshot.copyTutorial(original);
+        tutorialsByName.put(tutorial.name(), tutorial);
+        tutorial.assignments().forEach(a -> assignmentsByKey.put(Submission.assignmentKey(a), a));
+        return tutorial;
+    }
+
+    private void forgetTutorial(Tutorial tutorial) {
+        tutorialsByName.remove(tutorial.name(), tutorial);
+        tutorial.assignments().forEach(a -> assignmentsByKey.remove(Submission.assignmentKey(a), a));
+    }
+
+    private Student copyStudent(Student original) {
+        var student = AddressBookSnapshot.copyStudent(original, tutorialsByName);
+        studentsByName.put(student.getName(), student);
+        return student;
+    }
+
+    // The copies of the references of a record. A record referring to something
+    // that is not in the address book gets a copy of its own, so that no record
+    // is left out, and the lists of the snapshot match the lists item for item.
+
+    private Tutorial copyOf(Tutorial tutorial) {
+        var copy = tutorialsByName.get(tutorial.name());
+        return copy != null ? copy : AddressBookSnapshot.copyTutorial(tutorial);
+    }
+
+    private Assignment copyOf(Assignment assignment) {
+        var copy = assignmentsByKey.get(Submission.assignmentKey(assignment));
+        return copy != null ? copy
+                        : new Assignment(assignment.name(), assignment.dueDate(), copyOf(assignment.tutorial()));
+    }
+
+    private Student copyOf(Student student) {
+        var copy = studentsByName.get(student.getName());
+        return copy != null ? copy : AddressBookSnapshot.copyStudent(student, tutorialsByName);
+    }
+
+    /**
+     * Copies of the items of one list, in the order of the list
+     */
+    private static class Copies<T extends Identifiable<T>> {
+        private final UniqueList<T> items;
+        private final Consumer<T> onRemoved;
+        // Null where the item has changed and is not copied yet
+        private final List<T> copies = new ArrayList<>();
+        private Set<T> changed = newIdentitySet();
+        // Copies taken out of the list since the last snapshot
+        private List<T> removedCopies = new ArrayList<>();
+        // Copies made for the last snapshot, in the order of the list
+        private List<T> added = List.of();
+        private List<T> list = List.of();
+        private boolean isChanged;
+
+        private Copies(UniqueList<T> items, Consumer<T> onRemoved) {
+            this.items = items;
+            this.onRemoved = onRemoved;
+            items.asUnmodifiableObservableList().addListener((ListChangeListener<T>) this::onChanged);
+        }
+
+        private void onChanged(ListChangeListener.Change<? extends T> change) {
+            isChanged = true;
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    var permuted = new ArrayList<>(copies.subList(from, change.getTo()));
+                    for (int i = from; i < change.getTo(); i++) {
+                        copies.set(change.getPermutation(i), permuted.get(i - from));
+                    }
+                    continue;
+                }
+
+                var removed = copies.subList(from, from + change.getRemovedSize());
+                removed.stream().filter(Objects::nonNull).forEach(copy -> {
+                    onRemoved.accept(copy);
+                    removedCopies.add(copy);
+                });
+                removed.clear();
+                copies.addAll(from, Collections.nCopies(change.getAddedSize(), null));
+                changed.addAll(change.getAddedSubList());
+            }
+        }
+
+        private static <E> Set<E> newIdentitySet() {
+            return Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+
+        private boolean isChanged() {
+            return isChanged;
+        }
+
+        /**
+         * Copies the changed items that are still in the list, in the order of the
+         * list
+         */
+        private void update(Function<T, T> copier) {
+            int[] indices = changed.stream().mapToInt(items::indexOf).filter(i -> i >= 0).sorted().toArray();
+            added = new ArrayList<>(indices.length);
+            for (int i : indices) {
+                T copy = copier.apply(items.get(i));
+                copies.set(i, copy);
+                added.add(copy);
+            }
+            // A new set, as clearing a set that once held every item takes as long
+            changed = newIdentitySet();
+        }
+
+        /**
+         * Returns the copies made by the last {@link #update}
+         */
+        private List<T> added() {
+            return added;
+        }
+
+        /**
+         * Returns the copies removed since the last call
+         */
+        private List<T> takeRemoved() {
+            var taken = removedCopies;
+            removedCopies = new ArrayList<>();
+            return taken;
+        }
+
+        /**
+         * Returns the copies as an immutable list, only building a new one if the
+         * list changed since the last call
+         */
+        private List<T> list() {
+            if (isChanged) {
+                list = List.copyOf(copies);
+                isChanged = false;
+            }
+            return list;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.model;
+
+/**
+ * Specifies how the address book is stored on disk.
+ */
+public enum StorageFormat {
+    /** The whole address book is rewritten as a JSON file on every save */
+    JSON,
+    /** Changes are appended to a journal, which is folded into the JSON file from time to time */
+    JOURNAL,
+    /** The whole address book is rewritten as a compact binary file on every save */
+    BINARY,
+    /** Changed records are written to the rows of an embedded database */
+    DATABASE,
+    /** Each tutorial has its own JSON file, which is only rewritten when the tutorial changes */
+    SHARDED
+}
@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.student.Student;
+import seedu.address.model.tutorial.Tutorial;
+
+/**
+ * Students of an address book found by the words of their fields and by their
+ * tutorials, see {@link Model#findStudents(List, Predicate)}.
+ * <p>
+ * The students found are looked up in the groups of the student list, so only
+ * they are visited. Testing a student is a lookup in the set found, which
+ * {@link #update()} recomputes when the student list changes.
+ */
+class StudentSearch implements Predicate<Student> {
+    private final AddressBook addressBook;
+    private final List<String> keywords;
+    private final Predicate<Tutorial> tutorialPredicate;
+    // Null if the students are not filtered
+    private Set<Student> found;
+
+    /**
+     * Creates a search of {@code addressBook}. Null {@code keywords} or
+     * {@code tutorialPredicate} do not filter the students.
+     */
+    StudentSearch(AddressBook addressBook, List<String> keywords, Predicate<Tutorial> tutorialPredicate) {
+        this.addressBook = addressBook;
+        this.keywords = keywords;
+        this.tutorialPredicate = tutorialPredicate;
+        update();
+    }
+
+    /**
+     * Finds the students again, in the current student list
+     */
+    void update() {
+        Set<Student> withWords = null;
+        if (keywords != null) {
+            withWords = newIdentitySet();
+            for (String keyword : keywords) {
+                withWords.addAll(addressBook.findStudentsWithWord(keyword));
+            }
+        }
+
+        Set<Student> inTutorials = null;
+        if (tutorialPredicate != null) {
+            inTutorials = newIdentitySet();
+            for (Tutorial tutorial : addressBook.getTutorialList()) {
+                if (tutorialPredicate.test(tutorial)) {
+                    inTutorials.addAll(addressBook.getStudentsInTutorial(tutorial));
+                }
+            }
+        }
+
+        if (withWords != null && inTutorials != null) {
+            withWords.retainAll(inTutorials);
+        }
+        found = withWords != null ? withWords : inTutorials;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        return found == null || found.contains(student);
+    }
+
+    private static Set<Student> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -9,6 +9,7 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.attendance.WeekRange;
 
 /**
  * Represents User's preferences.
@@ -19,6 +20,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data", "addressbook.json");
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    // Stored as numbers, as WeekRange is a record that cannot be read back from JSON
+    private int attendanceFirstWeek = WeekRange.DEFAULT.firstWeek();
+    private int attendanceNumberOfWeeks = WeekRange.DEFAULT.numberOfWeeks();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -41,6 +46,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setWeekRange(newUserPrefs.getWeekRange());
     }
 
     public GuiSettings getGuiSettings() {
@@ -78,6 +85,35 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    /**
+     * Returns the weeks that new attendance records are taken for, or the default
+     * weeks if the preferences file holds an invalid number of weeks.
+     */
+    @Override
+    public WeekRange getWeekRange() {
+        if (attendanceNumberOfWeeks <= 0 || attendanceNumberOfWeeks > WeekRange.MAX_NUMBER_OF_WEEKS) {
+            logger.warning("Invalid number of attendance weeks %d, using weeks %d to %d".formatted(
+                            attendanceNumberOfWeeks, WeekRange.DEFAULT.firstWeek(), WeekRange.DEFAULT.lastWeek()));
+            return WeekRange.DEFAULT;
+        }
+        return new WeekRange(attendanceFirstWeek, attendanceNumberOfWeeks);
+    }
+
+    public void setWeekRange(WeekRange weekRange) {
+        requireNonNull(weekRange);
+        this.attendanceFirstWeek = weekRange.firstWeek();
+        this.attendanceNumberOfWeeks = weekRange.numberOfWeeks();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -91,12 +127,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                        && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                        && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                        && storageFormat == otherUserPrefs.storageFormat
+                        && attendanceFirstWeek == otherUserPrefs.attendanceFirstWeek
+                        && attendanceNumberOfWeeks == otherUserPrefs.attendanceNumberOfWeeks;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, storageFormat, attendanceFirstWeek,
+                        attendanceNumberOfWeeks);
     }
 
     @Override
@@ -104,6 +144,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nStorage format : " + storageFormat);
+        sb.append("\nAttendance weeks : " + attendanceFirstWeek + " (" + attendanceNumberOfWeeks + " weeks)");
         return sb.toString();
     }
 
@@ -1,48 +1,148 @@
 package seedu.address.model.attendance;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
 
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.student.Student;
 import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.CompositeKey;
+import seedu.address.model.uniquelist.GroupKey;
 import seedu.address.model.uniquelist.Identifiable;
+import seedu.address.model.uniquelist.IdentityKey;
 
 /**
  * Represents an attendance record
+ * <p>
+ * Attendance is kept as a bit set packed into a {@code long}, one bit for every
+ * week of its {@link WeekRange}, where a set bit means present.
  */
-public record Attendance(Tutorial tutorial, Student student,
-                List<Integer> attendances) implements Identifiable<Attendance> {
-    private static final int NUMBER_OF_WEEKS = 11;
+public final class Attendance implements Identifiable<Attendance> {
+    public static final String MESSAGE_CONSTRAINTS = "Attendance of each week should be 0 for absent or 1 for present";
+
+    /**
+     * Keys that identify an attendance record, one for each key of the student
+     */
+    public static final List<IdentityKey<Attendance>> IDENTITY_KEYS = Student.IDENTITY_KEYS.stream()
+                    .<IdentityKey<Attendance>>map(key -> a -> CompositeKey.of(a.tutorial().name(), key.of(a.student())))
+                    .toList();
+
+    public static final GroupKey<Attendance> BY_STUDENT = a -> List.of(a.student().getName());
+    public static final GroupKey<Attendance> BY_TUTORIAL = a -> List.of(a.tutorial().name());
+    public static final List<GroupKey<Attendance>> GROUP_KEYS = List.of(BY_STUDENT, BY_TUTORIAL);
+
     private static final int ABSENT = 0;
     private static final int PRESENT = 1;
-    private static final int DIFFERENCE = 3;
+
+    private final Tutorial tutorial;
+    private final Student student;
+    private WeekRange weeks;
+    private long presence;
 
     public Attendance(Tutorial tutorial, Student student) {
-        this(tutorial, student, new ArrayList<>(Collections.nCopies(NUMBER_OF_WEEKS, ABSENT)));
+        this(tutorial, student, WeekRange.DEFAULT, 0);
     }
 
-    public Attendance {
-        attendances = fixAttendances(attendances);
+    /**
+     * Creates an attendance record over the default weeks, from a list with one
+     * entry per week, where {@code 1} means present. Missing weeks are absent, and
+     * extra weeks are ignored.
+     *
+     * @throws IllegalArgumentException
+     *             if an entry is not 0 or 1, see {@link #pack}
+     */
+    public Attendance(Tutorial tutorial, Student student, List<Integer> attendances) {
+        this(tutorial, student, WeekRange.DEFAULT, pack(attendances, WeekRange.DEFAULT));
+    }
+
+    /**
+     * Creates an attendance record
+     *
+     * @param presence
+     *            bit {@code i} is set if the student was present in the
+     *            {@code i}-th week of {@code weeks}
+     */
+    public Attendance(Tutorial tutorial, Student student, WeekRange weeks, long presence) {
+        this.tutorial = tutorial;
+        this.student = student;
+        this.weeks = Objects.requireNonNull(weeks);
+        this.presence = presence & weeks.mask();
     }
 
     public Attendance(Attendance other) {
-        this(other.tutorial, other.student, other.attendances);
+        this(other.tutorial, other.student, other.weeks, other.presence);
+    }
+
+    /**
+     * Packs a list with one entry per week into a bit set
+     *
+     * @throws IllegalArgumentException
+     *             if an entry is null, or neither {@code 0} for absent nor
+     *             {@code 1} for present
+     */
+    public static long pack(List<Integer> attendances, WeekRange weeks) {
+        if (!attendances.stream().allMatch(Attendance::isValidWeek)) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+
+        long presence = 0;
+        for (int i = 0; i < Math.min(attendances.size(), weeks.numberOfWeeks()); i++) {
+            if (attendances.get(i) == PRESENT) {
+                presence |= 1L << i;
+            }
+        }
+        return presence;
+    }
+
+    /**
+     * Returns true if {@code week} is a valid entry of a list of attendance, see
+     * {@link #pack}
+     */
+    public static boolean isValidWeek(Integer week) {
+        return week != null && (week == ABSENT || week == PRESENT);
+    }
+
+    public Tutorial tutorial() {
+        return tutorial;
+    }
+
+    public Student student() {
+        return student;
+    }
+
+    public WeekRange weeks() {
+        return weeks;
+    }
+
+    /**
+     * Returns the attendance as a bit set, see
+     * {@link #Attendance(Tutorial, Student, WeekRange, long)}
+     */
+    public long presence() {
+        return presence;
     }
 
-    private static List<Integer> fixAttendances(List<Integer> attendances) {
-        return Stream.concat(attendances.stream(), Stream.generate((
-        ) -> 0)).limit(NUMBER_OF_WEEKS).collect(Collectors.toCollection(ArrayList::new));
+    /**
+     * Returns the attendance with one entry per week, {@code 1} if present and
+     * {@code 0} if absent
+     */
+    public List<Integer> attendances() {
+        return IntStream.range(0, weeks.numberOfWeeks()).mapToObj(i -> (presence >>> i & 1) == 1 ? PRESENT : ABSENT)
+                        .toList();
     }
 
     public Attendance setTutorial(Tutorial t) {
-        return new Attendance(t, student, new ArrayList<>(attendances));
+        return new Attendance(t, student, weeks, presence);
     }
 
     public Attendance setStudent(Student s) {
-        return new Attendance(tutorial, s, new ArrayList<>(attendances));
+        return new Attendance(tutorial, s, weeks, presence);
+    }
+
+    public boolean isPresent(int week) {
+        return (presence >>> weeks.indexOf(week) & 1) == 1;
     }
 
     /**
@@ -54,16 +154,44 @@ public record Attendance(Tutorial tutorial, Student student,
      *            Value is true if mark as present, false if mark as absent
      */
     public void setAttendance(int week, boolean isPresent) {
-        if (isPresent) {
-            attendances.set(week - DIFFERENCE, PRESENT);
-        } else {
-            attendances.set(week - DIFFERENCE, ABSENT);
+        long bit = 1L << weeks.indexOf(week);
+        presence = isPresent ? presence | bit : presence & ~bit;
+    }
+
+    /**
+     * Copies the weeks and attendance of {@code other}
+     */
+    public void setAttendances(Attendance other) {
+        weeks = other.weeks;
+        presence = other.presence;
+    }
+
+    /**
+     * Returns the number of weeks the student was present
+     */
+    public int countPresent() {
+        return Long.bitCount(presence);
+    }
+
+    /**
+     * Returns the largest number of consecutive weeks the student was present
+     */
+    public int longestStreak() {
+        int streak = 0;
+        // Each step shortens every run of set bits by one
+        for (long runs = presence; runs != 0; runs &= runs >>> 1) {
+            streak++;
         }
+        return streak;
     }
 
-    public void setAttendances(List<Integer> attendances) {
-        this.attendances.clear();
-        this.attendances.addAll(attendances);
+    /**
+     * Returns the first week the student was absent, if any
+     */
+    public OptionalInt firstAbsence() {
+        long absences = ~presence & weeks.mask();
+        return absences == 0 ? OptionalInt.empty()
+                        : OptionalInt.of(weeks.firstWeek() + Long.numberOfTrailingZeros(absences));
     }
 
     @Override
@@ -74,4 +202,29 @@ public record Attendance(Tutorial tutorial, Student student,
 
         return this.tutorial.hasSameIdentity(other.tutorial) && this.student.hasSameIdentity(other.student);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof Attendance otherAttendance)) {
+            return false;
+        }
+
+        return Objects.equals(tutorial, otherAttendance.tutorial) && Objects.equals(student, otherAttendance.student)
+                        && weeks.equals(otherAttendance.weeks) && presence == otherAttendance.presence;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tutorial, student, weeks, presence);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tutorial", tutorial).add("student", student)
+                        .add("attendances", attendances()).toString();
+    }
 }
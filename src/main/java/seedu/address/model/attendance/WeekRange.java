@@ -0,0 +1,54 @@
+package seedu.address.model.attendance;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Range of teaching weeks that attendance is taken for
+ *
+ * @param firstWeek
+ *            week number of the first week
+ * @param numberOfWeeks
+ *            number of consecutive weeks, at most {@link #MAX_NUMBER_OF_WEEKS}
+ */
+public record WeekRange(int firstWeek, int numberOfWeeks) {
+
+    public static final int MAX_NUMBER_OF_WEEKS = Long.SIZE;
+    public static final String MESSAGE_CONSTRAINTS = "A term must have between 1 and %d weeks"
+                    .formatted(MAX_NUMBER_OF_WEEKS);
+
+    /** Attendance is taken from week 3 to week 13 */
+    public static final WeekRange DEFAULT = new WeekRange(3, 11);
+
+    /**
+     * Creates a {@code WeekRange}
+     */
+    public WeekRange {
+        checkArgument(numberOfWeeks > 0 && numberOfWeeks <= MAX_NUMBER_OF_WEEKS, MESSAGE_CONSTRAINTS);
+    }
+
+    public int lastWeek() {
+        return firstWeek + numberOfWeeks - 1;
+    }
+
+    public boolean contains(int week) {
+        return week >= firstWeek && week <= lastWeek();
+    }
+
+    /**
+     * Returns the zero-based position of {@code week} in the range
+     */
+    public int indexOf(int week) {
+        if (!contains(week)) {
+            throw new IllegalArgumentException("Week %d is not in weeks %d to %d".formatted(week, firstWeek,
+                            lastWeek()));
+        }
+        return week - firstWeek;
+    }
+
+    /**
+     * Returns a mask with one bit set for every week in the range
+     */
+    long mask() {
+        return numberOfWeeks == Long.SIZE ? -1L : (1L << numberOfWeeks) - 1;
+    }
+}
@@ -6,15 +6,21 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.submission.Submission;
 import seedu.address.model.tutorial.Assignment;
 import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.GroupKey;
 import seedu.address.model.uniquelist.Identifiable;
+import seedu.address.model.uniquelist.IdentityKey;
 
 /**
  * Represents a Student in the address book. Guarantees: details are present and
@@ -22,6 +28,30 @@ import seedu.address.model.uniquelist.Identifiable;
  */
 public class Student implements Identifiable<Student> {
 
+    /**
+     * Looks up a student by {@link Name}
+     */
+    public static final IdentityKey<Student> BY_NAME = Student::getName;
+
+    /**
+     * Keys that identify a student, see {@link #isSameStudent(Student)}
+     */
+    public static final List<IdentityKey<Student>> IDENTITY_KEYS = List.of(BY_NAME, Student::getStudentId,
+                    Student::getPhone, Student::getEmail, Student::getHandle);
+
+    /**
+     * Groups students by the tutorials they are allocated to
+     */
+    public static final GroupKey<Student> BY_TUTORIAL = s -> s.getTutorials().stream().map(Tutorial::name).toList();
+
+    /**
+     * Groups students by the words they can be found by, see
+     * {@link #getSearchTokens()}
+     */
+    public static final GroupKey<Student> BY_TOKEN = Student::getSearchTokens;
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("\\s+");
+
     // Identity fields
     private Name name;
     private StudentID studentId;
@@ -91,6 +121,24 @@ public class Student implements Identifiable<Student> {
                     Set<Tutorial> tutorials, Details details) {
         this(name, studentId, phone, email, handle, tutorials, details, new ArrayList<>(), new ArrayList<>());
     }
+
+    /**
+     * Returns the lower case words of the name, student ID, email, handle and
+     * details of the student.
+     */
+    public Set<String> getSearchTokens() {
+        return Stream.of(name.fullName, studentId.id, email.value, handle.handle, details.value)
+                        .flatMap(TOKEN_SEPARATOR::splitAsStream).filter(token -> !token.isEmpty())
+                        .map(Student::toSearchToken).collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the token that {@code word} matches in {@link #getSearchTokens()}
+     */
+    public static String toSearchToken(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
     public void setDetails(Details details) {
         this.details = details;
     }
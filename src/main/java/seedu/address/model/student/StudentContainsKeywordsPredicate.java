@@ -0,0 +1,53 @@
+package seedu.address.model.student;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * Tests that any of the keywords given is a word of a {@code Student}'s name,
+ * student ID, email, handle or details, ignoring case.
+ */
+public class StudentContainsKeywordsPredicate implements Predicate<Student> {
+    private final List<String> keywords;
+
+    public StudentContainsKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    /**
+     * Returns the keywords, for looking students up by them, see
+     * {@link Model#findStudents(List, Predicate)}
+     */
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    @Override
+    public boolean test(Student student) {
+        Set<String> tokens = student.getSearchTokens();
+        return keywords.stream().map(Student::toSearchToken).anyMatch(tokens::contains);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StudentContainsKeywordsPredicate otherPredicate)) {
+            return false;
+        }
+
+        return keywords.equals(otherPredicate.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's ID in the address book. Guarantees: immutable; is
  * valid as declared in {@link #isValidID(String)}
@@ -12,6 +14,7 @@ public class StudentID {
     public static final String VALIDATION_REGEX = "A\\d{7}[A-Z]";
     public static final String MESSAGE_CONSTRAINTS = "Student IDs should be in the form AXXXXXXX[A-Z], "
                     + "and it should not be blank";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String id;
 
@@ -31,7 +34,7 @@ public class StudentID {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidID(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Student's Telegram handle in the address book. Guarantees:
  * immutable; is valid as declared in {@link #isValidHandle(String)}
@@ -13,6 +15,7 @@ public class TelegramHandle {
     public static final String MESSAGE_CONSTRAINTS = "Telegram handles should be in the form @telegramhandle, "
                     + "and it should not be blank. They should only be 5 - 32 alphanumeric (including underscores)"
                     + " characters long (excluding the @ symbol)";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String handle;
 
@@ -32,7 +35,7 @@ public class TelegramHandle {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidHandle(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -1,15 +1,32 @@
 package seedu.address.model.submission;
 
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.model.student.Student;
 import seedu.address.model.tutorial.Assignment;
+import seedu.address.model.uniquelist.CompositeKey;
+import seedu.address.model.uniquelist.GroupKey;
 import seedu.address.model.uniquelist.Identifiable;
+import seedu.address.model.uniquelist.IdentityKey;
 
 /**
  * Represents a submission made by the student
  */
 public class Submission implements Identifiable<Submission> {
+    /**
+     * Keys that identify a submission, one for each key of the student
+     */
+    public static final List<IdentityKey<Submission>> IDENTITY_KEYS = Student.IDENTITY_KEYS.stream()
+                    .<IdentityKey<Submission>>map(key -> s -> CompositeKey.of(s.assignment().name(),
+                                    s.assignment().tutorial().name(), key.of(s.student())))
+                    .toList();
+
+    public static final GroupKey<Submission> BY_STUDENT = s -> List.of(s.student().getName());
+    public static final GroupKey<Submission> BY_ASSIGNMENT = s -> List.of(assignmentKey(s.assignment()));
+    public static final GroupKey<Submission> BY_TUTORIAL = s -> List.of(s.assignment().tutorial().name());
+    public static final List<GroupKey<Submission>> GROUP_KEYS = List.of(BY_STUDENT, BY_ASSIGNMENT, BY_TUTORIAL);
+
     private final Assignment assignment;
     private final Student student;
     private SubmissionStatus status;
@@ -27,6 +44,14 @@ public class Submission implements Identifiable<Submission> {
         this(submission.assignment, submission.student, submission.status);
     }
 
+    /**
+     * Returns the key of the {@link #BY_ASSIGNMENT} group that submissions of
+     * {@code assignment} belong to
+     */
+    public static Object assignmentKey(Assignment assignment) {
+        return CompositeKey.of(assignment.name(), assignment.tutorial().name());
+    }
+
     public Submission setAssignment(Assignment assignment) {
         return new Submission(assignment, student, status);
     }
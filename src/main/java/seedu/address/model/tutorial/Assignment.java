@@ -5,6 +5,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import seedu.address.model.student.Student;
 import seedu.address.model.submission.Submission;
@@ -21,6 +22,8 @@ import seedu.address.model.uniquelist.UniqueList;
  */
 public record Assignment(String name, Optional<LocalDateTime> dueDate, Tutorial tutorial,
                 UniqueList<Submission> submissions) implements Identifiable<Assignment> {
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z0-9-_ ]{1,35}");
+
     public Assignment(String name) {
         this(name, Optional.empty(), null, new UniqueList<>());
     }
@@ -52,7 +55,7 @@ public record Assignment(String name, Optional<LocalDateTime> dueDate, Tutorial
     }
 
     private boolean isNameValid(String name) {
-        return name.matches("[a-zA-Z0-9-_ ]{1,35}");
+        return NAME_PATTERN.matcher(name).matches();
     }
 
     public void addSubmission(Submission submission) {
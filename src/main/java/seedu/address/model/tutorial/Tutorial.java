@@ -1,12 +1,15 @@
 package seedu.address.model.tutorial;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.AddTutorialCommand;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.student.Student;
 import seedu.address.model.uniquelist.Identifiable;
+import seedu.address.model.uniquelist.IdentityKey;
 import seedu.address.model.uniquelist.UniqueList;
 import seedu.address.model.uniquelist.exceptions.DuplicateItemException;
 
@@ -16,6 +19,10 @@ import seedu.address.model.uniquelist.exceptions.DuplicateItemException;
 public record Tutorial(String name, UniqueList<Assignment> assignments,
                 UniqueList<Attendance> attendances) implements Identifiable<Tutorial> {
 
+    public static final List<IdentityKey<Tutorial>> IDENTITY_KEYS = List.of(Tutorial::name);
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z0-9_-]{1,15}");
+
     public Tutorial(String name) {
         this(name, new UniqueList<>(), new UniqueList<>());
     }
@@ -85,9 +92,8 @@ public record Tutorial(String name, UniqueList<Assignment> assignments,
      */
     public static boolean isValidName(String name) {
         Objects.requireNonNull(name);
-        final var pattern = "[a-zA-Z0-9_-]{1,15}";
 
-        return name.matches(pattern);
+        return NAME_PATTERN.matcher(name).matches();
     }
 
     /**
@@ -0,0 +1,28 @@
+package seedu.address.model.uniquelist;
+
+import java.util.List;
+
+/**
+ * An {@link IdentityKey} value made up of several parts, for entities that are
+ * identified by a combination of fields.
+ * <p>
+ * Parts are usually short strings that differ in a few characters (e.g. names
+ * of assignments in the same tutorial), so the hash code of a {@link List} of
+ * them collides often. The parts' hash codes are mixed instead.
+ */
+public record CompositeKey(List<Object> parts) {
+
+    public static CompositeKey of(Object... parts) {
+        return new CompositeKey(List.of(parts));
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (var part : parts) {
+            hash = (hash + part.hashCode()) * 0x9E3779B1;
+            hash ^= hash >>> 15;
+        }
+        return hash;
+    }
+}
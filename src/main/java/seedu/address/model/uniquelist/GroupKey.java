@@ -0,0 +1,18 @@
+package seedu.address.model.uniquelist;
+
+import java.util.Collection;
+
+/**
+ * Extracts the keys of the groups that an item belongs to, e.g. the student
+ * that a submission belongs to. Unlike {@link IdentityKey}, many items may share
+ * the same group key, and an item may belong to several groups.
+ * <p>
+ * Keys must implement {@code equals} and {@code hashCode}.
+ */
+@FunctionalInterface
+public interface GroupKey<T> {
+    /**
+     * Returns the keys of the groups that {@code item} belongs to
+     */
+    Collection<?> of(T item);
+}
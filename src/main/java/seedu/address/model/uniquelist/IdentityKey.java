@@ -0,0 +1,17 @@
+package seedu.address.model.uniquelist;
+
+/**
+ * Extracts a hashable key from an {@link Identifiable} entity.
+ * <p>
+ * A set of keys describes an identity: two entities have the same identity if
+ * and only if at least one of their keys are equal. Keys must therefore
+ * implement {@code equals} and {@code hashCode} consistently with
+ * {@link Identifiable#hasSameIdentity}.
+ */
+@FunctionalInterface
+public interface IdentityKey<T> {
+    /**
+     * Returns the key of {@code item}
+     */
+    Object of(T item);
+}
@@ -0,0 +1,120 @@
+package seedu.address.model.uniquelist;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * Array-backed observable list whose changes can be grouped into a
+ * transaction.
+ * <p>
+ * Changes made between {@link #beginTransaction()} and
+ * {@link #commitTransaction()} are published to listeners as a single change
+ * when the outermost transaction is committed. Bulk removals are done in one
+ * pass over the backing array.
+ */
+class TransactionalObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final ArrayList<E> backingList = new ArrayList<>();
+
+    /**
+     * Starts grouping changes. Transactions may be nested.
+     */
+    void beginTransaction() {
+        beginChange();
+    }
+
+    /**
+     * Publishes the changes made since the matching {@link #beginTransaction()},
+     * if this ends the outermost transaction.
+     *
+     * @throws IllegalStateException
+     *             if no transaction is open
+     */
+    void commitTransaction() {
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return backingList.get(index);
+    }
+
+    @Override
+    public int size() {
+        return backingList.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        backingList.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return backingList.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return backingList.remove(index);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return removeMatching(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return removeMatching(e -> !c.contains(e));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        return removeMatching(filter);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+
+        beginChange();
+        var range = backingList.subList(fromIndex, toIndex);
+        nextRemove(fromIndex, List.copyOf(range));
+        range.clear();
+        modCount++;
+        endChange();
+    }
+
+    /**
+     * Removes every element matching {@code filter}, compacting the backing array
+     * in a single pass.
+     */
+    private boolean removeMatching(Predicate<? super E> filter) {
+        beginChange();
+        int kept = 0;
+        for (int i = 0; i < backingList.size(); i++) {
+            var element = backingList.get(i);
+            if (filter.test(element)) {
+                // Indices are relative to the list after the previous removals
+                nextRemove(kept, element);
+            } else {
+                backingList.set(kept++, element);
+            }
+        }
+
+        boolean isChanged = kept < backingList.size();
+        if (isChanged) {
+            backingList.subList(kept, backingList.size()).clear();
+            modCount++;
+        }
+        endChange();
+        return isChanged;
+    }
+}
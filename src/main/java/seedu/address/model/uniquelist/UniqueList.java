@@ -5,11 +5,21 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,12 +31,33 @@ import seedu.address.model.uniquelist.exceptions.ItemNotFoundException;
  * or null.
  * <p>
  * Duplicate detection checked by {@link Identifiable#hasSameIdentity}
+ * <p>
+ * If the list is constructed with {@link IdentityKey}s, a hash index is kept
+ * for every key, so identity lookups take constant time instead of scanning
+ * the list. The position of every item is tracked as well, so replacing an
+ * item that is in the list does not search for it. Items that are mutated in
+ * place must be passed to {@link #set(Identifiable, Identifiable)} so that they
+ * are indexed under their new keys. Iterators and sublists are read-only views.
+ * <p>
+ * An indexed list may also be grouped by {@link GroupKey}s, which allows all
+ * items of a group to be found, or removed, without scanning the list.
+ * <p>
+ * Mutations made between {@link #beginTransaction()} and
+ * {@link #commitTransaction()} are published to listeners of
+ * {@link #asUnmodifiableObservableList()} as a single change.
  */
 public class UniqueList<T extends Identifiable<T>> implements List<T> {
 
-    private final ObservableList<T> internalList;
+    private final TransactionalObservableList<T> internalList;
     private final ObservableList<T> internalUnmodifiableList;
 
+    private final List<IdentityKey<T>> identityKeys;
+    private final List<GroupKey<T>> groupKeys;
+    private final List<Map<Object, T>> indexes;
+    private final List<Map<Object, Set<T>>> groups;
+    // Looked up by reference, as items may be mutated after they are indexed
+    private final Map<T, IndexEntry> entries;
+
     public UniqueList() {
         this(new ArrayList<>());
     }
@@ -35,20 +66,102 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
      * Constructs a UniqueList from the given list
      */
     public UniqueList(List<T> list) {
-        if (!areItemsUnique(list)) {
-            throw new IllegalStateException("List contains duplicate items");
+        this(list, List.of());
+    }
+
+    /**
+     * Constructs a copy of {@code other}, indexed by the same identity keys.
+     * {@code other} is already unique, so it is not validated again.
+     */
+    public UniqueList(UniqueList<T> other) {
+        this(List.of(), other.identityKeys, other.groupKeys);
+        replaceContents(other.internalList);
+    }
+
+    /**
+     * Constructs a UniqueList from the given list, indexed by
+     * {@code identityKeys}
+     */
+    public UniqueList(List<T> list, List<IdentityKey<T>> identityKeys) {
+        this(list, identityKeys, List.of());
+    }
+
+    /**
+     * Constructs a UniqueList from the given list, indexed by
+     * {@code identityKeys} and grouped by {@code groupKeys}
+     */
+    public UniqueList(List<T> list, List<IdentityKey<T>> identityKeys, List<GroupKey<T>> groupKeys) {
+        requireAllNonNull(list, identityKeys, groupKeys);
+        if (identityKeys.isEmpty() && !groupKeys.isEmpty()) {
+            throw new IllegalArgumentException("Only indexed lists can be grouped");
         }
 
-        this.internalList = FXCollections.observableList(new ArrayList<>(list));
+        this.internalList = new TransactionalObservableList<>();
         this.internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+
+        this.identityKeys = List.copyOf(identityKeys);
+        this.groupKeys = List.copyOf(groupKeys);
+        this.indexes = this.identityKeys.stream().<Map<Object, T>>map(key -> new HashMap<>()).toList();
+        this.groups = this.groupKeys.stream().<Map<Object, Set<T>>>map(key -> new HashMap<>()).toList();
+        this.entries = new IdentityHashMap<>();
+
+        var duplicates = findDuplicateGroups(list);
+        if (!duplicates.isEmpty()) {
+            throw new IllegalStateException("List contains duplicate items: %s".formatted(duplicates));
+        }
+
+        replaceContents(list);
     }
 
     /**
-     * Returns true if {@code items} contains only unique entities.
+     * Returns the groups of items in {@code items} that share an identity, in
+     * order of first appearance. Items that are unique do not belong to any group.
+     * <p>
+     * If the list is indexed, this takes a single hashing pass over
+     * {@code items} per identity key. Otherwise, every pair of items is compared.
      */
-    private static <T extends Identifiable<T>> boolean areItemsUnique(List<T> items) {
-        return IntStream.range(0, items.size()).noneMatch(i -> IntStream.range(i + 1, items.size())
-                        .anyMatch(j -> items.get(i).hasSameIdentity(items.get(j))));
+    public List<List<T>> findDuplicateGroups(List<T> items) {
+        requireNonNull(items);
+        int[] parents = IntStream.range(0, items.size()).toArray();
+
+        if (isIndexed()) {
+            for (var key : identityKeys) {
+                var firstWithKey = new HashMap<Object, Integer>();
+                for (int i = 0; i < items.size(); i++) {
+                    var first = firstWithKey.putIfAbsent(key.of(items.get(i)), i);
+                    if (first != null) {
+                        union(parents, first, i);
+                    }
+                }
+            }
+        } else {
+            for (int i = 0; i < items.size(); i++) {
+                for (int j = i + 1; j < items.size(); j++) {
+                    if (items.get(i).hasSameIdentity(items.get(j))) {
+                        union(parents, i, j);
+                    }
+                }
+            }
+        }
+
+        var groups = new LinkedHashMap<Integer, List<T>>();
+        for (int i = 0; i < items.size(); i++) {
+            groups.computeIfAbsent(root(parents, i), r -> new ArrayList<>()).add(items.get(i));
+        }
+
+        return groups.values().stream().filter(group -> group.size() > 1).toList();
+    }
+
+    private static int root(int[] parents, int i) {
+        while (parents[i] != i) {
+            parents[i] = parents[parents[i]];
+            i = parents[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parents, int i, int j) {
+        parents[root(parents, j)] = root(parents, i);
     }
 
     /**
@@ -57,7 +170,11 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
      */
     public boolean containsIdentity(T toCheck, T ignore) {
         requireNonNull(toCheck);
-        return internalList.stream().filter(obj -> !obj.equals(ignore)).anyMatch(toCheck::hasSameIdentity);
+        if (!isIndexed()) {
+            return internalList.stream().filter(obj -> !obj.equals(ignore)).anyMatch(toCheck::hasSameIdentity);
+        }
+
+        return lookup(toCheck).anyMatch(obj -> !obj.equals(ignore));
     }
 
     public boolean containsIdentity(T toCheck) {
@@ -70,15 +187,25 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
      */
     public void setAll(List<T> items) throws DuplicateItemException {
         requireAllNonNull(items);
-        if (!areItemsUnique(items)) {
-            throw new DuplicateItemException();
+        var duplicates = findDuplicateGroups(items);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateItemException("Duplicate items: %s".formatted(duplicates));
         }
 
-        internalList.setAll(items);
+        replaceContents(items);
     }
 
-    public void setAll(UniqueList<T> replacement) throws DuplicateItemException {
-        setAll(replacement.internalList);
+    /**
+     * Replaces the contents of this list with {@code replacement}, which is
+     * already known to be unique.
+     */
+    public void setAll(UniqueList<T> replacement) {
+        replaceContents(replacement.internalList);
+    }
+
+    private void replaceContents(List<T> items) {
+        internalList.setAll(items);
+        reindex();
     }
 
     /**
@@ -88,11 +215,59 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Starts grouping mutations, so that listeners are notified once when the
+     * outermost transaction is committed. Transactions may be nested, but are not
+     * rolled back on failure.
+     */
+    public void beginTransaction() {
+        internalList.beginTransaction();
+    }
+
+    /**
+     * Publishes the mutations made since the matching {@link #beginTransaction()}
+     * as a single change.
+     *
+     * @throws IllegalStateException
+     *             if no transaction is open
+     */
+    public void commitTransaction() {
+        internalList.commitTransaction();
+    }
+
     /**
      * Returns specified object in the list
      */
     public Optional<T> find(T obj) {
-        return internalList.stream().filter(x -> x.hasSameIdentity(obj)).findAny();
+        if (!isIndexed()) {
+            return internalList.stream().filter(x -> x.hasSameIdentity(obj)).findAny();
+        }
+
+        return obj == null ? Optional.empty() : lookup(obj).findFirst();
+    }
+
+    /**
+     * Returns true if {@code item} itself is in the list, comparing by reference.
+     */
+    public boolean containsItem(T item) {
+        if (!isIndexed()) {
+            return internalList.stream().anyMatch(x -> x == item);
+        }
+
+        return entries.containsKey(item);
+    }
+
+    /**
+     * Returns the item whose {@code identityKey} equals {@code key}.
+     * {@code identityKey} must be one of the keys the list is indexed by.
+     */
+    public Optional<T> findByKey(IdentityKey<T> identityKey, Object key) {
+        int i = identityKeys.indexOf(identityKey);
+        if (i == -1) {
+            throw new IllegalArgumentException("List is not indexed by %s".formatted(identityKey));
+        }
+
+        return Optional.ofNullable(indexes.get(i).get(key));
     }
 
     /**
@@ -100,17 +275,95 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
      * the list.
      */
     public boolean remove(T toRemove) {
-        return internalList.removeIf(t -> t.hasSameIdentity(toRemove));
+        if (!isIndexed()) {
+            return internalList.removeIf(t -> t.hasSameIdentity(toRemove));
+        }
+
+        var existing = find(toRemove);
+        return existing.isPresent() && remove((Object) existing.get());
     }
 
     @Override
     public T remove(int i) {
-        return internalList.remove(i);
+        var removed = internalList.remove(i);
+        unindex(removed);
+        updatePositionsFrom(i);
+        return removed;
     }
 
     @Override
     public boolean remove(Object o) {
-        return internalList.remove(o);
+        int index = indexOf(o);
+        if (index == -1) {
+            return false;
+        }
+
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Returns the items in the group {@code key} of {@code groupKey}, in list
+     * order. {@code groupKey} must be one of the keys the list is grouped by.
+     */
+    public List<T> findGroup(GroupKey<T> groupKey, Object key) {
+        int i = groupKeys.indexOf(groupKey);
+        if (i == -1) {
+            throw new IllegalArgumentException("List is not grouped by %s".formatted(groupKey));
+        }
+
+        return groups.get(i).getOrDefault(key, Set.of()).stream()
+                        .sorted(Comparator.comparingInt(item -> entries.get(item).position)).toList();
+    }
+
+    /**
+     * Returns true if {@code item} is in the list and in the group {@code key} of
+     * {@code groupKey}. The keys the item was last indexed under are looked up,
+     * rather than computed again. {@code groupKey} must be one of the keys the
+     * list is grouped by.
+     */
+    public boolean isInGroup(T item, GroupKey<T> groupKey, Object key) {
+        int i = groupKeys.indexOf(groupKey);
+        if (i == -1) {
+            throw new IllegalArgumentException("List is not grouped by %s".formatted(groupKey));
+        }
+
+        var entry = entries.get(item);
+        return entry != null && entry.groupKeys.get(i).contains(key);
+    }
+
+    /**
+     * Removes every item in {@code items} from the list, comparing by reference.
+     * The list is traversed once, and a single change is published.
+     */
+    public boolean removeItems(Collection<T> items) {
+        requireNonNull(items);
+        var toRemove = Collections.newSetFromMap(new IdentityHashMap<T, Boolean>());
+        toRemove.addAll(items);
+
+        if (!isIndexed()) {
+            return internalList.removeAll(toRemove);
+        }
+
+        toRemove.removeIf(item -> !entries.containsKey(item));
+        if (toRemove.isEmpty()) {
+            return false;
+        }
+
+        int firstPosition = toRemove.stream().mapToInt(item -> entries.get(item).position).min().orElseThrow();
+        toRemove.forEach(this::unindex);
+        internalList.removeAll(toRemove);
+        updatePositionsFrom(firstPosition);
+        return true;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        var isChanged = internalList.removeIf(filter);
+        if (isChanged) {
+            reindex();
+        }
+        return isChanged;
     }
 
     @Override
@@ -130,17 +383,26 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
 
     @Override
     public boolean removeAll(Collection<?> collection) {
-        return internalList.removeAll(collection);
+        var isChanged = internalList.removeAll(collection);
+        if (isChanged) {
+            reindex();
+        }
+        return isChanged;
     }
 
     @Override
     public boolean retainAll(Collection<?> collection) {
-        return internalList.retainAll(collection);
+        var isChanged = internalList.retainAll(collection);
+        if (isChanged) {
+            reindex();
+        }
+        return isChanged;
     }
 
     @Override
     public void clear() {
         internalList.clear();
+        reindex();
     }
 
     @Override
@@ -160,7 +422,7 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
 
     @Override
     public Iterator<T> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -205,7 +467,7 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
     public void set(T oldItem, T newItem) throws DuplicateItemException, ItemNotFoundException {
         requireAllNonNull(oldItem, newItem);
 
-        int index = internalList.indexOf(oldItem);
+        int index = indexOf(oldItem);
         if (index == -1) {
             throw new ItemNotFoundException();
         }
@@ -214,7 +476,9 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
             throw new DuplicateItemException();
         }
 
+        unindex(internalList.get(index));
         internalList.set(index, newItem);
+        index(newItem, index);
     }
 
     @Override
@@ -231,6 +495,8 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
         if (containsIdentity(toAdd)) {
             return false;
         }
+
+        index(toAdd, internalList.size());
         return internalList.add(toAdd);
     }
 
@@ -241,7 +507,8 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
 
     @Override
     public int indexOf(Object o) {
-        return internalList.indexOf(o);
+        var entry = entries.get(o);
+        return entry != null ? entry.position : internalList.indexOf(o);
     }
 
     @Override
@@ -251,21 +518,118 @@ public class UniqueList<T extends Identifiable<T>> implements List<T> {
 
     @Override
     public ListIterator<T> listIterator() {
-        return internalList.listIterator();
+        return internalUnmodifiableList.listIterator();
     }
 
     @Override
     public ListIterator<T> listIterator(int i) {
-        return internalList.listIterator(i);
+        return internalUnmodifiableList.listIterator(i);
     }
 
     @Override
     public List<T> subList(int i, int i1) {
-        return internalList.subList(i, i1);
+        return internalUnmodifiableList.subList(i, i1);
     }
 
     @Override
     public String toString() {
         return internalList.toString();
     }
+
+    private boolean isIndexed() {
+        return !identityKeys.isEmpty();
+    }
+
+    /**
+     * Returns the items in the list sharing at least one identity key with
+     * {@code item}. The item itself is included if it is in the list, even if it
+     * was mutated elsewhere without being re-indexed.
+     */
+    private Stream<T> lookup(T item) {
+        var self = entries.containsKey(item) ? Stream.of(item) : Stream.<T>empty();
+        var matches = IntStream.range(0, identityKeys.size())
+                        .mapToObj(i -> indexes.get(i).get(identityKeys.get(i).of(item))).filter(Objects::nonNull)
+                        .filter(item::hasSameIdentity);
+        return Stream.concat(self, matches);
+    }
+
+    private void index(T item, int position) {
+        if (!isIndexed()) {
+            return;
+        }
+
+        var entry = new IndexEntry(position);
+        for (int i = 0; i < identityKeys.size(); i++) {
+            var key = identityKeys.get(i).of(item);
+            indexes.get(i).put(key, item);
+            entry.keys.add(key);
+        }
+        for (int i = 0; i < groupKeys.size(); i++) {
+            var keys = List.copyOf(groupKeys.get(i).of(item));
+            for (var key : keys) {
+                groups.get(i).computeIfAbsent(key, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(item);
+            }
+            entry.groupKeys.add(keys);
+        }
+        entries.put(item, entry);
+    }
+
+    private void unindex(T item) {
+        var entry = entries.remove(item);
+        if (entry == null) {
+            return;
+        }
+
+        for (int i = 0; i < entry.keys.size(); i++) {
+            var keyIndex = indexes.get(i);
+            if (keyIndex.get(entry.keys.get(i)) == item) {
+                keyIndex.remove(entry.keys.get(i));
+            }
+        }
+        for (int i = 0; i < entry.groupKeys.size(); i++) {
+            var groupIndex = groups.get(i);
+            for (var key : entry.groupKeys.get(i)) {
+                var group = groupIndex.get(key);
+                if (group != null && group.remove(item) && group.isEmpty()) {
+                    groupIndex.remove(key);
+                }
+            }
+        }
+    }
+
+    private void updatePositionsFrom(int start) {
+        if (!isIndexed()) {
+            return;
+        }
+
+        for (int i = start; i < internalList.size(); i++) {
+            entries.get(internalList.get(i)).position = i;
+        }
+    }
+
+    private void reindex() {
+        if (!isIndexed()) {
+            return;
+        }
+
+        indexes.forEach(Map::clear);
+        groups.forEach(Map::clear);
+        entries.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            index(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Keys that an item was indexed with, and its position in the list
+     */
+    private static class IndexEntry {
+        private final List<Object> keys = new ArrayList<>();
+        private final List<List<?>> groupKeys = new ArrayList<>();
+        private int position;
+
+        IndexEntry(int position) {
+            this.position = position;
+        }
+    }
 }
@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.storage.binary.BinaryAddressBookStorage;
+import seedu.address.storage.database.DatabaseAddressBookStorage;
+import seedu.address.storage.json.JsonAddressBookStorage;
+import seedu.address.storage.json.ShardedAddressBookStorage;
+
+/**
+ * Converts address book files between storage formats.
+ * <p>
+ * Can be run on its own, with the paths of the source and target files as
+ * arguments. The format of each file is picked from its extension, see
+ * {@link #forPath(Path)}.
+ */
+public final class AddressBookConverter {
+
+    private AddressBookConverter() {
+    }
+
+    /**
+     * Returns a storage for the file at {@code filePath}, which is binary if its
+     * name ends with {@link BinaryAddressBookStorage#FILE_EXTENSION}, a database
+     * if it ends with {@link DatabaseAddressBookStorage#FILE_EXTENSION}, sharded
+     * if it is {@link ShardedAddressBookStorage#MANIFEST_FILE_NAME} and JSON
+     * otherwise.
+     */
+    public static AddressBookStorage forPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (fileName.equals(ShardedAddressBookStorage.MANIFEST_FILE_NAME)) {
+            return new ShardedAddressBookStorage(filePath);
+        }
+        if (fileName.endsWith(BinaryAddressBookStorage.FILE_EXTENSION)) {
+            return new BinaryAddressBookStorage(filePath);
+        }
+        if (fileName.endsWith(DatabaseAddressBookStorage.FILE_EXTENSION)) {
+            return new DatabaseAddressBookStorage(filePath);
+        }
+        return new JsonAddressBookStorage(filePath);
+    }
+
+    /**
+     * Copies the address book in {@code source} to {@code target}.
+     *
+     * @return false if there is no address book in {@code source}
+     * @throws DataLoadingException
+     *             if the address book in {@code source} cannot be read
+     * @throws IOException
+     *             if the address book cannot be written to {@code target}
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+                    throws DataLoadingException, IOException {
+        var addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+
+        target.saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Converts the file at {@code args[0]} into the file at {@code args[1]}.
+     */
+    public static void main(String[] args) throws DataLoadingException, IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: AddressBookConverter <source file> <target file>");
+            System.exit(1);
+        }
+
+        Path source = Paths.get(args[0]);
+        Path target = Paths.get(args[1]);
+        if (!convert(forPath(source), forPath(target))) {
+            System.err.println("File not found: " + source);
+            System.exit(1);
+        }
+    }
+}
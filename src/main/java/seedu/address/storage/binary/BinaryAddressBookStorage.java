@@ -0,0 +1,324 @@
+package seedu.address.storage.binary;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.WeekRange;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.Submission;
+import seedu.address.model.submission.SubmissionStatus;
+import seedu.address.model.tutorial.Assignment;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.json.JsonAdaptedStudent;
+import seedu.address.storage.json.JsonAdaptedTutorial;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the
+ * hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC} and the version of the format, followed
+ * by the tutorials with their assignments, the students, the attendances and
+ * the submissions. Each list is prefixed with its length, and each string with
+ * its length in bytes of UTF-8. Records refer to tutorials, assignments and
+ * students by their position in the file, so names are written only once.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+    /** Usual extension of binary address book files */
+    public static final String FILE_EXTENSION = ".bin";
+
+    /** First bytes of every binary address book file, "TBKB" */
+    static final int MAGIC = 0x54424b42;
+    /** Version of the format that is written */
+    static final int CURRENT_VERSION = 1;
+
+    static final String MESSAGE_NOT_BINARY = "Not a binary address book file";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported version %d of binary address book file";
+    static final String MESSAGE_INVALID_REFERENCE = "Reference to missing %s %d";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary file holding the same data as the file at
+     * {@code filePath}, by replacing its extension with {@link #FILE_EXTENSION}.
+     */
+    public static Path getBinaryPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath
+     *            location of the data. Cannot be null.
+     * @throws DataLoadingException
+     *             if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(read(in));
+        } catch (IOException | IllegalValueException | IllegalArgumentException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath
+     *            location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+            write(addressBook, out);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+        FileUtil.replaceFile(tempPath, filePath);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the format described above.
+     */
+    static void write(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(CURRENT_VERSION);
+
+        List<Tutorial> tutorials = addressBook.getTutorialList();
+        Map<String, Integer> tutorialIndices = new HashMap<>();
+        Map<Object, Integer> assignmentIndices = new HashMap<>();
+        out.writeInt(tutorials.size());
+        for (var tutorial : tutorials) {
+            tutorialIndices.put(tutorial.name(), tutorialIndices.size());
+            writeString(out, tutorial.name());
+            out.writeInt(tutorial.assignments().size());
+            for (var assignment : tutorial.assignments()) {
+                assignmentIndices.put(Submission.assignmentKey(assignment), assignmentIndices.size());
+                writeString(out, assignment.name());
+                out.writeBoolean(assignment.dueDate().isPresent());
+                if (assignment.dueDate().isPresent()) {
+                    LocalDateTime dueDate = assignment.dueDate().get();
+                    out.writeLong(dueDate.toEpochSecond(ZoneOffset.UTC));
+                    out.writeInt(dueDate.getNano());
+                }
+            }
+        }
+
+        List<Student> students = addressBook.getStudentList();
+        Map<Name, Integer> studentIndices = new HashMap<>();
+        out.writeInt(students.size());
+        for (var student : students) {
+            studentIndices.put(student.getName(), studentIndices.size());
+            writeString(out, student.getName().fullName);
+            writeString(out, student.getStudentId().id);
+            writeString(out, student.getPhone().value);
+            writeString(out, student.getEmail().value);
+            writeString(out, student.getHandle().handle);
+            writeString(out, student.getDetails().value);
+            out.writeInt(student.getTutorials().size());
+            for (var tutorial : student.getTutorials()) {
+                out.writeInt(tutorialIndices.get(tutorial.name()));
+            }
+        }
+
+        List<Attendance> attendances = addressBook.getAttendanceList();
+        out.writeInt(attendances.size());
+        for (var attendance : attendances) {
+            out.writeInt(tutorialIndices.get(attendance.tutorial().name()));
+            out.writeInt(studentIndices.get(attendance.student().getName()));
+            out.writeInt(attendance.weeks().firstWeek());
+            out.writeInt(attendance.weeks().numberOfWeeks());
+            out.writeLong(attendance.presence());
+        }
+
+        List<Submission> submissions = addressBook.getSubmissionList();
+        out.writeInt(submissions.size());
+        for (var submission : submissions) {
+            out.writeInt(assignmentIndices.get(Submission.assignmentKey(submission.assignment())));
+            out.writeInt(studentIndices.get(submission.student().getName()));
+            out.writeByte(submission.status().ordinal());
+        }
+    }
+
+    /**
+     * Reads an address book written by {@link #write}.
+     */
+    static AddressBook read(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        int version = in.readInt();
+        if (version != CURRENT_VERSION) {
+            throw new IllegalValueException(MESSAGE_UNSUPPORTED_VERSION.formatted(version));
+        }
+
+        AddressBookBuilder builder = new AddressBookBuilder();
+
+        int tutorialCount = readCount(in);
+        List<Tutorial> tutorials = new ArrayList<>();
+        List<Assignment> assignments = new ArrayList<>();
+        for (int i = 0; i < tutorialCount; i++) {
+            var tutorial = new JsonAdaptedTutorial(readString(in)).toModelType();
+            tutorials.add(tutorial);
+            builder.addTutorial(tutorial);
+
+            int assignmentCount = readCount(in);
+            for (int j = 0; j < assignmentCount; j++) {
+                String name = readString(in);
+                Optional<LocalDateTime> dueDate = in.readBoolean()
+                                ? Optional.of(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC))
+                                : Optional.empty();
+                var assignment = new Assignment(name, dueDate, tutorial);
+                assignments.add(assignment);
+                builder.addAssignment(assignment);
+            }
+        }
+
+        int studentCount = readCount(in);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            String name = readString(in);
+            String studentId = readString(in);
+            String phone = readString(in);
+            String email = readString(in);
+            String handle = readString(in);
+            String details = readString(in);
+            int studentTutorialCount = readCount(in);
+            List<JsonAdaptedTutorial> studentTutorials = new ArrayList<>();
+            for (int j = 0; j < studentTutorialCount; j++) {
+                studentTutorials.add(new JsonAdaptedTutorial(get(tutorials, in.readInt(), "tutorial").name()));
+            }
+
+            var student = new JsonAdaptedStudent(name, studentId, phone, email, handle, details, studentTutorials)
+                            .toModelType();
+            students.add(student);
+            builder.addStudent(student);
+        }
+
+        int attendanceCount = readCount(in);
+        for (int i = 0; i < attendanceCount; i++) {
+            var tutorial = get(tutorials, in.readInt(), "tutorial");
+            var student = get(students, in.readInt(), "student");
+            var weeks = new WeekRange(in.readInt(), in.readInt());
+            builder.addAttendance(tutorial.name(), student.getName(), weeks, in.readLong());
+        }
+
+        int submissionCount = readCount(in);
+        SubmissionStatus[] statuses = SubmissionStatus.values();
+        for (int i = 0; i < submissionCount; i++) {
+            var assignment = get(assignments, in.readInt(), "assignment");
+            var student = get(students, in.readInt(), "student");
+            var status = get(List.of(statuses), in.readByte(), "status");
+            builder.addSubmission(assignment.tutorial().name(), assignment.name(), student.getName(), status);
+        }
+
+        AddressBook addressBook = builder.build();
+
+        assert addressBook.check();
+
+        return addressBook;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readCount(in);
+        // Read in chunks, so that a damaged length does not allocate a huge array
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException();
+        }
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Reads the length of a list or string.
+     *
+     * @throws EOFException
+     *             if the length is negative, which can only come from a damaged
+     *             file
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new EOFException("Negative length " + count);
+        }
+        return count;
+    }
+
+    private static <T> T get(List<T> items, int index, String kind) throws IllegalValueException {
+        if (index < 0 || index >= items.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_REFERENCE.formatted(kind, index));
+        }
+        return items.get(index);
+    }
+}
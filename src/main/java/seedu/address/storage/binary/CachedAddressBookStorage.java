@@ -0,0 +1,242 @@
+package seedu.address.storage.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.json.JournalAddressBookStorage;
+
+/**
+ * Wraps another {@code AddressBookStorage} with a binary cache of its data
+ * file, so that an unchanged file does not need to be parsed again at startup.
+ * <p>
+ * The cache starts with {@link #MAGIC}, the version of the cache, the size and
+ * CRC32C checksum of the data file it was made from, and the time it took to
+ * read that file, followed by the address book in the format of
+ * {@link BinaryAddressBookStorage}. It is written by {@link #saveCache()} on a
+ * clean shutdown and used by {@link #readAddressBook()} only while the data
+ * file still has the same size and checksum.
+ */
+public class CachedAddressBookStorage implements AddressBookStorage {
+    /** Suffix added to the name of the data file to name its cache */
+    public static final String CACHE_SUFFIX = ".cache";
+
+    /** First bytes of every cache file, "TBKC" */
+    static final int MAGIC = 0x54424b43;
+    /** Version of the cache that is written */
+    static final int CURRENT_VERSION = 1;
+
+    private static final int HEADER_SIZE = 32;
+    private static final int CHECKSUM_BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(CachedAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final Path cachePath;
+
+    /** Address book in the data file, or null if it is not known */
+    private ReadOnlyAddressBook current;
+    /** Whether the cache holds {@link #current} */
+    private boolean isCacheCurrent;
+    /** Time taken to parse the data file without the cache, or -1 if not known */
+    private long parseMillis = -1;
+
+    /**
+     * Creates a storage reading and writing through {@code storage}, with its
+     * cache at {@code cachePath}.
+     */
+    public CachedAddressBookStorage(AddressBookStorage storage, Path cachePath) {
+        requireNonNull(storage);
+        requireNonNull(cachePath);
+        this.storage = storage;
+        this.cachePath = cachePath;
+    }
+
+    /**
+     * Returns the path of the cache for the data file at {@code filePath}.
+     */
+    public static Path getCachePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CACHE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    public Path getCacheFilePath() {
+        return cachePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        Path filePath = storage.getAddressBookFilePath();
+        // The journal holds changes that the checksum of the data file does not cover
+        if (Files.exists(filePath) && !JournalAddressBookStorage.hasJournal(filePath)) {
+            Optional<ReadOnlyAddressBook> cached = readCache(filePath);
+            if (cached.isPresent()) {
+                current = cached.get();
+                isCacheCurrent = true;
+                return cached;
+            }
+        }
+
+        long start = System.nanoTime();
+        Optional<ReadOnlyAddressBook> addressBook = storage.readAddressBook();
+        parseMillis = (System.nanoTime() - start) / 1_000_000;
+        current = addressBook.orElse(null);
+        isCacheCurrent = false;
+        return addressBook;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        current = null;
+        isCacheCurrent = false;
+        storage.saveAddressBook(addressBook);
+        current = addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Writes the cache for the data file, if the address book in the file is
+     * known and the cache does not hold it already. Should only be called once
+     * no more saves are pending, as the data file must not change during the
+     * call.
+     *
+     * @throws IOException
+     *             if the cache could not be written, in which case the previous
+     *             cache is left in place
+     */
+    public void saveCache() throws IOException {
+        Path filePath = storage.getAddressBookFilePath();
+        if (current == null || isCacheCurrent || !Files.exists(filePath)) {
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(cachePath);
+        Path tempPath = cachePath.resolveSibling(cachePath.getFileName() + ".tmp");
+        try (FileChannel file = FileChannel.open(filePath, StandardOpenOption.READ);
+                        var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(CURRENT_VERSION);
+            out.writeLong(file.size());
+            out.writeLong(checksum(file));
+            out.writeLong(parseMillis);
+            BinaryAddressBookStorage.write(current, out);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+        FileUtil.replaceFile(tempPath, cachePath);
+        isCacheCurrent = true;
+    }
+
+    /**
+     * Returns the address book in the cache, or an empty result if the cache is
+     * missing, damaged, or was made from a different data file.
+     */
+    private Optional<ReadOnlyAddressBook> readCache(Path filePath) {
+        if (!Files.exists(cachePath)) {
+            return Optional.empty();
+        }
+
+        long start = System.nanoTime();
+        try (FileChannel file = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            // Read rather than mapped, as the mapping would outlive this method, and a
+            // mapped cache cannot be replaced by saveCache on some platforms
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(cachePath));
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != CURRENT_VERSION) {
+                logger.info("Ignoring unknown startup cache " + cachePath);
+                return Optional.empty();
+            }
+            if (buffer.getLong() != file.size() || buffer.getLong() != checksum(file)) {
+                logger.info("Data file " + filePath + " changed since the startup cache was written");
+                return Optional.empty();
+            }
+            parseMillis = buffer.getLong();
+
+            var addressBook = BinaryAddressBookStorage.read(new DataInputStream(new BufferInputStream(buffer)));
+            long loadMillis = (System.nanoTime() - start) / 1_000_000;
+            logger.info(parseMillis < 0
+                            ? "Loaded %s from startup cache in %d ms".formatted(filePath, loadMillis)
+                            : "Loaded %s from startup cache in %d ms instead of %d ms, saving %d ms"
+                                            .formatted(filePath, loadMillis, parseMillis, parseMillis - loadMillis));
+            return Optional.of(addressBook);
+        } catch (IOException | IllegalValueException | IllegalArgumentException e) {
+            logger.warning("Ignoring damaged startup cache " + cachePath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the CRC32C checksum of the whole of {@code file}.
+     */
+    private static long checksum(FileChannel file) throws IOException {
+        // Read rather than mapped, as a mapped data file cannot be replaced on some platforms
+        var crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CHECKSUM_BUFFER_SIZE);
+        file.position(0);
+        while (file.read(buffer) >= 0) {
+            crc.update(buffer.flip());
+            buffer.clear();
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Reads the remaining bytes of a buffer.
+     */
+    private static class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.storage.csv;
+
+import java.util.List;
+
+import seedu.address.model.attendance.Attendance;
+
+/**
+ * CSV-friendly version of {@link Attendance}. The attendance of each week is
+ * {@code 1} if present and {@code 0} if absent, as in the data file.
+ */
+public class CsvAdaptedAttendance implements CsvRecord {
+
+    public static final List<String> HEADER = List.of("NAME", "TUTORIAL", "FIRSTWEEK", "NUMBEROFWEEKS",
+                    "ATTENDANCES");
+
+    private static final String WEEKS_SEPARATOR = ";";
+
+    private final String name;
+    private final String tutorial;
+    private final int firstWeek;
+    private final int numberOfWeeks;
+    private final long presence;
+
+    /**
+     * Converts a given {@code Attendance} into this class for CSV use.
+     */
+    public CsvAdaptedAttendance(Attendance source) {
+        this.name = source.student().getName().fullName;
+        this.tutorial = source.tutorial().name();
+        this.firstWeek = source.weeks().firstWeek();
+        this.numberOfWeeks = source.weeks().numberOfWeeks();
+        this.presence = source.presence();
+    }
+
+    @Override
+    public List<String> toRow() {
+        var attendances = new StringBuilder();
+        for (int i = 0; i < numberOfWeeks; i++) {
+            if (i > 0) {
+                attendances.append(WEEKS_SEPARATOR);
+            }
+            attendances.append(presence >>> i & 1);
+        }
+        return List.of(name, tutorial, String.valueOf(firstWeek), String.valueOf(numberOfWeeks),
+                        attendances.toString());
+    }
+}
@@ -1,31 +1,34 @@
 package seedu.address.storage.csv;
 
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import com.opencsv.bean.CsvBindByName;
-
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.student.Student;
 import seedu.address.model.tutorial.Tutorial;
+import seedu.address.storage.json.JsonAdaptedStudent;
+import seedu.address.storage.json.JsonAdaptedTutorial;
 
 /**
- * CSV-friendly version of {@link Student}.
+ * CSV-friendly version of {@link Student}. Files that are read may also have a
+ * {@code DETAILS} column, which is not written.
  */
-public class CsvAdaptedStudent {
+public class CsvAdaptedStudent implements CsvRecord {
+
+    public static final List<String> HEADER = List.of("EMAIL", "HANDLE", "ID", "NAME", "PHONE", "TUTORIALS");
+    public static final List<String> REQUIRED_COLUMNS = List.of("EMAIL", "HANDLE", "ID", "NAME", "PHONE");
 
     private static final String TUTORIALS_SEPARATOR = ";"; // Used to separate multiple tutorials in a CSV field
 
-    @CsvBindByName
     private final String name;
-    @CsvBindByName
     private final String id;
-    @CsvBindByName
     private final String phone;
-    @CsvBindByName
     private final String email;
-    @CsvBindByName
     private final String handle;
-    @CsvBindByName
     private final String tutorials;
+    private final String details;
 
     /**
      * Converts a given {@code Student} into this class for CSV use.
@@ -37,6 +40,21 @@ public class CsvAdaptedStudent {
         this.email = source.getEmail().value;
         this.handle = source.getHandle().handle;
         this.tutorials = joinTutorials(source);
+        this.details = source.getDetails().value;
+    }
+
+    /**
+     * Constructs a {@code CsvAdaptedStudent} from a row read from a CSV file,
+     * which maps column names to fields.
+     */
+    public CsvAdaptedStudent(Map<String, String> row) {
+        this.name = strip(row.get("NAME"));
+        this.id = strip(row.get("ID"));
+        this.phone = strip(row.get("PHONE"));
+        this.email = strip(row.get("EMAIL"));
+        this.handle = strip(row.get("HANDLE"));
+        this.tutorials = row.getOrDefault("TUTORIALS", "");
+        this.details = row.getOrDefault("DETAILS", "");
     }
 
     /**
@@ -68,4 +86,28 @@ public class CsvAdaptedStudent {
         return source.getTutorials().stream().map(Tutorial::toString).collect(Collectors.joining(TUTORIALS_SEPARATOR));
     }
 
+    /**
+     * Converts this CSV-friendly adapted student into the model's {@code Student}
+     * object, enrolled in the tutorials named in the row.
+     *
+     * @throws IllegalValueException
+     *             if there were any data constraints violated in the adapted
+     *             student.
+     */
+    public Student toModelType() throws IllegalValueException {
+        List<JsonAdaptedTutorial> studentTutorials = Stream.of(tutorials.split(TUTORIALS_SEPARATOR))
+                        .map(String::strip).filter(tutorial -> !tutorial.isEmpty()).map(JsonAdaptedTutorial::new)
+                        .toList();
+        return new JsonAdaptedStudent(name, id, phone, email, handle, details, studentTutorials).toModelType();
+    }
+
+    private static String strip(String field) {
+        return field == null ? null : field.strip();
+    }
+
+    @Override
+    public List<String> toRow() {
+        return List.of(email, handle, id, name, phone, tutorials);
+    }
+
 }
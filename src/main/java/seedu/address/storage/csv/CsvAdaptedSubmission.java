@@ -0,0 +1,33 @@
+package seedu.address.storage.csv;
+
+import java.util.List;
+
+import seedu.address.model.submission.Submission;
+
+/**
+ * CSV-friendly version of {@link Submission}.
+ */
+public class CsvAdaptedSubmission implements CsvRecord {
+
+    public static final List<String> HEADER = List.of("NAME", "TUTORIAL", "ASSIGNMENT", "STATUS");
+
+    private final String name;
+    private final String tutorial;
+    private final String assignment;
+    private final String status;
+
+    /**
+     * Converts a given {@code Submission} into this class for CSV use.
+     */
+    public CsvAdaptedSubmission(Submission source) {
+        this.name = source.student().getName().fullName;
+        this.tutorial = source.assignment().tutorial().name();
+        this.assignment = source.assignment().name();
+        this.status = source.status().name();
+    }
+
+    @Override
+    public List<String> toRow() {
+        return List.of(name, tutorial, assignment, status);
+    }
+}
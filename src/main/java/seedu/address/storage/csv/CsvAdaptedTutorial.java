@@ -1,15 +1,16 @@
 package seedu.address.storage.csv;
 
-import com.opencsv.bean.CsvBindByName;
+import java.util.List;
 
 import seedu.address.model.tutorial.Tutorial;
 
 /**
  * CSV-friendly version of {@link Tutorial}.
  */
-public class CsvAdaptedTutorial {
+public class CsvAdaptedTutorial implements CsvRecord {
+
+    public static final List<String> HEADER = List.of("NAME");
 
-    @CsvBindByName
     private final String name;
 
     /**
@@ -32,4 +33,9 @@ public class CsvAdaptedTutorial {
     public String getName() {
         return name;
     }
+
+    @Override
+    public List<String> toRow() {
+        return List.of(name);
+    }
 }
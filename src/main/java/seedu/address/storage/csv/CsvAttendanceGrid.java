@@ -0,0 +1,92 @@
+package seedu.address.storage.csv;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.WeekRange;
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+
+/**
+ * Attendance of the students of a tutorial as a grid, with one row per student
+ * and one column per week. A cell is {@code 1} if the student was present,
+ * {@code 0} if absent, and empty if attendance was not taken for the student in
+ * that week.
+ * <p>
+ * Rows keep their attendance packed as in {@link Attendance}, and are only
+ * expanded into fields as they are written.
+ */
+public class CsvAttendanceGrid {
+
+    private final Map<Name, Row> rows = new LinkedHashMap<>();
+    private int firstWeek = Integer.MAX_VALUE;
+    private int lastWeek = Integer.MIN_VALUE;
+
+    /**
+     * Attendance of one student
+     */
+    private class Row implements CsvRecord {
+        private final String name;
+        private final String id;
+        private WeekRange weeks;
+        private long presence;
+
+        private Row(Student student) {
+            this.name = student.getName().fullName;
+            this.id = student.getStudentId().id;
+        }
+
+        @Override
+        public List<String> toRow() {
+            List<String> fields = new ArrayList<>(2 + Math.max(0, lastWeek - firstWeek + 1));
+            fields.add(name);
+            fields.add(id);
+            for (int week = firstWeek; week <= lastWeek; week++) {
+                fields.add(weeks == null || !weeks.contains(week) ? ""
+                                : String.valueOf(presence >>> weeks.indexOf(week) & 1));
+            }
+            return fields;
+        }
+    }
+
+    /**
+     * Adds a row for {@code student}, after the rows added before it.
+     */
+    public void addStudent(Student student) {
+        rows.putIfAbsent(student.getName(), new Row(student));
+    }
+
+    /**
+     * Fills the row of the student of {@code attendance}, adding columns for its
+     * weeks. Attendance of students without a row is ignored.
+     */
+    public void addAttendance(Attendance attendance) {
+        Row row = rows.get(attendance.student().getName());
+        if (row == null) {
+            return;
+        }
+        row.weeks = attendance.weeks();
+        row.presence = attendance.presence();
+        firstWeek = Math.min(firstWeek, row.weeks.firstWeek());
+        lastWeek = Math.max(lastWeek, row.weeks.lastWeek());
+    }
+
+    /**
+     * Returns the column names, which are {@code NAME}, {@code ID}, and
+     * {@code W} followed by the number of each week.
+     */
+    public List<String> getHeader() {
+        List<String> header = new ArrayList<>(List.of("NAME", "ID"));
+        for (int week = firstWeek; week <= lastWeek; week++) {
+            header.add("W" + week);
+        }
+        return header;
+    }
+
+    public List<CsvRecord> getRows() {
+        return List.copyOf(rows.values());
+    }
+}
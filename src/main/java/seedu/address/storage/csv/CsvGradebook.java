@@ -0,0 +1,104 @@
+package seedu.address.storage.csv;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.student.Name;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.Submission;
+import seedu.address.model.submission.SubmissionStatus;
+import seedu.address.model.tutorial.Assignment;
+
+/**
+ * Submissions of the students of a tutorial as a grid, with one row per
+ * student and one column per assignment of the tutorial. A cell holds the
+ * status of the submission, or is empty if the student has none.
+ * <p>
+ * Rows keep one byte per assignment, and are only expanded into fields as they
+ * are written.
+ */
+public class CsvGradebook {
+
+    private static final SubmissionStatus[] STATUSES = SubmissionStatus.values();
+    private static final byte NO_SUBMISSION = -1;
+
+    private final List<String> assignmentNames = new ArrayList<>();
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final Map<Name, Row> rows = new LinkedHashMap<>();
+
+    /**
+     * Submission statuses of one student
+     */
+    private static class Row implements CsvRecord {
+        private final String name;
+        private final String id;
+        private final byte[] statuses;
+
+        private Row(Student student, int numberOfAssignments) {
+            this.name = student.getName().fullName;
+            this.id = student.getStudentId().id;
+            this.statuses = new byte[numberOfAssignments];
+            Arrays.fill(statuses, NO_SUBMISSION);
+        }
+
+        @Override
+        public List<String> toRow() {
+            List<String> fields = new ArrayList<>(2 + statuses.length);
+            fields.add(name);
+            fields.add(id);
+            for (byte status : statuses) {
+                fields.add(status == NO_SUBMISSION ? "" : STATUSES[status].name());
+            }
+            return fields;
+        }
+    }
+
+    /**
+     * Creates a gradebook with a column for each of {@code assignments}, in
+     * order.
+     */
+    public CsvGradebook(List<Assignment> assignments) {
+        for (Assignment assignment : assignments) {
+            columns.put(assignment.name(), assignmentNames.size());
+            assignmentNames.add(assignment.name());
+        }
+    }
+
+    /**
+     * Adds a row for {@code student}, after the rows added before it.
+     */
+    public void addStudent(Student student) {
+        rows.putIfAbsent(student.getName(), new Row(student, assignmentNames.size()));
+    }
+
+    /**
+     * Fills the cell of {@code submission}. Submissions of students without a
+     * row, or of assignments without a column, are ignored.
+     */
+    public void addSubmission(Submission submission) {
+        Row row = rows.get(submission.student().getName());
+        Integer column = columns.get(submission.assignment().name());
+        if (row == null || column == null) {
+            return;
+        }
+        row.statuses[column] = (byte) submission.status().ordinal();
+    }
+
+    /**
+     * Returns the column names, which are {@code NAME}, {@code ID}, and the name
+     * of each assignment.
+     */
+    public List<String> getHeader() {
+        List<String> header = new ArrayList<>(List.of("NAME", "ID"));
+        header.addAll(assignmentNames);
+        return header;
+    }
+
+    public List<CsvRecord> getRows() {
+        return List.copyOf(rows.values());
+    }
+}
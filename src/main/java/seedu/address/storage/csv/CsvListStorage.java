@@ -1,45 +1,145 @@
 package seedu.address.storage.csv;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongConsumer;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVWriter;
+import com.opencsv.exceptions.CsvValidationException;
 
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 
 /**
- * Handles storage of a list of objects in CSV format.
+ * Handles storage of a list of records in CSV format.
+ * <p>
+ * Rows are written one at a time as they are converted, to a temporary file
+ * that replaces the CSV file once it is complete, so a failed or cancelled
+ * write leaves the previous file in place. Rows are read one at a time too,
+ * into maps from the column names in the header, which are not case-sensitive.
  */
-public class CsvListStorage<T> {
+public class CsvListStorage<T extends CsvRecord> {
+
+    public static final String MESSAGE_MISSING_COLUMNS = "CSV file is missing columns: %s";
+
+    /** Number of rows written between checks for cancellation */
+    private static final int CANCEL_CHECK_INTERVAL = 256;
 
     private static final Logger logger = LogsCenter.getLogger(CsvListStorage.class);
+
     private final Path filePath;
+    private final List<String> header;
 
-    public CsvListStorage(Path filePath) {
+    /**
+     * Creates a storage for the CSV file at {@code filePath}, which starts with
+     * the column names in {@code header}.
+     */
+    public CsvListStorage(Path filePath, List<String> header) {
         this.filePath = filePath;
+        this.header = List.copyOf(header);
     }
 
-    public void saveCsvList(List<T> csvList) throws IOException {
-        saveCsvList(csvList, filePath);
+    public Path getFilePath() {
+        return filePath;
     }
 
     /**
-     * Saves the list to a CSV file.
+     * Reads the rows of the CSV file, each as a map from the upper case column
+     * names in the header to the fields of the row. Columns that a row lacks are
+     * absent from its map.
      *
-     * @param filePath
-     *            location of the data. Cannot be null.
+     * @param requiredColumns
+     *            upper case names of the columns that the header must have
+     * @return the rows, or an empty result if the file does not exist
+     * @throws DataLoadingException
+     *             if the file could not be read, or lacks some of the
+     *             {@code requiredColumns}
      */
-    public void saveCsvList(List<T> csvList, Path filePath) throws IOException {
-        requireNonNull(csvList);
-        requireNonNull(filePath);
+    public Optional<List<Map<String, String>>> readCsvList(Collection<String> requiredColumns)
+                    throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (var reader = new CSVReader(Files.newBufferedReader(filePath, UTF_8))) {
+            String[] names = reader.readNext();
+            List<String> columns = names == null ? List.of()
+                            : Stream.of(names).map(name -> name.strip().toUpperCase(Locale.ROOT)).toList();
+            List<String> missingColumns = requiredColumns.stream().filter(name -> !columns.contains(name)).toList();
+            if (!missingColumns.isEmpty()) {
+                throw new IllegalValueException(MESSAGE_MISSING_COLUMNS.formatted(String.join(", ", missingColumns)));
+            }
 
-        FileUtil.createIfMissing(filePath);
+            List<Map<String, String>> rows = new ArrayList<>();
+            for (String[] fields = reader.readNext(); fields != null; fields = reader.readNext()) {
+                Map<String, String> row = new HashMap<>();
+                for (int i = 0; i < Math.min(fields.length, columns.size()); i++) {
+                    row.put(columns.get(i), fields[i]);
+                }
+                rows.add(row);
+            }
+            return Optional.of(rows);
+        } catch (IOException | CsvValidationException | IllegalValueException e) {
+            logger.warning("Error reading CSV file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    public void saveCsvList(List<? extends T> csvList) throws IOException {
+        saveCsvList(csvList, rows -> {});
+    }
+
+    /**
+     * Saves the list to the CSV file, passing the number of rows written so far
+     * to {@code progress} after each row.
+     *
+     * @throws InterruptedIOException
+     *             if the current thread was interrupted before all rows were
+     *             written
+     */
+    public void saveCsvList(List<? extends T> csvList, LongConsumer progress) throws IOException {
+        requireNonNull(csvList);
+        requireNonNull(progress);
 
-        CsvSerializableList<?> serializableList = new CsvSerializableList<>(csvList);
-        CsvUtil.saveCsvFile(serializableList, filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (var writer = new CSVWriter(Files.newBufferedWriter(tempPath, UTF_8))) {
+            writer.writeNext(header.toArray(String[]::new));
+            long written = 0;
+            for (T record : csvList) {
+                if (written % CANCEL_CHECK_INTERVAL == 0 && Thread.interrupted()) {
+                    throw new InterruptedIOException("Cancelled writing " + filePath);
+                }
+                writer.writeNext(record.toRow().toArray(String[]::new));
+                progress.accept(++written);
+            }
+            if (writer.checkError()) {
+                // Interrupting a write closes the file, so the cause is lost
+                throw Thread.interrupted() ? new InterruptedIOException("Cancelled writing " + filePath)
+                                : new IOException("Error writing CSV file " + filePath);
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tempPath);
+            throw e;
+        }
+        FileUtil.replaceFile(tempPath, filePath);
+        logger.fine("Wrote " + csvList.size() + " rows to " + filePath);
     }
 }
@@ -0,0 +1,14 @@
+package seedu.address.storage.csv;
+
+import java.util.List;
+
+/**
+ * A record that is written as one row of a CSV file.
+ */
+public interface CsvRecord {
+
+    /**
+     * Returns the fields of the row, in the order of the header of its file.
+     */
+    List<String> toRow();
+}
@@ -0,0 +1,477 @@
+package seedu.address.storage.database;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookBuilder;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.attendance.WeekRange;
+import seedu.address.model.student.Name;
+import seedu.address.model.submission.SubmissionStatus;
+import seedu.address.model.tutorial.Assignment;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.json.JsonAdaptedStudent;
+import seedu.address.storage.json.JsonAdaptedTutorial;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 database on the
+ * hard disk.
+ * <p>
+ * Each kind of record has its own table, keyed by the names that identify the
+ * record, and records refer to each other by those names. A save only writes
+ * the rows that changed since the previous save, and deletes the rows of
+ * records that were removed, in a single transaction. The order of tutorials,
+ * assignments and students in their lists is kept in a {@code list_index}
+ * column, whose values are spread apart so that adding, removing or editing a
+ * record does not move the other rows.
+ */
+public class DatabaseAddressBookStorage implements AddressBookStorage {
+    /** Extension of the files that H2 stores databases in */
+    public static final String FILE_EXTENSION = ".mv.db";
+
+    private static final Logger logger = LogsCenter.getLogger(DatabaseAddressBookStorage.class);
+
+    /** Distance between the list indices of rows added at the end of a list */
+    private static final long LIST_INDEX_GAP = 1L << 16;
+
+    private static final Table TUTORIALS = new Table("tutorials", 1, "list_index",
+                    new Column("name", "VARCHAR", String.class),
+                    new Column("list_index", "BIGINT", Long.class));
+    private static final Table ASSIGNMENTS = new Table("assignments", 2, "list_index",
+                    new Column("tutorial", "VARCHAR", String.class),
+                    new Column("name", "VARCHAR", String.class),
+                    new Column("due_date", "TIMESTAMP", LocalDateTime.class),
+                    new Column("list_index", "BIGINT", Long.class));
+    private static final Table STUDENTS = new Table("students", 1, "list_index",
+                    new Column("name", "VARCHAR", String.class),
+                    new Column("student_id", "VARCHAR", String.class),
+                    new Column("phone", "VARCHAR", String.class),
+                    new Column("email", "VARCHAR", String.class),
+                    new Column("handle", "VARCHAR", String.class),
+                    new Column("details", "VARCHAR", String.class),
+                    new Column("list_index", "BIGINT", Long.class));
+    private static final Table STUDENT_TUTORIALS = new Table("student_tutorials", 2, "student, tutorial",
+                    new Column("student", "VARCHAR", String.class),
+                    new Column("tutorial", "VARCHAR", String.class));
+    private static final Table ATTENDANCES = new Table("attendances", 2, "tutorial, student",
+                    new Column("tutorial", "VARCHAR", String.class),
+                    new Column("student", "VARCHAR", String.class),
+                    new Column("first_week", "INT", Integer.class),
+                    new Column("number_of_weeks", "INT", Integer.class),
+                    new Column("presence", "BIGINT", Long.class));
+    private static final Table SUBMISSIONS = new Table("submissions", 3, "tutorial, assignment, student",
+                    new Column("tutorial", "VARCHAR", String.class),
+                    new Column("assignment", "VARCHAR", String.class),
+                    new Column("student", "VARCHAR", String.class),
+                    new Column("status", "VARCHAR", String.class));
+    private static final List<Table> TABLES = List.of(TUTORIALS, ASSIGNMENTS, STUDENTS, STUDENT_TUTORIALS,
+                    ATTENDANCES, SUBMISSIONS);
+
+    private final Path filePath;
+
+    /** Connection to the database at {@link #connectionPath}, kept open between saves */
+    private Connection connection;
+    private Path connectionPath;
+    /** File whose contents are described by {@link #saved}, null if unknown */
+    private Path savedFilePath;
+    /** Rows of each table by their key, as last read or written */
+    private Map<Table, Map<List<Object>, List<Object>>> saved;
+
+    public DatabaseAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the database holding the same data as the file at
+     * {@code filePath}, by replacing its extension with {@link #FILE_EXTENSION}.
+     */
+    public static Path getDatabasePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        if (fileName.endsWith(FILE_EXTENSION)) {
+            return filePath;
+        }
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath
+     *            location of the data. Cannot be null.
+     * @throws DataLoadingException
+     *             if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Map<Table, Map<List<Object>, List<Object>>> rows;
+        AddressBook addressBook;
+        try {
+            rows = readRows(connect(filePath));
+            addressBook = toAddressBook(rows);
+        } catch (SQLException | IllegalValueException | IllegalArgumentException e) {
+            logger.warning("Error reading from database " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        savedFilePath = filePath;
+        saved = rows;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath
+     *            location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Map<Table, Map<List<Object>, List<Object>>> current;
+        try {
+            Connection connection = connect(filePath);
+            // Rows already in an unknown database are not rewritten if they did not change
+            var previous = filePath.equals(savedFilePath) ? saved : readRows(connection);
+            current = toRows(addressBook, previous);
+            try {
+                for (var table : TABLES) {
+                    writeChanges(connection, table, previous.get(table), current.get(table));
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            savedFilePath = null;
+            throw new IOException(e);
+        }
+
+        savedFilePath = filePath;
+        saved = current;
+    }
+
+    /**
+     * Returns a connection to the database at {@code filePath}, creating it and
+     * its tables if they do not exist. Opening a database takes a while, so the
+     * connection is kept open until the database of another file is needed. H2
+     * closes it when the application exits.
+     */
+    private Connection connect(Path filePath) throws SQLException {
+        if (connection != null && filePath.equals(connectionPath) && !connection.isClosed()) {
+            return connection;
+        }
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+
+        String path = filePath.toAbsolutePath().toString();
+        if (path.endsWith(FILE_EXTENSION)) {
+            path = path.substring(0, path.length() - FILE_EXTENSION.length());
+        }
+
+        Connection newConnection = DriverManager.getConnection("jdbc:h2:file:" + path);
+        try (Statement statement = newConnection.createStatement()) {
+            for (var table : TABLES) {
+                statement.execute(table.createSql());
+            }
+        } catch (SQLException e) {
+            newConnection.close();
+            throw e;
+        }
+        newConnection.setAutoCommit(false);
+        connection = newConnection;
+        connectionPath = filePath;
+        return connection;
+    }
+
+    /**
+     * Makes the rows of {@code table} go from {@code previous} to
+     * {@code current}, by merging the rows that are new or changed, and deleting
+     * the rows that are gone.
+     */
+    private static void writeChanges(Connection connection, Table table, Map<List<Object>, List<Object>> previous,
+                    Map<List<Object>, List<Object>> current) throws SQLException {
+        try (var merge = connection.prepareStatement(table.mergeSql());
+                        var delete = connection.prepareStatement(table.deleteSql())) {
+            int merged = 0;
+            for (var row : current.entrySet()) {
+                if (!row.getValue().equals(previous.get(row.getKey()))) {
+                    addBatch(merge, row.getValue());
+                    merged++;
+                }
+            }
+            int deleted = 0;
+            for (var key : previous.keySet()) {
+                if (!current.containsKey(key)) {
+                    addBatch(delete, key);
+                    deleted++;
+                }
+            }
+
+            if (merged > 0) {
+                merge.executeBatch();
+            }
+            if (deleted > 0) {
+                delete.executeBatch();
+            }
+            if (merged > 0 || deleted > 0) {
+                logger.fine("Merged %d and deleted %d rows of %s".formatted(merged, deleted, table.name()));
+            }
+        }
+    }
+
+    private static void addBatch(PreparedStatement statement, List<Object> values) throws SQLException {
+        for (int i = 0; i < values.size(); i++) {
+            statement.setObject(i + 1, values.get(i));
+        }
+        statement.addBatch();
+    }
+
+    private static Map<Table, Map<List<Object>, List<Object>>> readRows(Connection connection) throws SQLException {
+        Map<Table, Map<List<Object>, List<Object>>> rows = new HashMap<>();
+        try (Statement statement = connection.createStatement()) {
+            for (var table : TABLES) {
+                Map<List<Object>, List<Object>> tableRows = new LinkedHashMap<>();
+                try (ResultSet resultSet = statement.executeQuery(table.selectSql())) {
+                    while (resultSet.next()) {
+                        Object[] values = new Object[table.columns().size()];
+                        for (int i = 0; i < values.length; i++) {
+                            values[i] = resultSet.getObject(i + 1, table.columns().get(i).javaType());
+                        }
+                        table.put(tableRows, values);
+                    }
+                }
+                rows.put(table, tableRows);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the rows holding the records of {@code addressBook}. Rows of the
+     * same records as {@code previous} keep their list index where it is still
+     * in order. Every row is built again, so this takes time in proportion to the
+     * size of the address book even if only a few rows will be written.
+     */
+    private static Map<Table, Map<List<Object>, List<Object>>> toRows(ReadOnlyAddressBook addressBook,
+                    Map<Table, Map<List<Object>, List<Object>>> previous) {
+        Map<Table, Map<List<Object>, List<Object>>> rows = new HashMap<>();
+        TABLES.forEach(table -> rows.put(table, new LinkedHashMap<>()));
+
+        List<Object[]> tutorials = new ArrayList<>();
+        List<Object[]> assignments = new ArrayList<>();
+        for (var tutorial : addressBook.getTutorialList()) {
+            tutorials.add(new Object[] { tutorial.name() });
+            for (var assignment : tutorial.assignments()) {
+                assignments.add(new Object[] { tutorial.name(), assignment.name(),
+                    assignment.dueDate().orElse(null) });
+            }
+        }
+        putInOrder(TUTORIALS, rows.get(TUTORIALS), previous.get(TUTORIALS), tutorials);
+        putInOrder(ASSIGNMENTS, rows.get(ASSIGNMENTS), previous.get(ASSIGNMENTS), assignments);
+
+        List<Object[]> students = new ArrayList<>();
+        for (var student : addressBook.getStudentList()) {
+            String name = student.getName().fullName;
+            students.add(new Object[] { name, student.getStudentId().id, student.getPhone().value,
+                student.getEmail().value, student.getHandle().handle, student.getDetails().value });
+            student.getTutorials().forEach(t -> STUDENT_TUTORIALS.put(rows.get(STUDENT_TUTORIALS), name, t.name()));
+        }
+        putInOrder(STUDENTS, rows.get(STUDENTS), previous.get(STUDENTS), students);
+
+        for (var attendance : addressBook.getAttendanceList()) {
+            ATTENDANCES.put(rows.get(ATTENDANCES), attendance.tutorial().name(),
+                            attendance.student().getName().fullName, attendance.weeks().firstWeek(),
+                            attendance.weeks().numberOfWeeks(), attendance.presence());
+        }
+
+        for (var submission : addressBook.getSubmissionList()) {
+            SUBMISSIONS.put(rows.get(SUBMISSIONS), submission.assignment().tutorial().name(),
+                            submission.assignment().name(), submission.student().getName().fullName,
+                            submission.status().name());
+        }
+        return rows;
+    }
+
+    /**
+     * Adds a row for each of {@code values} to {@code rows}, in order, followed by
+     * its list index. A row keeps its list index in {@code previous} if that is
+     * larger than the list index of the row before it. Other rows are given one
+     * between the rows around them, so that only they have to be written.
+     */
+    private static void putInOrder(Table table, Map<List<Object>, List<Object>> rows,
+                    Map<List<Object>, List<Object>> previous, List<Object[]> values) {
+        Long[] previousIndices = new Long[values.size()];
+        for (int i = 0; i < values.size(); i++) {
+            List<Object> previousRow = previous.get(List.of(Arrays.copyOf(values.get(i), table.keyLength())));
+            previousIndices[i] = previousRow == null ? null : (Long) previousRow.get(previousRow.size() - 1);
+        }
+        // The previous list index of the first row at or after each row that has one
+        Long[] nextIndices = new Long[values.size() + 1];
+        for (int i = values.size() - 1; i >= 0; i--) {
+            nextIndices[i] = previousIndices[i] != null ? previousIndices[i] : nextIndices[i + 1];
+        }
+
+        long lastIndex = -LIST_INDEX_GAP;
+        for (int i = 0; i < values.size(); i++) {
+            Long index = previousIndices[i];
+            if (index == null || index <= lastIndex) {
+                Long nextIndex = nextIndices[i + 1];
+                index = nextIndex != null && nextIndex - lastIndex > 1
+                                ? lastIndex + (nextIndex - lastIndex) / 2
+                                : lastIndex + LIST_INDEX_GAP;
+            }
+            lastIndex = index;
+
+            Object[] row = Arrays.copyOf(values.get(i), values.get(i).length + 1);
+            row[row.length - 1] = index;
+            table.put(rows, row);
+        }
+    }
+
+    private static AddressBook toAddressBook(Map<Table, Map<List<Object>, List<Object>>> rows)
+                    throws IllegalValueException {
+        AddressBookBuilder builder = new AddressBookBuilder();
+
+        for (var row : rows.get(TUTORIALS).values()) {
+            builder.addTutorial(new JsonAdaptedTutorial((String) row.get(0)).toModelType());
+        }
+
+        for (var row : rows.get(ASSIGNMENTS).values()) {
+            builder.addAssignment(new Assignment((String) row.get(1),
+                            Optional.ofNullable((LocalDateTime) row.get(2)), new Tutorial((String) row.get(0))));
+        }
+
+        Map<String, List<JsonAdaptedTutorial>> tutorialsByStudent = rows.get(STUDENT_TUTORIALS).values().stream()
+                        .collect(Collectors.groupingBy(row -> (String) row.get(0),
+                                        Collectors.mapping(row -> new JsonAdaptedTutorial((String) row.get(1)),
+                                                        Collectors.toList())));
+        for (var row : rows.get(STUDENTS).values()) {
+            String name = (String) row.get(0);
+            builder.addStudent(new JsonAdaptedStudent(name, (String) row.get(1), (String) row.get(2),
+                            (String) row.get(3), (String) row.get(4), (String) row.get(5),
+                            tutorialsByStudent.getOrDefault(name, List.of())).toModelType());
+        }
+
+        for (var row : rows.get(ATTENDANCES).values()) {
+            builder.addAttendance((String) row.get(0), new Name((String) row.get(1)),
+                            new WeekRange((Integer) row.get(2), (Integer) row.get(3)), (Long) row.get(4));
+        }
+
+        for (var row : rows.get(SUBMISSIONS).values()) {
+            builder.addSubmission((String) row.get(0), (String) row.get(1), new Name((String) row.get(2)),
+                            SubmissionStatus.valueOf((String) row.get(3)));
+        }
+
+        AddressBook addressBook = builder.build();
+
+        assert addressBook.check();
+
+        return addressBook;
+    }
+
+    private record Column(String name, String sqlType, Class<?> javaType) {
+    }
+
+    /**
+     * A table whose first {@code keyLength} columns are its primary key. Rows are
+     * read in the order given by {@code orderBy}.
+     */
+    private record Table(String name, int keyLength, String orderBy, List<Column> columns) {
+        Table(String name, int keyLength, String orderBy, Column... columns) {
+            this(name, keyLength, orderBy, List.of(columns));
+        }
+
+        /**
+         * Adds a row holding {@code values} to {@code rows}, under its key.
+         */
+        void put(Map<List<Object>, List<Object>> rows, Object... values) {
+            // Unlike List.of, Arrays.asList allows the null of a missing due date
+            List<Object> row = Collections.unmodifiableList(Arrays.asList(values));
+            rows.put(List.copyOf(row.subList(0, keyLength)), row);
+        }
+
+        String createSql() {
+            String columnDefinitions = columns.stream().map(c -> c.name() + " " + c.sqlType())
+                            .collect(Collectors.joining(", "));
+            return "CREATE TABLE IF NOT EXISTS %s (%s, PRIMARY KEY (%s))".formatted(name, columnDefinitions,
+                            String.join(", ", keyNames()));
+        }
+
+        String selectSql() {
+            return "SELECT %s FROM %s ORDER BY %s".formatted(String.join(", ", columnNames()), name, orderBy);
+        }
+
+        String mergeSql() {
+            return "MERGE INTO %s (%s) KEY (%s) VALUES (%s)".formatted(name, String.join(", ", columnNames()),
+                            String.join(", ", keyNames()), String.join(", ", Collections.nCopies(columns.size(), "?")));
+        }
+
+        String deleteSql() {
+            return "DELETE FROM %s WHERE %s".formatted(name,
+                            keyNames().stream().map(c -> c + " = ?").collect(Collectors.joining(" AND ")));
+        }
+
+        private List<String> columnNames() {
+            return columns.stream().map(Column::name).toList();
+        }
+
+        private List<String> keyNames() {
+            return columnNames().subList(0, keyLength);
+        }
+    }
+}
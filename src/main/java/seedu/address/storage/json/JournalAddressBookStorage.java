@@ -0,0 +1,563 @@
+package seedu.address.storage.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.SnapshotChanges;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.student.Student;
+import seedu.address.model.submission.Submission;
+import seedu.address.model.tutorial.Assignment;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.storage.AddressBookStorage;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus a journal
+ * of changes.
+ * <p>
+ * The snapshot has the same format as the file of
+ * {@link JsonAddressBookStorage}. Each save appends only the records that
+ * changed since the previous save to a journal next to the snapshot, one JSON
+ * object per line. Reading replays the journal on top of the snapshot.
+ * <p>
+ * Once the journal grows past a threshold, it is folded into the snapshot in
+ * the background. The journal is first renamed, so that saves go on to a new
+ * journal, and the renamed journal is only deleted once the snapshot holding
+ * its changes is written. Until then, reading replays both journals in turn.
+ * <p>
+ * The records to append are found from the {@link SnapshotChanges} of the
+ * {@link AddressBookSnapshot snapshots} saved, so a save only visits the
+ * records that changed since the previous save. When the changes since the
+ * previous save are not known, as for the first save after reading the file,
+ * or for other address books, a few immutable values of every record are
+ * compared with those of the previous save instead, and only the records that
+ * differ are converted to JSON.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+    /** Appended to the name of the snapshot to get the name of its journal */
+    public static final String JOURNAL_SUFFIX = ".journal";
+
+    /** Size of the journal in bytes above which it is folded into the snapshot */
+    static final long DEFAULT_COMPACTION_THRESHOLD = 1 << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private static final String FIELD_SECTION = "section";
+    private static final String FIELD_KEY = "key";
+    private static final String FIELD_RECORD = "record";
+
+    private static final List<Section<?>> SECTIONS = List.of(
+                    new Section<Student>("students", ReadOnlyAddressBook::getStudentList,
+                                    s -> List.of(s.getName().fullName),
+                                    s -> List.of(s.getStudentId(), s.getPhone(), s.getEmail(), s.getHandle(),
+                                                    s.getDetails(), s.getTutorials().stream().map(Tutorial::name)
+                                                                    .collect(Collectors.toSet())),
+                                    JsonAdaptedStudent::new),
+                    new Section<Tutorial>("tutorials", ReadOnlyAddressBook::getTutorialList,
+                                    t -> List.of(t.name()), Tutorial::name, JsonAdaptedTutorial::new),
+                    new Section<Submission>("submissions", ReadOnlyAddressBook::getSubmissionList,
+                                    s -> List.of(s.assignment().tutorial().name(), s.assignment().name(),
+                                                    s.student().getName().fullName),
+                                    Submission::status, JsonAdaptedSubmission::new),
+                    new Section<Attendance>("attendances", ReadOnlyAddressBook::getAttendanceList,
+                                    a -> List.of(a.tutorial().name(), a.student().getName().fullName),
+                                    a -> List.of(a.weeks(), a.presence()), JsonAdaptedAttendance::new),
+                    new Section<Assignment>("assignments",
+                                    addressBook -> addressBook.getTutorialList().stream()
+                                                    .flatMap(t -> t.assignments().stream()).toList(),
+                                    a -> List.of(a.tutorial().name(), a.name()), Assignment::dueDate,
+                                    JsonAdaptedAssignment::new));
+
+    private final Path filePath;
+    private final boolean isPrettyPrinted;
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** File whose contents are described by {@link #saved}, null if unknown */
+    private Path savedFilePath;
+    /**
+     * Contents of the records of each section of the address book by key, as last
+     * read or written, see {@link Section#contentsOf}
+     */
+    private Map<String, Map<List<String>, Object>> saved;
+    /** Changes of the snapshot last written, null if unknown */
+    private SnapshotChanges savedChanges;
+    private long journalSize;
+    /** Folding of the journal started in the background, null if none was started */
+    private Future<?> compaction;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the snapshot at {@code filePath}, which is written with
+     * indentation if {@code isPrettyPrinted} is true.
+     */
+    public JournalAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that folds the journal into the snapshot once the journal
+     * is larger than {@code compactionThreshold} bytes.
+     */
+    JournalAddressBookStorage(Path filePath, boolean isPrettyPrinted, long compactionThreshold) {
+        this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Returns true if changes to the snapshot at {@code filePath} are left in a
+     * journal.
+     */
+    public static boolean hasJournal(Path filePath) {
+        return Files.exists(getJournalPath(filePath)) || Files.exists(getFoldingJournalPath(filePath));
+    }
+
+    /**
+     * Deletes the journals of the snapshot at {@code filePath}, once their changes
+     * are in the snapshot.
+     */
+    public static void deleteJournals(Path filePath) throws IOException {
+        Files.deleteIfExists(getJournalPath(filePath));
+        Files.deleteIfExists(getFoldingJournalPath(filePath));
+    }
+
+    /**
+     * Returns the path the journal of the snapshot at {@code filePath} is renamed
+     * to while it is folded into the snapshot.
+     */
+    private static Path getFoldingJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX + ".folding");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        awaitCompaction();
+        Path journalPath = getJournalPath(filePath);
+        if (!Files.exists(filePath) && !hasJournal(filePath)) {
+            return Optional.empty();
+        }
+
+        Map<String, Map<String, JsonNode>> records;
+        long size;
+        try {
+            records = toRecords(JsonUtil.readJsonFile(filePath, ObjectNode.class)
+                            .orElseGet(JsonNodeFactory.instance::objectNode));
+            // The folding journal holds the changes made before those of the journal
+            replayJournal(getFoldingJournalPath(filePath), records);
+            size = replayJournal(journalPath, records);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warning("Error reading journal " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = JsonUtil.fromJsonTree(toObjectNode(records), JsonSerializableAddressBook.class)
+                            .toModelType();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        savedFilePath = filePath;
+        saved = contentsOf(addressBook);
+        savedChanges = null;
+        journalSize = size;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath
+     *            location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        SnapshotChanges changes = addressBook instanceof AddressBookSnapshot snapshot ? snapshot.changes() : null;
+        if (!filePath.equals(savedFilePath)) {
+            // The contents of the file are not known, so there is nothing to diff against
+            compact(addressBook, contentsOf(addressBook), filePath);
+            savedChanges = changes;
+            return;
+        }
+
+        var entries = new StringBuilder();
+        Optional<List<SnapshotChanges>> unsaved = savedChanges != null && changes != null
+                        ? savedChanges.until(changes)
+                        : Optional.empty();
+        // New contents of the records of each section by key, null for removed records
+        Map<String, Map<List<String>, Object>> updates = new HashMap<>();
+        Map<String, Map<List<String>, Object>> current = null;
+        if (unsaved.isPresent()) {
+            for (var unsavedChanges : unsaved.get()) {
+                for (var section : SECTIONS) {
+                    section.appendChanges(unsavedChanges, saved.getOrDefault(section.name(), Map.of()),
+                                    updates.computeIfAbsent(section.name(), k -> new HashMap<>()), entries);
+                }
+            }
+        } else {
+            current = new HashMap<>();
+            for (var section : SECTIONS) {
+                current.put(section.name(), section.appendChanges(addressBook,
+                                saved.getOrDefault(section.name(), Map.of()), entries));
+            }
+        }
+
+        if (!entries.isEmpty()) {
+            byte[] bytes = entries.toString().getBytes(UTF_8);
+            FileUtil.createParentDirsOfFile(filePath);
+            Files.write(getJournalPath(filePath), bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            journalSize += bytes.length;
+        }
+
+        if (current != null) {
+            saved = current;
+        } else {
+            updates.forEach((section, sectionUpdates) -> {
+                var sectionContents = saved.computeIfAbsent(section, k -> new HashMap<>());
+                sectionUpdates.forEach((key, contents) -> {
+                    if (contents != null) {
+                        sectionContents.put(key, contents);
+                    } else {
+                        sectionContents.remove(key);
+                    }
+                });
+            });
+        }
+        savedChanges = changes;
+
+        if (journalSize > compactionThreshold) {
+            startCompaction(addressBook, filePath);
+        }
+    }
+
+    /**
+     * Waits for the journal being folded in the background, if any, to be written
+     * into the snapshot.
+     */
+    void awaitCompaction() {
+        if (compaction == null) {
+            return;
+        }
+
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Folds the journal of the snapshot at {@code filePath} into the snapshot in the
+     * background, unless it is already being folded. {@code addressBook} must
+     * hold the changes of the journal.
+     */
+    private void startCompaction(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (compaction != null && !compaction.isDone()) {
+            return;
+        }
+
+        Path foldingPath = getFoldingJournalPath(filePath);
+        if (Files.exists(foldingPath)) {
+            // Left by a folding that failed, or did not finish before the app closed,
+            // and needed by the journal, whose changes follow its own
+            compact(addressBook, saved, filePath);
+            return;
+        }
+
+        logger.fine("Folding journal into " + filePath + " in the background");
+        Files.move(getJournalPath(filePath), foldingPath);
+        journalSize = 0;
+        // The snapshot is written while later saves go on
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        compaction = compactor.submit((
+        ) -> {
+            try {
+                writeSnapshot(snapshot, filePath);
+                Files.delete(foldingPath);
+            } catch (IOException e) {
+                // The folding journal is kept, and folded by a later save
+                logger.warning("Failed to fold journal into " + filePath + ": " + e);
+            }
+        });
+    }
+
+    /**
+     * Writes {@code addressBook}, whose records have {@code contents}, as the
+     * snapshot at {@code filePath}, and empties its journals.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, Map<String, Map<List<String>, Object>> contents,
+                    Path filePath) throws IOException {
+        awaitCompaction();
+        logger.fine("Folding journal into " + filePath);
+
+        writeSnapshot(addressBook, filePath);
+        // Replaying a journal that outlived its snapshot is harmless, as every entry
+        // sets or removes a whole record
+        deleteJournals(filePath);
+
+        savedFilePath = filePath;
+        saved = contents;
+        journalSize = 0;
+    }
+
+    private void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), tempPath, isPrettyPrinted);
+        FileUtil.replaceFile(tempPath, filePath);
+    }
+
+    /**
+     * Returns the contents of the records of each section of {@code addressBook},
+     * by key.
+     */
+    private static Map<String, Map<List<String>, Object>> contentsOf(ReadOnlyAddressBook addressBook) {
+        Map<String, Map<List<String>, Object>> contents = new HashMap<>();
+        SECTIONS.forEach(section -> contents.put(section.name(), section.contentsOf(addressBook)));
+        return contents;
+    }
+
+    /**
+     * Applies the entries in the journal at {@code journalPath} to
+     * {@code records}, and returns the size of the journal in bytes.
+     */
+    private static long replayJournal(Path journalPath, Map<String, Map<String, JsonNode>> records)
+                    throws IOException {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            ObjectNode entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), ObjectNode.class);
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    throw e;
+                }
+                // Only the last entry can be cut short, by a write that did not finish
+                logger.warning("Ignoring incomplete entry at the end of " + journalPath);
+                break;
+            }
+
+            var section = records.computeIfAbsent(entry.path(FIELD_SECTION).asText(), k -> new LinkedHashMap<>());
+            String key = entry.path(FIELD_KEY).asText();
+            if (entry.has(FIELD_RECORD)) {
+                section.put(key, entry.get(FIELD_RECORD));
+            } else {
+                section.remove(key);
+            }
+        }
+        return Files.size(journalPath);
+    }
+
+    private static void appendEntry(StringBuilder entries, String section, String key, JsonNode record)
+                    throws IOException {
+        ObjectNode entry = JsonNodeFactory.instance.objectNode().put(FIELD_SECTION, section).put(FIELD_KEY, key);
+        if (record != null) {
+            entry.set(FIELD_RECORD, record);
+        }
+        entries.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+    }
+
+    /**
+     * Splits a serialized address book into its sections, each holding its records
+     * by key, in order. Fields that are not lists of records, like the version,
+     * are left out.
+     */
+    private static Map<String, Map<String, JsonNode>> toRecords(ObjectNode addressBook) {
+        Map<String, Map<String, JsonNode>> records = new LinkedHashMap<>();
+        addressBook.fields().forEachRemaining(section -> {
+            if (!section.getValue().isArray()) {
+                return;
+            }
+
+            Map<String, JsonNode> sectionRecords = new LinkedHashMap<>();
+            section.getValue().forEach(record -> sectionRecords.put(keyOf(section.getKey(), record), record));
+            records.put(section.getKey(), sectionRecords);
+        });
+        return records;
+    }
+
+    private static ObjectNode toObjectNode(Map<String, Map<String, JsonNode>> records) {
+        ObjectNode addressBook = JsonNodeFactory.instance.objectNode();
+        // Records of older versions can be read, so they are safe to mix with newer ones
+        addressBook.put("version", JsonSerializableAddressBook.CURRENT_VERSION);
+        records.forEach((section, sectionRecords) -> addressBook.putArray(section).addAll(sectionRecords.values()));
+        return addressBook;
+    }
+
+    /**
+     * Returns the key identifying {@code record} within {@code section}, following
+     * the identity of the corresponding model object.
+     *
+     * @throws IllegalArgumentException
+     *             if {@code section} is not a section of the address book
+     */
+    private static String keyOf(String section, JsonNode record) {
+        return switch (section) {
+        case "students", "tutorials" -> record.path("name").asText();
+        case "assignments" -> String.join("/", nameOf(record, "tutorial"), record.path("name").asText());
+        case "attendances" -> String.join("/", nameOf(record, "tutorial"), nameOf(record, "student"));
+        case "submissions" -> String.join("/", record.has("tutorial") ? nameOf(record, "tutorial")
+                        : nameOf(record.path("assignment"), "tutorial"), nameOf(record, "assignment"),
+                        nameOf(record, "student"));
+        default -> throw new IllegalArgumentException("Unknown section " + section);
+        };
+    }
+
+    private static String nameOf(JsonNode record, String field) {
+        return String.valueOf(JsonReferences.nameOf(record.get(field)));
+    }
+
+    /**
+     * A section of the address book, whose records are listed by {@code records}
+     * and identified by {@code keyOf}. Joined with slashes, the parts of a key are
+     * the key given by {@link JournalAddressBookStorage#keyOf}. Two records with the same key and
+     * equal {@code contents} have the same JSON, which is made from
+     * {@code toAdapted}.
+     */
+    private record Section<T>(String name, Function<ReadOnlyAddressBook, List<T>> records,
+                    Function<T, List<String>> keyOf, Function<T, Object> contents, Function<T, Object> toAdapted) {
+        /**
+         * Returns the contents of the records of this section of {@code addressBook},
+         * by key.
+         */
+        Map<List<String>, Object> contentsOf(ReadOnlyAddressBook addressBook) {
+            Map<List<String>, Object> sectionContents = new HashMap<>();
+            for (T record : records.apply(addressBook)) {
+                sectionContents.put(keyOf.apply(record), contents.apply(record));
+            }
+            return sectionContents;
+        }
+
+        /**
+         * Appends an entry to {@code entries} for each record of this section that
+         * {@code changes} added with other contents than were saved, and for each
+         * saved record that {@code changes} removed. The saved contents of a record
+         * are those in {@code updates} if it has any, or else in
+         * {@code savedContents}. The new contents of the records of the entries are
+         * put in {@code updates}, null if removed.
+         */
+        void appendChanges(SnapshotChanges changes, Map<List<String>, Object> savedContents,
+                        Map<List<String>, Object> updates, StringBuilder entries) throws IOException {
+            Map<List<String>, T> added = new LinkedHashMap<>();
+            for (T record : records.apply(changes.added())) {
+                added.put(keyOf.apply(record), record);
+            }
+
+            for (T record : records.apply(changes.removed())) {
+                List<String> key = keyOf.apply(record);
+                // A changed record is both removed and added, and is only set again
+                if (!added.containsKey(key) && savedContentsOf(key, savedContents, updates) != null) {
+                    appendEntry(entries, name, String.join("/", key), null);
+                    updates.put(key, null);
+                }
+            }
+            for (var entry : added.entrySet()) {
+                Object recordContents = contents.apply(entry.getValue());
+                if (!recordContents.equals(savedContentsOf(entry.getKey(), savedContents, updates))) {
+                    appendEntry(entries, name, String.join("/", entry.getKey()),
+                                    JsonUtil.toJsonTree(toAdapted.apply(entry.getValue())));
+                    updates.put(entry.getKey(), recordContents);
+                }
+            }
+        }
+
+        /**
+         * Returns the contents of the records of this section of {@code addressBook},
+         * after appending an entry to {@code entries} for each record whose contents
+         * are not those in {@code savedContents}, and for each record of
+         * {@code savedContents} that is gone.
+         */
+        Map<List<String>, Object> appendChanges(ReadOnlyAddressBook addressBook,
+                        Map<List<String>, Object> savedContents, StringBuilder entries) throws IOException {
+            Map<List<String>, Object> sectionContents = new HashMap<>();
+            for (T record : records.apply(addressBook)) {
+                List<String> key = keyOf.apply(record);
+                Object recordContents = contents.apply(record);
+                sectionContents.put(key, recordContents);
+                if (!recordContents.equals(savedContents.get(key))) {
+                    appendEntry(entries, name, String.join("/", key), JsonUtil.toJsonTree(toAdapted.apply(record)));
+                }
+            }
+            for (var key : savedContents.keySet()) {
+                if (!sectionContents.containsKey(key)) {
+                    appendEntry(entries, name, String.join("/", key), null);
+                }
+            }
+            return sectionContents;
+        }
+
+        private static Object savedContentsOf(List<String> key, Map<List<String>, Object> savedContents,
+                        Map<List<String>, Object> updates) {
+            return updates.containsKey(key) ? updates.get(key) : savedContents.get(key);
+        }
+    }
+}
@@ -1,48 +1,86 @@
 package seedu.address.storage.json;
 
 import java.util.List;
+import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookBuilder;
+import seedu.address.model.AddressBookBuilder.AttendanceRecord;
 import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.WeekRange;
 
 /**
- * Jackson-friendly version of {@link Attendance}.
+ * Jackson-friendly version of {@link Attendance}. The tutorial and student are
+ * referred to by name, see {@link JsonReferences}.
  */
 class JsonAdaptedAttendance {
 
-    private final JsonAdaptedTutorial tutorial;
-    private final JsonAdaptedStudent student;
+    private final String tutorial;
+    private final String student;
     private final List<Integer> attendances;
+    // Absent in files written before the term length could be configured
+    private final Integer firstWeek;
+    private final Integer numberOfWeeks;
 
     /**
      * Constructs a {@link JsonAdaptedAttendance} with the given student details.
      */
     @JsonCreator
-    public JsonAdaptedAttendance(@JsonProperty("assignment") JsonAdaptedTutorial tutorial,
-                    @JsonProperty("student") JsonAdaptedStudent student,
-                    @JsonProperty("attendances") List<Integer> attendences) {
+    public JsonAdaptedAttendance(@JsonProperty("tutorial") JsonNode tutorial, @JsonProperty("student") JsonNode student,
+                    @JsonProperty("attendances") List<Integer> attendences,
+                    @JsonProperty("firstWeek") Integer firstWeek,
+                    @JsonProperty("numberOfWeeks") Integer numberOfWeeks) {
+        this(JsonReferences.nameOf(tutorial), JsonReferences.nameOf(student), attendences, firstWeek,
+                        numberOfWeeks);
+    }
+
+    private JsonAdaptedAttendance(String tutorial, String student, List<Integer> attendences, Integer firstWeek,
+                    Integer numberOfWeeks) {
         this.tutorial = tutorial;
         this.student = student;
         this.attendances = attendences;
+        this.firstWeek = firstWeek;
+        this.numberOfWeeks = numberOfWeeks;
     }
 
     /**
      * Converts a given {@link Attendance} into this class for Jackson use.
      */
     public JsonAdaptedAttendance(Attendance source) {
-        this(new JsonAdaptedTutorial(source.tutorial()), new JsonAdaptedStudent(source.student()),
-                        source.attendances());
+        this(source.tutorial().name(), source.student().getName().fullName, source.attendances(),
+                        source.weeks().firstWeek(), source.weeks().numberOfWeeks());
     }
 
     /**
-     * Converts this Jackson-friendly adapted student object into the model's
-     * {@link Attendance} object.
+     * Converts this Jackson-friendly adapted attendance object into a record that
+     * refers to its tutorial and student by name, which are resolved by
+     * {@link AddressBookBuilder}.
+     *
+     * @throws IllegalValueException
+     *             if there were any data constraints violated in the adapted
+     *             attendance.
      */
-    public Attendance toModelType() throws IllegalValueException {
-        // Get the actual tutorial
-        return new Attendance(tutorial.toModelType(), student.toModelType(), attendances);
+    public AttendanceRecord toModelType() throws IllegalValueException {
+        WeekRange weeks;
+        try {
+            weeks = new WeekRange(Objects.requireNonNullElse(firstWeek, WeekRange.DEFAULT.firstWeek()),
+                            Objects.requireNonNullElse(numberOfWeeks, WeekRange.DEFAULT.numberOfWeeks()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(WeekRange.MESSAGE_CONSTRAINTS);
+        }
+
+        long presence;
+        try {
+            presence = Attendance.pack(Objects.requireNonNullElse(attendances, List.of()), weeks);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(Attendance.MESSAGE_CONSTRAINTS);
+        }
+
+        return new AttendanceRecord(JsonReferences.toTutorial(tutorial).name(), JsonReferences.toStudentName(student),
+                        weeks, presence);
     }
 }
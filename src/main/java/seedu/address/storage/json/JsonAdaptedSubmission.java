@@ -2,27 +2,41 @@ package seedu.address.storage.json;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookBuilder;
+import seedu.address.model.AddressBookBuilder.SubmissionRecord;
 import seedu.address.model.submission.Submission;
 import seedu.address.model.submission.SubmissionStatus;
 
 /**
- * Jackson-friendly version of {@link Submission}.
+ * Jackson-friendly version of {@link Submission}. The tutorial, assignment and
+ * student are referred to by name, see {@link JsonReferences}.
  */
 class JsonAdaptedSubmission {
 
-    private final JsonAdaptedAssignment assignment;
-    private final JsonAdaptedStudent student;
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Submission's %s field is missing!";
+
+    private final String tutorial;
+    private final String assignment;
+    private final String student;
     private final SubmissionStatus status;
 
     /**
-     * Constructs a {@code JsonAdaptedStudent} with the given student details.
+     * Constructs a {@code JsonAdaptedSubmission} with the given submission details.
+     * In version 1 of the file, the tutorial is part of the assignment.
      */
     @JsonCreator
-    public JsonAdaptedSubmission(@JsonProperty("assignment") JsonAdaptedAssignment assignment,
-                    @JsonProperty("student") JsonAdaptedStudent student,
+    public JsonAdaptedSubmission(@JsonProperty("tutorial") String tutorial,
+                    @JsonProperty("assignment") JsonNode assignment, @JsonProperty("student") JsonNode student,
                     @JsonProperty("status") SubmissionStatus status) {
+        this(tutorial != null ? tutorial : tutorialOf(assignment), JsonReferences.nameOf(assignment),
+                        JsonReferences.nameOf(student), status);
+    }
+
+    private JsonAdaptedSubmission(String tutorial, String assignment, String student, SubmissionStatus status) {
+        this.tutorial = tutorial;
         this.assignment = assignment;
         this.student = student;
         this.status = status;
@@ -32,19 +46,36 @@ class JsonAdaptedSubmission {
      * Converts a given {@link Submission} into this class for Jackson use.
      */
     public JsonAdaptedSubmission(Submission source) {
-        this(new JsonAdaptedAssignment(source.assignment()), new JsonAdaptedStudent(source.student()), source.status());
+        this(source.assignment().tutorial().name(), source.assignment().name(), source.student().getName().fullName,
+                        source.status());
     }
 
     /**
-     * Converts this Jackson-friendly adapted student object into the model's
-     * {@link Submission} object.
+     * Converts this Jackson-friendly adapted submission object into a record that
+     * refers to its tutorial, assignment and student by name, which are resolved
+     * by {@link AddressBookBuilder}.
+     *
+     * @throws IllegalValueException
+     *             if there were any data constraints violated in the adapted
+     *             submission.
      */
-    public Submission toModelType() throws IllegalValueException {
-        return new Submission(assignment.toModelType(), student.toModelType(), status);
+    public SubmissionRecord toModelType() throws IllegalValueException {
+        if (assignment == null) {
+            throw new IllegalValueException(MISSING_FIELD_MESSAGE_FORMAT.formatted("assignment"));
+        }
+        if (status == null) {
+            throw new IllegalValueException(MISSING_FIELD_MESSAGE_FORMAT.formatted("status"));
+        }
+        return new SubmissionRecord(JsonReferences.toTutorial(tutorial).name(), assignment,
+                        JsonReferences.toStudentName(student), status);
+    }
+
+    private static String tutorialOf(JsonNode assignment) {
+        return assignment == null ? null : JsonReferences.nameOf(assignment.get("tutorial"));
     }
 
     @Override
     public String toString() {
-        return "%s %s %s".formatted(assignment, student, status);
+        return "%s %s %s %s".formatted(tutorial, assignment, student, status);
     }
 }
@@ -0,0 +1,57 @@
+package seedu.address.storage.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.student.Name;
+import seedu.address.model.tutorial.Tutorial;
+
+/**
+ * Resolves references from one record of the address book file to another.
+ * <p>
+ * Since version 2 of the file, a record refers to a student, tutorial or
+ * assignment by its name. Version 1 embeds a copy of the whole record instead,
+ * which has the name in its {@code name} field.
+ */
+final class JsonReferences {
+
+    private JsonReferences() {
+    }
+
+    /**
+     * Returns the name referred to by {@code reference}, in either version of the
+     * file, or null if it is missing.
+     */
+    static String nameOf(JsonNode reference) {
+        if (reference == null || reference.isNull()) {
+            return null;
+        }
+        return reference.isTextual() ? reference.asText() : reference.path("name").asText(null);
+    }
+
+    /**
+     * Returns the tutorial named {@code name}.
+     *
+     * @throws IllegalValueException
+     *             if {@code name} is not a valid tutorial name
+     */
+    static Tutorial toTutorial(String name) throws IllegalValueException {
+        if (name == null || !Tutorial.isValidName(name)) {
+            throw new IllegalValueException(JsonAdaptedTutorial.MESSAGE_INVALID_TUTORIAL_NAME);
+        }
+        return new Tutorial(name);
+    }
+
+    /**
+     * Returns the name of a student referred to as {@code name}.
+     *
+     * @throws IllegalValueException
+     *             if {@code name} is not a valid name
+     */
+    static Name toStudentName(String name) throws IllegalValueException {
+        if (name == null || !Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+}
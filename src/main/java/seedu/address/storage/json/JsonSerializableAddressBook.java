@@ -1,6 +1,8 @@
 package seedu.address.storage.json;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -10,23 +12,29 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookBuilder;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.student.Student;
-import seedu.address.model.uniquelist.exceptions.DuplicateItemException;
-import seedu.address.model.uniquelist.exceptions.ItemNotFoundException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * <p>
+ * In version 1 of the format, every attendance and submission embeds a full
+ * copy of its student, and every submission a copy of its assignment. Since
+ * version 2, they refer to these by name instead. Both versions can be read,
+ * and the current version is always written.
  */
 @JsonRootName(value = "addressbook")
 public class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_TUTORIAL = "Tutorials list contains duplicate tutorial(s).";
     public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s).";
 
+    /** Version of the format that is written */
+    public static final int CURRENT_VERSION = 2;
+
     private static final Logger LOGGER = Logger.getLogger(JsonSerializableAddressBook.class.getName());
 
+    private final int version;
     private final List<JsonAdaptedStudent> students;
     private final List<JsonAdaptedTutorial> tutorials;
     private final List<JsonAdaptedSubmission> submissions;
@@ -34,14 +42,17 @@ public class JsonSerializableAddressBook {
     private final List<JsonAdaptedAssignment> assignments;
 
     /**
-     * Constructs a {@link JsonSerializableAddressBook}
+     * Constructs a {@link JsonSerializableAddressBook}. Files without a version
+     * are of version 1.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("students") List<JsonAdaptedStudent> students,
+    public JsonSerializableAddressBook(@JsonProperty("version") Integer version,
+                    @JsonProperty("students") List<JsonAdaptedStudent> students,
                     @JsonProperty("tutorials") List<JsonAdaptedTutorial> tutorials,
                     @JsonProperty("submissions") List<JsonAdaptedSubmission> submissions,
                     @JsonProperty("attendances") List<JsonAdaptedAttendance> attendances,
                     @JsonProperty("assignments") List<JsonAdaptedAssignment> assignments) {
+        this.version = Objects.requireNonNullElse(version, 1);
         this.students = students;
         this.tutorials = tutorials;
         this.submissions = submissions;
@@ -57,7 +68,8 @@ public class JsonSerializableAddressBook {
      *            {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        this(source.getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()),
+        this(CURRENT_VERSION,
+                        source.getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()),
                         source.getTutorialList().stream().map(JsonAdaptedTutorial::new).toList(),
                         source.getSubmissionList().stream().map(JsonAdaptedSubmission::new).toList(),
                         source.getAttendanceList().stream().map(JsonAdaptedAttendance::new).toList(),
@@ -69,67 +81,90 @@ public class JsonSerializableAddressBook {
     /**
      * Converts this address book into the model's {@link AddressBook} object. It
      * will try it's best to add into the addressbook, any errors will be ignored.
+     * <p>
+     * The records of each list are converted in parallel, since validating their
+     * fields takes most of the time, then added to the address book in the order
+     * they appear in the file. Every invalid record is logged, not only the first.
+     *
+     * @throws DataLoadingException
+     *             if any student is invalid, with the errors of all of them
      */
     public AddressBook toModelType() throws DataLoadingException {
-        AddressBook addressBook = new AddressBook();
-
-        // Here's the sequence that the files needs to be loaded in
-        // Insert the following objects in this order: Tutorial, Student, Attendance,
-        // Assignment, Submission,
-        // Settle these relationships
-        // 1. Student, Tutorial, Attendance
-        // 3. Student, Assignment, Submission
+        if (version < CURRENT_VERSION) {
+            LOGGER.info("Reading address book of version %d, it will be saved as version %d"
+                            .formatted(version, CURRENT_VERSION));
+        }
 
-        tutorials.stream().map(JsonAdaptedTutorial::toModelType).forEach(addressBook::addTutorial);
+        AddressBookBuilder builder = new AddressBookBuilder();
 
-        for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = null;
-            try {
-                student = jsonAdaptedStudent.toModelType();
-            } catch (IllegalValueException e) {
-                LOGGER.warning("Failed to load student: %s".formatted(jsonAdaptedStudent));
-                throw new DataLoadingException(e); // This is only thrown to follow current test cases
-            }
-            addressBook.addStudent(student);
+        List<String> studentErrors = new ArrayList<>();
+        decodeAll(students, JsonAdaptedStudent::toModelType, "student", studentErrors).forEach(builder::addStudent);
+        if (!studentErrors.isEmpty()) {
+            // This is only thrown to follow current test cases
+            throw new DataLoadingException(new IllegalValueException(String.join("\n", studentErrors)));
         }
 
-        for (var assignmentJson : assignments) {
-            try {
-                var a = assignmentJson.toModelType();
-                addressBook.addAssignment(a);
-            } catch (ItemNotFoundException | DuplicateItemException e) {
-                LOGGER.warning("Failed to add assignment %s: %s".formatted(assignmentJson, e.getMessage()));
-            }
-        }
+        List<String> errors = new ArrayList<>();
+        decodeAll(tutorials, JsonAdaptedTutorial::toModelType, "tutorial", errors).forEach(builder::addTutorial);
+        decodeAll(assignments, JsonAdaptedAssignment::toModelType, "assignment", errors)
+                        .forEach(builder::addAssignment);
+        decodeAll(attendances, JsonAdaptedAttendance::toModelType, "attendance", errors)
+                        .forEach(builder::addAttendance);
+        decodeAll(submissions, JsonAdaptedSubmission::toModelType, "submission", errors)
+                        .forEach(builder::addSubmission);
 
-        for (var attendanceJson : attendances) {
-            try {
-                // The problem with this object is that it's not pointing to the correct values
-                var a = attendanceJson.toModelType();
-                addressBook.setAttendance(a);
-            } catch (IllegalValueException e) {
-                LOGGER.warning("Failed to load attendance: %s".formatted(e.getMessage()));
-            } catch (ItemNotFoundException e) {
-                LOGGER.warning("Failed to add attendance: %s".formatted(e.getMessage()));
+        // References between the records are resolved here, in one pass
+        AddressBook addressBook = builder.build();
+
+        assert addressBook.check();
+
+        return addressBook;
+    }
+
+    /**
+     * Converts every record with {@code decoder} on the common fork join pool.
+     * Returns the records that could be converted, in their original order. The
+     * error of each of the others is logged and appended to {@code errors}, also
+     * in their original order.
+     */
+    private static <S, T> List<T> decodeAll(List<S> records, Decoder<S, T> decoder, String kind,
+                    List<String> errors) {
+        List<Decoded<T>> decoded = records.parallelStream().map(record -> Decoded.of(record, decoder)).toList();
+
+        List<T> values = new ArrayList<>(decoded.size());
+        for (int i = 0; i < decoded.size(); i++) {
+            var result = decoded.get(i);
+            if (result.error() == null) {
+                values.add(result.value());
+                continue;
             }
+
+            String error = "Failed to load %s %d: %s".formatted(kind, i + 1, result.error());
+            LOGGER.warning(error);
+            errors.add(error);
         }
+        return values;
+    }
+
+    /**
+     * Converts a Jackson-friendly record into its model type.
+     */
+    @FunctionalInterface
+    private interface Decoder<S, T> {
+        T decode(S record) throws IllegalValueException;
+    }
 
-        for (var submissionJson : submissions) {
+    /**
+     * The result of converting one record, either its model type or the reason
+     * it is invalid.
+     */
+    private record Decoded<T>(T value, String error) {
+        static <S, T> Decoded<T> of(S record, Decoder<S, T> decoder) {
             try {
-                var submit = submissionJson.toModelType();
-                addressBook.setSubmissionStatus(submit);
+                return new Decoded<>(decoder.decode(record), null);
             } catch (IllegalValueException e) {
-                LOGGER.warning("Failed to load submission: %s".formatted(e.getMessage()));
-            } catch (ItemNotFoundException e) {
-                LOGGER.warning("Failed to add submission %s: %s".formatted(submissionJson, e.getMessage()));
-            } catch (CommandException e) {
-                LOGGER.warning("Failed to add submission %s: %s".formatted(submissionJson, e.getMessage()));
+                return new Decoded<>(null, e.getMessage());
             }
         }
-
-        assert addressBook.check();
-
-        return addressBook;
     }
-
 }
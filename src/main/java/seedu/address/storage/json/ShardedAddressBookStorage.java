@@ -0,0 +1,320 @@
+package seedu.address.storage.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.AddressBookStorage;
+
+/**
+ * A class to access AddressBook data stored as one JSON file per tutorial, a
+ * file of students, and a manifest that ties them together.
+ * <p>
+ * Every file other than the manifest has the format of
+ * {@link JsonAddressBookStorage}, but holds only part of the address book. The
+ * students file holds the students. The file of a tutorial holds the tutorial
+ * with its assignments, attendances and submissions. The manifest lists the
+ * files of the tutorials in order, and is the file given to this storage.
+ * <p>
+ * A save only rewrites the files whose contents changed, followed by the
+ * manifest if the tutorials changed. Reading combines the files listed in the
+ * manifest.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+    /** Name of the manifest in the folder of the files */
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    static final String STUDENTS_FILE_NAME = "students.json";
+    static final String MESSAGE_INVALID_FILE_NAME = "Invalid file name in manifest: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String FIELD_VERSION = "version";
+    private static final String FIELD_STUDENTS = "students";
+    private static final String FIELD_TUTORIALS = "tutorials";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_FILE = "file";
+    private static final String[] TUTORIAL_SECTIONS = { "tutorials", "assignments", "attendances", "submissions" };
+    /** File names that can be resolved in the folder of the manifest without leaving it */
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("[\\w-]+\\.json");
+
+    private final Path filePath;
+    private final boolean isPrettyPrinted;
+
+    /** Manifest whose files are described by {@link #saved}, null if unknown */
+    private Path savedFilePath;
+    /** Contents of the manifest and each file by name, as last read or written */
+    private Map<String, String> saved;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the manifest at {@code filePath}, whose files are
+     * written with indentation if {@code isPrettyPrinted} is true.
+     */
+    public ShardedAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Returns the path of the manifest holding the same data as the file at
+     * {@code filePath}, in a folder named after the file without its extension.
+     */
+    public static Path getManifestPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName).resolve(MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Map<String, String> files = new LinkedHashMap<>();
+        ReadOnlyAddressBook addressBook;
+        try {
+            String manifestContents = Files.readString(filePath, UTF_8);
+            files.put(MANIFEST_FILE_NAME, manifestContents);
+            ObjectNode manifest = parse(manifestContents);
+            ObjectNode combined = JsonNodeFactory.instance.objectNode();
+            combined.put(FIELD_VERSION,
+                            manifest.path(FIELD_VERSION).asInt(JsonSerializableAddressBook.CURRENT_VERSION));
+            combined.putArray(FIELD_STUDENTS)
+                            .addAll(arrayOf(parse(readFile(filePath, STUDENTS_FILE_NAME, files)), FIELD_STUDENTS));
+            for (String section : TUTORIAL_SECTIONS) {
+                combined.putArray(section);
+            }
+            for (var tutorial : manifest.path(FIELD_TUTORIALS)) {
+                ObjectNode file = parse(readFile(filePath, tutorial.path(FIELD_FILE).asText(), files));
+                for (String section : TUTORIAL_SECTIONS) {
+                    combined.withArray(section).addAll(arrayOf(file, section));
+                }
+            }
+            addressBook = JsonUtil.fromJsonTree(combined, JsonSerializableAddressBook.class).toModelType();
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading sharded address book " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        savedFilePath = filePath;
+        saved = files;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath
+     *            location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Map<String, String> previous = filePath.equals(savedFilePath) ? saved : readManifestOnly(filePath);
+        Map<String, String> files = split(addressBook, previous.get(MANIFEST_FILE_NAME));
+
+        savedFilePath = null;
+        FileUtil.createParentDirsOfFile(filePath);
+        // The manifest is written last, so that it never lists a file that is not there yet
+        for (var file : files.entrySet()) {
+            if (!file.getKey().equals(MANIFEST_FILE_NAME) && !file.getValue().equals(previous.get(file.getKey()))) {
+                writeFile(filePath.resolveSibling(file.getKey()), file.getValue());
+            }
+        }
+        if (!files.get(MANIFEST_FILE_NAME).equals(previous.get(MANIFEST_FILE_NAME))) {
+            writeFile(filePath, files.get(MANIFEST_FILE_NAME));
+        }
+        for (var fileName : previous.keySet()) {
+            if (!files.containsKey(fileName)) {
+                Files.deleteIfExists(filePath.resolveSibling(fileName));
+            }
+        }
+
+        savedFilePath = filePath;
+        saved = files;
+    }
+
+    private static void writeFile(Path path, String contents) throws IOException {
+        logger.fine("Writing " + path);
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.writeString(tempPath, contents, UTF_8);
+        FileUtil.replaceFile(tempPath, path);
+    }
+
+    /**
+     * Reads the file named {@code fileName} next to the manifest at
+     * {@code manifestPath} into {@code files}, and returns its contents.
+     *
+     * @throws IllegalValueException
+     *             if the file could be outside the folder of the manifest
+     */
+    private static String readFile(Path manifestPath, String fileName, Map<String, String> files)
+                    throws IOException, IllegalValueException {
+        if (!FILE_NAME_PATTERN.matcher(fileName).matches()) {
+            throw new IllegalValueException(MESSAGE_INVALID_FILE_NAME.formatted(fileName));
+        }
+        String contents = Files.readString(manifestPath.resolveSibling(fileName), UTF_8);
+        files.put(fileName, contents);
+        return contents;
+    }
+
+    /**
+     * Returns the manifest at {@code manifestPath} with the files it lists, whose
+     * contents are unknown, or nothing if it cannot be read.
+     */
+    private static Map<String, String> readManifestOnly(Path manifestPath) {
+        Map<String, String> files = new LinkedHashMap<>();
+        if (!Files.exists(manifestPath)) {
+            return files;
+        }
+
+        try {
+            String contents = Files.readString(manifestPath, UTF_8);
+            files.put(MANIFEST_FILE_NAME, contents);
+            parse(contents).path(FIELD_TUTORIALS).forEach(tutorial -> {
+                String fileName = tutorial.path(FIELD_FILE).asText();
+                if (FILE_NAME_PATTERN.matcher(fileName).matches()) {
+                    files.put(fileName, null);
+                }
+            });
+        } catch (IOException e) {
+            logger.warning("Ignoring unreadable manifest " + manifestPath + ": " + e);
+        }
+        return files;
+    }
+
+    /**
+     * Returns the contents of the students file, the file of each tutorial and
+     * the manifest for {@code addressBook}. Tutorials keep the file given to them
+     * in {@code previousManifest}, and new tutorials get a file named after them.
+     */
+    private Map<String, String> split(ReadOnlyAddressBook addressBook, String previousManifest) throws IOException {
+        Map<String, String> previousFileNames = new HashMap<>();
+        if (previousManifest != null) {
+            parse(previousManifest).path(FIELD_TUTORIALS).forEach(tutorial -> previousFileNames
+                            .put(tutorial.path(FIELD_NAME).asText(), tutorial.path(FIELD_FILE).asText()));
+        }
+
+        Map<String, Shard> shards = new LinkedHashMap<>();
+        addressBook.getTutorialList().forEach(t -> shards.put(t.name(), new Shard(new JsonAdaptedTutorial(t))));
+        for (var tutorial : addressBook.getTutorialList()) {
+            tutorial.assignments().forEach(a -> shards.get(tutorial.name()).assignments.add(
+                            new JsonAdaptedAssignment(a)));
+        }
+        addressBook.getAttendanceList().forEach(a -> shards.get(a.tutorial().name()).attendances.add(
+                        new JsonAdaptedAttendance(a)));
+        addressBook.getSubmissionList().forEach(s -> shards.get(s.assignment().tutorial().name()).submissions.add(
+                        new JsonAdaptedSubmission(s)));
+
+        Map<String, String> files = new LinkedHashMap<>();
+        ObjectNode manifest = JsonNodeFactory.instance.objectNode()
+                        .put(FIELD_VERSION, JsonSerializableAddressBook.CURRENT_VERSION);
+        ArrayNode manifestTutorials = manifest.putArray(FIELD_TUTORIALS);
+        files.put(STUDENTS_FILE_NAME, serialize(new JsonSerializableAddressBook(
+                        JsonSerializableAddressBook.CURRENT_VERSION, addressBook.getStudentList().stream()
+                                        .map(JsonAdaptedStudent::new).toList(), List.of(), List.of(), List.of(),
+                        List.of())));
+
+        // File names are compared ignoring case, for file systems that do so
+        Set<String> usedFileNames = new HashSet<>(Set.of(MANIFEST_FILE_NAME, STUDENTS_FILE_NAME));
+        for (var shard : shards.entrySet()) {
+            String name = shard.getKey();
+            String fileName = previousFileNames.get(name);
+            if (fileName == null || !FILE_NAME_PATTERN.matcher(fileName).matches()
+                            || usedFileNames.contains(fileName.toLowerCase(Locale.ROOT))) {
+                fileName = name + ".json";
+                for (int i = 2; usedFileNames.contains(fileName.toLowerCase(Locale.ROOT)); i++) {
+                    fileName = name + "-" + i + ".json";
+                }
+            }
+            usedFileNames.add(fileName.toLowerCase(Locale.ROOT));
+            manifestTutorials.addObject().put(FIELD_NAME, name).put(FIELD_FILE, fileName);
+            files.put(fileName, serialize(shard.getValue().toSerializable()));
+        }
+
+        files.put(MANIFEST_FILE_NAME, serialize(manifest));
+        return files;
+    }
+
+    private String serialize(Object contents) throws IOException {
+        return isPrettyPrinted ? JsonUtil.toJsonString(contents) : JsonUtil.toCompactJsonString(contents);
+    }
+
+    private static ObjectNode parse(String contents) throws IOException {
+        return JsonUtil.fromJsonString(contents, ObjectNode.class);
+    }
+
+    private static ArrayNode arrayOf(ObjectNode file, String section) {
+        JsonNode records = file.path(section);
+        return records.isArray() ? (ArrayNode) records : JsonNodeFactory.instance.arrayNode();
+    }
+
+    /**
+     * The records stored in the file of one tutorial.
+     */
+    private static class Shard {
+        private final JsonAdaptedTutorial tutorial;
+        private final List<JsonAdaptedAssignment> assignments = new ArrayList<>();
+        private final List<JsonAdaptedAttendance> attendances = new ArrayList<>();
+        private final List<JsonAdaptedSubmission> submissions = new ArrayList<>();
+
+        Shard(JsonAdaptedTutorial tutorial) {
+            this.tutorial = tutorial;
+        }
+
+        JsonSerializableAddressBook toSerializable() {
+            return new JsonSerializableAddressBook(JsonSerializableAddressBook.CURRENT_VERSION, List.of(),
+                            List.of(tutorial), submissions, attendances, assignments);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_NAVIGATION_MODE;
+import static seedu.address.logic.Messages.MESSAGE_LOADING;
 
 import java.util.HashMap;
 import java.util.logging.Logger;
@@ -21,6 +22,7 @@ import javafx.scene.text.Font;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.BackgroundTaskListener;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -44,6 +46,7 @@ import seedu.address.ui.tutorial.TutorialListPanel;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String LOADING_DESCRIPTION = "Loading data";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -200,12 +203,44 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater((
+        ) -> resultDisplay.setFeedbackToUser(message)));
 
         statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), logic.getNavigationMode());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        logic.setBackgroundTaskListener(new BackgroundTaskListener() {
+            @Override
+            public void onProgress(String description, long done, long total) {
+                Platform.runLater((
+                ) -> statusBarFooter.showTaskProgress(description, done, total));
+            }
+
+            @Override
+            public void onFinished(String message) {
+                Platform.runLater((
+                ) -> {
+                    statusBarFooter.hideTaskProgress();
+                    resultDisplay.setFeedbackToUser(message);
+                });
+            }
+        });
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        if (logic.isLoading()) {
+            statusBarFooter.showLoading(LOADING_DESCRIPTION);
+            resultDisplay.setFeedbackToUser(String.format(MESSAGE_LOADING, logic.getAddressBookFilePath()));
+        }
+    }
+
+    /**
+     * Replaces the loading state shown while the address book is loaded with
+     * {@code message}.
+     */
+    void showLoaded(String message) {
+        statusBarFooter.hideTaskProgress();
+        resultDisplay.setFeedbackToUser(message);
     }
 
     /**
@@ -10,4 +10,7 @@ public interface Ui {
     /** Starts the UI (and the App). */
     void start(Stage primaryStage);
 
+    /** Shows that the address book has been loaded, with {@code message} for the user. */
+    void showLoaded(String message);
+
 }
@@ -50,6 +50,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showLoaded(String message) {
+        if (mainWindow != null) {
+            mainWindow.showLoaded(message);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -1,6 +1,5 @@
 package seedu.address.ui.attendence;
 
-import java.util.List;
 import java.util.stream.IntStream;
 
 import javafx.fxml.FXML;
@@ -49,14 +48,13 @@ public class AttendanceCard extends UiPart<Region> {
         id.setText(displayedIndex + "");
         studentName.setText(attendance.student().getName().toString());
         tutorialName.setText(attendance.tutorial().name());
-        List<Integer> attendanceList = attendance.attendances();
-        IntStream.range(0, attendance.attendances().size()).forEach(i -> {
-            int week = i + 3;
+        var weeks = attendance.weeks();
+        IntStream.rangeClosed(weeks.firstWeek(), weeks.lastWeek()).forEach(week -> {
             Label label = new Label("Week " + week);
-            if (attendanceList.get(i) == 0) {
-                label.getStyleClass().add("attendance-absent");
-            } else if (attendanceList.get(i) == 1) {
+            if (attendance.isPresent(week)) {
                 label.getStyleClass().add("attendance-present");
+            } else {
+                label.getStyleClass().add("attendance-absent");
             }
             attendances.getChildren().add(label);
         });
@@ -5,6 +5,8 @@ import java.nio.file.Paths;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.NavigationMode;
 import seedu.address.ui.UiPart;
@@ -22,6 +24,15 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label navigationModeStatus;
 
+    @FXML
+    private HBox taskStatus;
+
+    @FXML
+    private Label taskDescription;
+
+    @FXML
+    private ProgressBar taskProgress;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path} and
      * {@code NavigationMode}.
@@ -40,4 +51,31 @@ public class StatusBarFooter extends UiPart<Region> {
         assert navigationMode != NavigationMode.UNCHANGED;
         navigationModeStatus.setText(navigationMode.toString());
     }
+
+    /**
+     * Shows the progress of the background task with {@code description}, which
+     * has done {@code done} out of {@code total} steps.
+     */
+    public void showTaskProgress(String description, long done, long total) {
+        taskDescription.setText(description);
+        taskProgress.setProgress(total == 0 ? 1 : (double) done / total);
+        taskStatus.setVisible(true);
+    }
+
+    /**
+     * Shows {@code description} with a progress bar for a task whose progress is
+     * not known.
+     */
+    public void showLoading(String description) {
+        taskDescription.setText(description);
+        taskProgress.setProgress(ProgressBar.INDETERMINATE_PROGRESS);
+        taskStatus.setVisible(true);
+    }
+
+    /**
+     * Hides the progress of background tasks.
+     */
+    public void hideTaskProgress() {
+        taskStatus.setVisible(false);
+    }
 }
@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +29,17 @@ public class FileUtilTest {
         ) -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void replaceFile_existingTarget_replaced() throws Exception {
+        Path source = testFolder.resolve("source.txt");
+        Path target = testFolder.resolve("target.txt");
+        FileUtil.writeToFile(source, "new");
+        FileUtil.writeToFile(target, "old");
+
+        FileUtil.replaceFile(source, target);
+
+        assertFalse(Files.exists(source));
+        assertEquals("new", FileUtil.readFromFile(target));
+    }
+
 }
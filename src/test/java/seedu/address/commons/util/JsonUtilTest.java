@@ -1,12 +1,15 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +42,19 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void serializeObjectToJsonFile_notPrettyPrinted_writesSingleLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass, false);
+
+        String json = FileUtil.readFromFile(SERIALIZATION_FILE);
+        assertFalse(json.contains("\n"));
+        assertEquals(JsonUtil.fromJsonString(SerializableTestClass.JSON_STRING_REPRESENTATION, JsonNode.class),
+                        JsonUtil.fromJsonString(json, JsonNode.class));
+    }
+
     // TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     // TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,71 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BackgroundTask;
+
+public class BackgroundTaskRunnerTest {
+
+    private final BlockingQueue<String> finished = new LinkedBlockingQueue<>();
+    private final BackgroundTaskRunner runner = new BackgroundTaskRunner();
+
+    @BeforeEach
+    public void setUp() {
+        runner.setListener(new BackgroundTaskListener() {
+            @Override
+            public void onProgress(String description, long done, long total) {
+            }
+
+            @Override
+            public void onFinished(String message) {
+                finished.add(message);
+            }
+        });
+    }
+
+    @Test
+    public void cancelAll_runningAndWaitingTasks_eachReportsFinished() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        runner.start(new Task("Running", started));
+        runner.start(new Task("Waiting", new CountDownLatch(1)));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        assertEquals(2, runner.cancelAll());
+
+        List<String> messages = List.of(finished.poll(10, TimeUnit.SECONDS), finished.poll(10, TimeUnit.SECONDS));
+        assertTrue(messages.contains(BackgroundTaskRunner.MESSAGE_CANCELLED.formatted("Running")));
+        assertTrue(messages.contains(BackgroundTaskRunner.MESSAGE_CANCELLED.formatted("Waiting")));
+    }
+
+    /**
+     * A task that waits until it is interrupted.
+     */
+    private record Task(String description, CountDownLatch started) implements BackgroundTask {
+        @Override
+        public String getDescription() {
+            return description;
+        }
+
+        @Override
+        public String run(Progress progress) throws InterruptedIOException {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            return "Done";
+        }
+    }
+}
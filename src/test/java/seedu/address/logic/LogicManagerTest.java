@@ -1,19 +1,35 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.HANDLE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.HANDLE_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.ID_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ID_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.AMY;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,9 +37,13 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.export.ExportCommand;
+import seedu.address.logic.commands.export.ExportStudentsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -37,11 +57,14 @@ import seedu.address.testutil.StudentBuilder;
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final RuntimeException DUMMY_RUNTIME_EXCEPTION = new IllegalStateException("dummy exception");
 
     @TempDir
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    /** Tasks handed to the thread executing commands, which is the test thread */
+    private BlockingQueue<Runnable> modelThread = new LinkedBlockingQueue<>();
     private Logic logic;
 
     @BeforeEach
@@ -50,7 +73,7 @@ public class LogicManagerTest {
                         temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Long.MAX_VALUE, modelThread::add);
     }
 
     @Test
@@ -72,17 +95,119 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION,
+    public void execute_storageThrowsIoException_reportsSaveError() throws Exception {
+        assertSaveErrorForExceptionFromStorage(DUMMY_IO_EXCEPTION,
                         String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION,
+    public void execute_storageThrowsAdException_reportsSaveError() throws Exception {
+        assertSaveErrorForExceptionFromStorage(DUMMY_AD_EXCEPTION,
                         String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_storageThrowsRuntimeException_reportsSaveError() throws Exception {
+        assertSaveErrorForExceptionFromStorage(DUMMY_RUNTIME_EXCEPTION,
+                        String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_RUNTIME_EXCEPTION));
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        logic = new LogicManager(model, getCountingStorage(saveCount), Long.MAX_VALUE, modelThread::add);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.flush();
+
+        assertEquals(0, saveCount.get());
+    }
+
+    @Test
+    public void execute_exportCommand_exportedInBackground() throws Exception {
+        model.setAddressBookFilePath(temporaryFolder.resolve("addressBook.json"));
+        model.addStudent(new StudentBuilder(AMY).build());
+        CompletableFuture<String> finished = new CompletableFuture<>();
+        logic.setBackgroundTaskListener(new BackgroundTaskListener() {
+            @Override
+            public void onProgress(String description, long done, long total) {
+            }
+
+            @Override
+            public void onFinished(String message) {
+                finished.complete(message);
+            }
+        });
+
+        CommandResult result = logic.execute(ExportCommand.COMMAND_WORD + " " + ExportStudentsCommand.COMMAND_WORD);
+
+        assertTrue(result.getBackgroundTask().isPresent());
+        assertEquals(String.format(ExportStudentsCommand.MESSAGE_SUCCESS, "all tutorials"),
+                        finished.get(10, TimeUnit.SECONDS));
+        assertEquals(2, Files.readAllLines(temporaryFolder.resolve(ExportStudentsCommand.STUDENT_CSV_FILE)).size());
+    }
+
+    @Test
+    public void execute_whileLoading_onlyCommandsNotUsingDataAccepted() throws Exception {
+        logic.startLoading();
+
+        assertCommandException(ListCommand.COMMAND_WORD,
+                        String.format(Messages.MESSAGE_LOADING, model.getAddressBookFilePath()));
+        assertEquals(HelpCommand.SHOWING_HELP_MESSAGE, logic.execute(HelpCommand.COMMAND_WORD).getFeedbackToUser());
+        assertTrue(logic.isLoading());
+    }
+
+    @Test
+    public void finishLoading_sampleData_attachedAndSaved() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        logic = new LogicManager(model, getCountingStorage(saveCount), Long.MAX_VALUE, modelThread::add);
+        logic.startLoading();
+
+        logic.finishLoading(getTypicalAddressBook(), true);
+
+        assertFalse(logic.isLoading());
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        logic.flush();
+        assertEquals(1, saveCount.get());
+    }
+
+    @Test
+    public void execute_severalChanges_savedOnce() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        StorageManager storage = getCountingStorage(saveCount);
+        logic = new LogicManager(model, storage, Long.MAX_VALUE, modelThread::add);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + ID_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                        + HANDLE_DESC_AMY);
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_BOB + ID_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
+                        + HANDLE_DESC_BOB);
+        logic.flush();
+
+        assertEquals(1, saveCount.get());
+        assertEquals(new AddressBook(model.getAddressBook()), storage.readAddressBook().orElseThrow());
+    }
+
+    @Test
+    public void execute_change_snapshotTakenOnModelThreadAfterDelay() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        StorageManager storage = getCountingStorage(saveCount);
+        logic = new LogicManager(model, storage, 0, modelThread::add);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + ID_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                        + HANDLE_DESC_AMY);
+        Runnable takeSnapshot = modelThread.poll(10, TimeUnit.SECONDS);
+        assertEquals(0, saveCount.get());
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_BOB + ID_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB
+                        + HANDLE_DESC_BOB);
+        takeSnapshot.run();
+        logic.flush();
+
+        assertEquals(1, saveCount.get());
+        assertEquals(new AddressBook(model.getAddressBook()), storage.readAddressBook().orElseThrow());
+    }
+
     @Test
     public void getFilteredStudentList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, (
@@ -153,24 +278,43 @@ public class LogicManagerTest {
     }
 
     /**
-     * Tests the Logic component's handling of an {@code IOException} thrown by the
-     * Storage component.
+     * Returns a storage in the temporary folder that counts the number of times the
+     * address book is saved.
+     */
+    private StorageManager getCountingStorage(AtomicInteger saveCount) {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                        temporaryFolder.resolve("countingAddressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount.incrementAndGet();
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        return new StorageManager(addressBookStorage,
+                        new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json")));
+    }
+
+    /**
+     * Tests the Logic component's handling of an {@code IOException} or
+     * {@code RuntimeException} thrown by the Storage component.
      *
      * @param e
      *            the exception to be thrown by the Storage component
      * @param expectedMessage
-     *            the message expected inside exception thrown by the Logic
-     *            component
+     *            the message expected to be reported by the Logic component
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveErrorForExceptionFromStorage(Exception e, String expectedMessage) throws Exception {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e
+        // Inject LogicManager with an AddressBookStorage that throws the exception e
         // when saving
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-                throw e;
+                if (e instanceof IOException ioException) {
+                    throw ioException;
+                }
+                throw (RuntimeException) e;
             }
         };
 
@@ -178,7 +322,9 @@ public class LogicManagerTest {
                         temporaryFolder.resolve("ExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Long.MAX_VALUE, modelThread::add);
+        List<String> errors = new ArrayList<>();
+        logic.setSaveErrorHandler(errors::add);
 
         // Triggers the saveAddressBook method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + ID_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
@@ -186,6 +332,9 @@ public class LogicManagerTest {
         Student expectedStudent = new StudentBuilder(AMY).withTutorials().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addStudent(expectedStudent);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedStudent)),
+                        expectedModel);
+        logic.flush();
+        assertEquals(List.of(expectedMessage), errors);
     }
 }
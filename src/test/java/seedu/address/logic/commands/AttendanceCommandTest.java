@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
@@ -13,11 +14,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.NavigationMode;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.WeekRange;
+import seedu.address.testutil.StudentBuilder;
 import seedu.address.testutil.TypicalAddressBook;
 
 public class AttendanceCommandTest {
@@ -138,18 +143,22 @@ public class AttendanceCommandTest {
     }
 
     private void execute_setAttendance_invalidWeek(int week, boolean isMark) throws Exception {
-        List<Index> indices = List.of(TEST_INDEX_ONE);
+        List<Index> indices = List.of(TEST_INDEX_TWO, TEST_INDEX_ONE);
+        List<Integer> expectedAttendances = modelStub.getAddressBook().getAttendanceList().get(1).attendances();
         if (isMark) {
             MarkAttendanceCommand cmd = new MarkAttendanceCommand(week, indices);
 
-            assertThrows(AssertionError.class, (
-            ) -> cmd.execute(modelStub));
+            assertThrows(CommandException.class, MarkAttendanceCommand.MESSAGE_INVALID_WEEK.formatted(2, START_WEEK,
+                            END_WEEK), (
+                            ) -> cmd.execute(modelStub));
         } else {
             UnmarkAttendanceCommand cmd = new UnmarkAttendanceCommand(week, indices);
 
-            assertThrows(AssertionError.class, (
-            ) -> cmd.execute(modelStub));
+            assertThrows(CommandException.class, UnmarkAttendanceCommand.MESSAGE_INVALID_WEEK.formatted(2,
+                            START_WEEK, END_WEEK), (
+                            ) -> cmd.execute(modelStub));
         }
+        assertEquals(expectedAttendances, modelStub.getAddressBook().getAttendanceList().get(1).attendances());
     }
 
     @Test
@@ -172,6 +181,23 @@ public class AttendanceCommandTest {
         execute_setAttendance_invalidWeek(END_WEEK + 1, false);
     }
 
+    @Test
+    public void execute_markAttendance_preferredWeeks() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setWeekRange(new WeekRange(1, 13));
+        Model model = new ModelManager(new AddressBook(), userPrefs);
+        model.setNavigationMode(NavigationMode.ATTENDANCE);
+        model.addTutorial(TypicalAddressBook.T1);
+        model.addStudent(new StudentBuilder(TypicalAddressBook.ALICE).build());
+
+        CommandResult commandResult = new MarkAttendanceCommand(1, List.of(TEST_INDEX_ONE)).execute(model);
+
+        assertEquals(MarkAttendanceCommand.MESSAGE_SUCCESS, commandResult.getFeedbackToUser());
+        Attendance attendance = model.getAddressBook().getAttendanceList().get(0);
+        assertEquals(new WeekRange(1, 13), attendance.weeks());
+        assertTrue(attendance.isPresent(1));
+    }
+
     private void execute_setAttendance_successWithInvalidIndex(boolean isMark) throws Exception {
         CommandResult commandResult;
         String errorMsg = "Attendance at index 100 is out of bounds\n";
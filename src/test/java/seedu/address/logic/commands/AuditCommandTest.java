@@ -0,0 +1,32 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tutorial.Tutorial;
+
+public class AuditCommandTest {
+
+    @Test
+    public void execute_consistentAddressBook_success() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(new AuditCommand(), model, AuditCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_studentLinkedToMissingTutorial_failure() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.getAddressBook().getStudentList().get(0).addTutorial(new Tutorial("Missing"));
+
+        assertCommandFailure(new AuditCommand(), model,
+                        AuditCommand.MESSAGE_FAILURE.formatted("Students are inconsistent"));
+    }
+}
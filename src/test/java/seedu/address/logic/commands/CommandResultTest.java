@@ -37,6 +37,10 @@ public class CommandResultTest {
 
         // different resultingMode value -> fail
         assertNotEquals(commandResult, new CommandResult("feedback", NavigationMode.TUTORIAL, false, false));
+
+        // different cancelBackgroundTasks value -> fail
+        assertNotEquals(commandResult, new CommandResult("feedback", true));
+        assertEquals(commandResult, new CommandResult("feedback", false));
     }
 
     @Test
@@ -67,7 +71,9 @@ public class CommandResultTest {
         CommandResult commandResult = new CommandResult("feedback");
         String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
                         + commandResult.getFeedbackToUser() + ", resultingMode=" + commandResult.getResultingMode()
-                        + ", showHelp=" + commandResult.isShowHelp() + ", exit=" + commandResult.isExit() + "}";
+                        + ", showHelp=" + commandResult.isShowHelp() + ", exit=" + commandResult.isExit()
+                        + ", backgroundTask=null, cancelBackgroundTasks=" + commandResult.isCancelBackgroundTasks()
+                        + "}";
         assertEquals(expected, commandResult.toString());
     }
 }
@@ -1,29 +1,38 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_STUDENTS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.AMY;
+import static seedu.address.testutil.TypicalAddressBook.CARL;
+import static seedu.address.testutil.TypicalAddressBook.T1;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentContainsKeywordsPredicate;
 import seedu.address.model.tutorial.StudentContainsTutorialKeywordsPredicate;
+import seedu.address.testutil.StudentBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for
  * {@code FindCommand}.
  */
 public class FindCommandTest {
-    private static final NameContainsKeywordsPredicate emptyNamePredicate = new NameContainsKeywordsPredicate(
+    private static final StudentContainsKeywordsPredicate emptyNamePredicate = new StudentContainsKeywordsPredicate(
                     Collections.emptyList());
     private static final StudentContainsTutorialKeywordsPredicate emptyT = new StudentContainsTutorialKeywordsPredicate(
                     Collections.emptyList());
@@ -33,9 +42,9 @@ public class FindCommandTest {
 
     @Test
     public void equals() {
-        NameContainsKeywordsPredicate firstNamePredicate = new NameContainsKeywordsPredicate(
+        StudentContainsKeywordsPredicate firstNamePredicate = new StudentContainsKeywordsPredicate(
                         Collections.singletonList("first"));
-        NameContainsKeywordsPredicate secondNamePredicate = new NameContainsKeywordsPredicate(
+        StudentContainsKeywordsPredicate secondNamePredicate = new StudentContainsKeywordsPredicate(
                         Collections.singletonList("second"));
         StudentContainsTutorialKeywordsPredicate firstTutorialPredicate = new StudentContainsTutorialKeywordsPredicate(
                         Collections.singletonList("tutorial1"));
@@ -65,7 +74,7 @@ public class FindCommandTest {
     @Test
     public void execute_zeroKeywords_noStudentFound() {
         String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 0);
-        NameContainsKeywordsPredicate namePredicate = emptyNamePredicate;
+        StudentContainsKeywordsPredicate namePredicate = emptyNamePredicate;
         StudentContainsTutorialKeywordsPredicate tutorialPredicate = emptyT;
         FindCommand command = new FindCommand(namePredicate, tutorialPredicate);
         expectedModel.updateFilteredStudentList(namePredicate);
@@ -78,7 +87,7 @@ public class FindCommandTest {
     @Test
     public void execute_multipleKeywords_multipleStudentsFound() {
         String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 3);
-        NameContainsKeywordsPredicate predicate = prepareNamePredicate("Kurz Elle Kunz");
+        StudentContainsKeywordsPredicate predicate = prepareNamePredicate("Kurz Elle Kunz");
         FindCommand command = new FindCommand(predicate, null);
         expectedModel.updateFilteredStudentList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
@@ -105,7 +114,7 @@ public class FindCommandTest {
     @Test
     public void executeNameAliceTutorialCS2103T23SingleStudentFound() {
         String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 1);
-        NameContainsKeywordsPredicate namePredicate = prepareNamePredicate("Alice");
+        StudentContainsKeywordsPredicate namePredicate = prepareNamePredicate("Alice");
         StudentContainsTutorialKeywordsPredicate tutorialPredicate = prepareTutorialPredicate("CS2103-T1");
         FindCommand command = new FindCommand(namePredicate, tutorialPredicate);
         expectedModel.updateFilteredStudentList(
@@ -113,22 +122,96 @@ public class FindCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_emailAndStudentIdKeywords_studentsFound() {
+        String expectedMessage = String.format(MESSAGE_STUDENTS_LISTED_OVERVIEW, 2);
+        StudentContainsKeywordsPredicate predicate = prepareNamePredicate("ALICE@example.com A0388094Q");
+        FindCommand command = new FindCommand(predicate, null);
+        expectedModel.updateFilteredStudentList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, CARL), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_studentEdited_foundByNewName() throws Exception {
+        Student alice = model.getAddressBook().getStudentList().get(0);
+        model.setStudent(alice, new StudentBuilder(alice).withName("Alicia Pauline").build());
+
+        new FindCommand(prepareNamePredicate("alicia alice"), null).execute(model);
+
+        assertEquals(List.of(alice), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_studentDeleted_notFound() throws Exception {
+        model.deleteStudent(model.getAddressBook().getStudentList().get(0));
+
+        new FindCommand(prepareNamePredicate("alice"), null).execute(model);
+
+        assertEquals(Collections.emptyList(), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_matchingStudentAddedAfterFind_shown() {
+        new FindCommand(prepareNamePredicate("amy"), null).execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredStudentList());
+
+        Student amy = new StudentBuilder(AMY).build();
+        model.addStudent(amy);
+
+        assertTrue(model.getFilteredStudentList().stream().anyMatch(amy::isSameStudent));
+    }
+
+    @Test
+    public void execute_studentEditedToMatchAfterFind_shown() throws Exception {
+        new FindCommand(prepareNamePredicate("alicia"), null).execute(model);
+        assertEquals(Collections.emptyList(), model.getFilteredStudentList());
+
+        Student alice = model.getAddressBook().getStudentList().get(0);
+        model.setStudent(alice, new StudentBuilder(alice).withName("Alicia Pauline").build());
+
+        assertEquals(List.of(alice), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_matchingStudentDeletedAfterFind_hidden() throws Exception {
+        new FindCommand(prepareNamePredicate("alice carl"), null).execute(model);
+        Student alice = model.getAddressBook().getStudentList().get(0);
+
+        model.deleteStudent(alice);
+
+        assertEquals(1, model.getFilteredStudentList().size());
+        assertFalse(model.getFilteredStudentList().contains(alice));
+    }
+
+    @Test
+    public void execute_studentAddedToTutorialAfterFind_shown() throws Exception {
+        new FindCommand(null, prepareTutorialPredicate(T1.name())).execute(model);
+        Student carl = model.getAddressBook().getStudentList().stream().filter(CARL::isSameStudent).findFirst()
+                        .orElseThrow();
+        assertFalse(model.getFilteredStudentList().contains(carl));
+
+        model.addStudentToTutorial(T1, carl);
+
+        assertTrue(model.getFilteredStudentList().contains(carl));
+    }
+
     @Test
     public void toStringMethod() {
-        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
+        StudentContainsKeywordsPredicate namePredicate = new StudentContainsKeywordsPredicate(Arrays.asList("keyword"));
         StudentContainsTutorialKeywordsPredicate tutorialPredicate = new StudentContainsTutorialKeywordsPredicate(
                         Arrays.asList("tutorial1"));
         FindCommand findCommand = new FindCommand(namePredicate, tutorialPredicate);
-        String expected = FindCommand.class.getCanonicalName() + "{namePredicate=" + namePredicate
+        String expected = FindCommand.class.getCanonicalName() + "{keywordPredicate=" + namePredicate
                         + ", tutorialPredicate=" + tutorialPredicate + "}";
         assertEquals(expected, findCommand.toString());
     }
 
     /**
-     * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
+     * Parses {@code userInput} into a {@code StudentContainsKeywordsPredicate}.
      */
-    private NameContainsKeywordsPredicate prepareNamePredicate(String userInput) {
-        return new NameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    private StudentContainsKeywordsPredicate prepareNamePredicate(String userInput) {
+        return new StudentContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
     }
 
     /**
@@ -0,0 +1,124 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalAddressBook.AMY;
+import static seedu.address.testutil.TypicalAddressBook.HOON;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.csv.CsvAdaptedStudent;
+import seedu.address.storage.csv.CsvListStorage;
+import seedu.address.testutil.StudentBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "NAME,ID,PHONE,EMAIL,HANDLE,TUTORIALS";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+        model = new ModelManager(getTypicalAddressBook(), userPrefs);
+        expectedModel = new ModelManager(getTypicalAddressBook(), userPrefs);
+    }
+
+    private static String toLine(CsvAdaptedStudent student) {
+        return String.join(",", student.getName(), student.getId(), student.getPhone(), student.getEmail(),
+                        student.getHandle(), student.getTutorials());
+    }
+
+    @Test
+    public void execute_validFile_studentsAdded() throws Exception {
+        Path filePath = testFolder.resolve(ImportCommand.DEFAULT_FILE_NAME);
+        new CsvListStorage<CsvAdaptedStudent>(filePath, CsvAdaptedStudent.HEADER)
+                        .saveCsvList(List.of(new CsvAdaptedStudent(AMY), new CsvAdaptedStudent(HOON)));
+
+        expectedModel.addStudents(List.of(new StudentBuilder(AMY).build(), new StudentBuilder(HOON).build()));
+        assertCommandSuccess(new ImportCommand(ImportCommand.DEFAULT_FILE_NAME), model,
+                        ImportCommand.MESSAGE_SUCCESS.formatted(2, filePath), expectedModel);
+        assertTrue(model.getAddressBook().getSubmissionList().stream()
+                        .anyMatch(submission -> submission.student().isSameStudent(AMY)));
+    }
+
+    @Test
+    public void execute_invalidRows_validRowsAddedAndProblemsReported() throws Exception {
+        Path filePath = testFolder.resolve("roster.csv");
+        Files.write(filePath, List.of(HEADER,
+                        toLine(new CsvAdaptedStudent(HOON)),
+                        toLine(new CsvAdaptedStudent(HOON)),
+                        "Nobody,not an id,123,nobody@example.com,@nobody,",
+                        toLine(new CsvAdaptedStudent(AMY)).replace(AMY.getTutorials().iterator().next().name(),
+                                        "Missing")));
+
+        CommandResult result = new ImportCommand("roster.csv").execute(model);
+
+        String feedback = result.getFeedbackToUser();
+        assertTrue(feedback.startsWith(ImportCommand.MESSAGE_SUCCESS.formatted(2, filePath)));
+        assertTrue(feedback.contains(ImportCommand.MESSAGE_PROBLEMS.formatted(3)));
+        assertTrue(feedback.contains(ImportCommand.MESSAGE_DUPLICATE_STUDENT.formatted(3, HOON.getName())));
+        assertTrue(feedback.contains("Line 4: "));
+        assertTrue(feedback.contains(ImportCommand.MESSAGE_TUTORIAL_NOT_FOUND.formatted(5, "Missing", AMY.getName())));
+        assertTrue(model.hasStudent(HOON));
+        assertTrue(model.hasStudent(AMY));
+    }
+
+    @Test
+    public void execute_manyProblems_problemsShownCapped() throws Exception {
+        Path filePath = testFolder.resolve("roster.csv");
+        String invalid = "Nobody,not an id,123,nobody@example.com,@nobody,";
+        Files.write(filePath, List.of(HEADER, invalid, invalid, invalid, invalid, invalid, invalid, invalid, invalid,
+                        invalid, invalid, invalid, invalid));
+
+        String feedback = new ImportCommand("roster.csv").execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains(ImportCommand.MESSAGE_MORE_PROBLEMS.formatted(2)));
+        assertFalse(feedback.contains("Line 12: "));
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_missingFile_failure() {
+        assertCommandFailure(new ImportCommand("missing.csv"), model,
+                        ImportCommand.MESSAGE_FILE_NOT_FOUND.formatted(testFolder.resolve("missing.csv")));
+    }
+
+    @Test
+    public void execute_missingColumns_failure() throws Exception {
+        Path filePath = testFolder.resolve("roster.csv");
+        Files.write(filePath, List.of("NAME,PHONE", "Hoon Meier,84802424"));
+
+        assertCommandFailure(new ImportCommand("roster.csv"), model, ImportCommand.MESSAGE_FILE_NOT_READ.formatted(
+                        filePath, CsvListStorage.MESSAGE_MISSING_COLUMNS.formatted("EMAIL, HANDLE, ID")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand("a.csv");
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand("a.csv")));
+        assertFalse(importCommand.equals(null));
+        assertNotEquals(importCommand, new ImportCommand("b.csv"));
+    }
+}
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddTutorialCommand;
+import seedu.address.logic.commands.AuditCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.DeleteTutorialCommand;
@@ -23,12 +24,13 @@ import seedu.address.logic.commands.EditCommand.EditStudentDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListTutorialCommand;
 import seedu.address.logic.commands.TutorialCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.student.NameContainsKeywordsPredicate;
 import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentContainsKeywordsPredicate;
 import seedu.address.model.tutorial.StudentContainsTutorialKeywordsPredicate;
 import seedu.address.testutil.EditStudentDescriptorBuilder;
 import seedu.address.testutil.StudentBuilder;
@@ -51,6 +53,11 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_audit() throws Exception {
+        assertTrue(parser.parseCommand(AuditCommand.COMMAND_WORD) instanceof AuditCommand);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser
@@ -82,7 +89,7 @@ public class AddressBookParserTest {
         String input = FindCommand.COMMAND_WORD + " " + nameKeywords.stream().collect(Collectors.joining(" ")) + " "
                         + tutorialKeywords.stream().collect(Collectors.joining(" "));
         FindCommand command = (FindCommand) parser.parseCommand(input);
-        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(nameKeywords);
+        StudentContainsKeywordsPredicate namePredicate = new StudentContainsKeywordsPredicate(nameKeywords);
         StudentContainsTutorialKeywordsPredicate tutorialPredicate = new StudentContainsTutorialKeywordsPredicate(
                         tutorials);
         assertEquals(new FindCommand(namePredicate, tutorialPredicate), command);
@@ -94,6 +101,16 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        assertEquals(new ImportCommand(ImportCommand.DEFAULT_FILE_NAME),
+                        parser.parseCommand(ImportCommand.COMMAND_WORD));
+        assertEquals(new ImportCommand("roster.csv"), parser.parseCommand(ImportCommand.COMMAND_WORD + " roster.csv"));
+        assertThrows(ParseException.class,
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE), (
+                        ) -> parser.parseCommand(ImportCommand.COMMAND_WORD + " ../roster.csv"));
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
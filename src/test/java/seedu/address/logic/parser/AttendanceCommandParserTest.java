@@ -21,8 +21,6 @@ public class AttendanceCommandParserTest {
     private static final int DUMMY_INDEX_TWO = 2;
     private static final int START_WEEK = 3;
     private static final int END_WEEK = 13;
-    private static final String MESSAGE_INVALID_WEEK = "Weeks are from 3 to 13.\nIf you are making up for tutorials, "
-                    + "enter the week that is being accounted for.";
 
     private final AttendanceParser attendanceParser = new AttendanceParser();
     private final MarkAttendanceCommandParser markAttendanceParser = new MarkAttendanceCommandParser();
@@ -93,29 +91,21 @@ public class AttendanceCommandParserTest {
         parseCommand_attendanceCommand_success(unmarkAttendanceParser, false);
     }
 
-    private void parseCommand_attendanceCommand_invalidWeek(Parser<? extends Command> parser, int week) {
-        var cmd = "w/%d i/%d".formatted(week, DUMMY_INDEX_ONE);
-        assertParseFailure(parser, cmd, MESSAGE_INVALID_WEEK);
-    }
-
-    @Test
-    public void parseCommand_markAttendanceCommand_invalidWeekLow() {
-        parseCommand_attendanceCommand_invalidWeek(markAttendanceParser, START_WEEK - 1);
-    }
-
-    @Test
-    public void parseCommand_unmarkAttendanceCommand_invalidWeekLow() {
-        parseCommand_attendanceCommand_invalidWeek(unmarkAttendanceParser, START_WEEK - 1);
-    }
-
+    // The weeks of each attendance record are checked by the command
     @Test
-    public void parseCommand_markAttendanceCommand_invalidWeekHigh() {
-        parseCommand_attendanceCommand_invalidWeek(markAttendanceParser, END_WEEK + 1);
+    public void parseCommand_markAttendanceCommand_weekOutsideDefaultWeeks() {
+        assertParseSuccess(markAttendanceParser, "w/%d i/%d".formatted(START_WEEK - 1, DUMMY_INDEX_ONE),
+                        new MarkAttendanceCommand(START_WEEK - 1, List.of(Index.fromOneBased(DUMMY_INDEX_ONE))));
+        assertParseSuccess(markAttendanceParser, "w/%d i/%d".formatted(END_WEEK + 1, DUMMY_INDEX_ONE),
+                        new MarkAttendanceCommand(END_WEEK + 1, List.of(Index.fromOneBased(DUMMY_INDEX_ONE))));
     }
 
     @Test
-    public void parseCommand_unmarkAttendanceCommand_invalidWeekHigh() {
-        parseCommand_attendanceCommand_invalidWeek(unmarkAttendanceParser, END_WEEK + 1);
+    public void parseCommand_unmarkAttendanceCommand_weekOutsideDefaultWeeks() {
+        assertParseSuccess(unmarkAttendanceParser, "w/%d i/%d".formatted(START_WEEK - 1, DUMMY_INDEX_ONE),
+                        new UnmarkAttendanceCommand(START_WEEK - 1, List.of(Index.fromOneBased(DUMMY_INDEX_ONE))));
+        assertParseSuccess(unmarkAttendanceParser, "w/%d i/%d".formatted(END_WEEK + 1, DUMMY_INDEX_ONE),
+                        new UnmarkAttendanceCommand(END_WEEK + 1, List.of(Index.fromOneBased(DUMMY_INDEX_ONE))));
     }
 
     private void parseCommand_attendanceCommand_invalidMultipleWeeks(Parser<? extends Command> parser) {
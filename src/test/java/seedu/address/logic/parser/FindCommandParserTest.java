@@ -9,7 +9,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
-import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.student.StudentContainsKeywordsPredicate;
 import seedu.address.model.tutorial.StudentContainsTutorialKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -25,7 +25,7 @@ public class FindCommandParserTest {
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
         FindCommand expectedFindCommand = new FindCommand(
-                        new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), null);
+                        new StudentContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")), null);
         assertParseSuccess(parser, "Alice Bob", expectedFindCommand);
 
         // multiple whitespaces between keywords
@@ -33,7 +33,7 @@ public class FindCommandParserTest {
 
         // mixed name and tutorial keywords
         FindCommand expectedMixedFindCommand = new FindCommand(
-                        new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")),
+                        new StudentContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")),
                         new StudentContainsTutorialKeywordsPredicate(Arrays.asList("t1", "t2")));
         assertParseSuccess(parser, "Alice Bob t/t1 t/t2", expectedMixedFindCommand);
     }
@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.HOON;
+import static seedu.address.testutil.TypicalAddressBook.T1;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attendance.WeekRange;
+import seedu.address.model.student.Name;
+import seedu.address.model.submission.SubmissionStatus;
+import seedu.address.model.tutorial.Tutorial;
+import seedu.address.testutil.StudentBuilder;
+
+public class AddressBookBuilderTest {
+
+    /**
+     * Returns a builder holding every record of {@code addressBook}
+     */
+    private static AddressBookBuilder builderOf(AddressBook addressBook) {
+        var builder = new AddressBookBuilder();
+        addressBook.getTutorialList().forEach(builder::addTutorial);
+        addressBook.getStudentList().forEach(builder::addStudent);
+        addressBook.getTutorialList().forEach(t -> t.assignments().forEach(builder::addAssignment));
+        addressBook.getAttendanceList().forEach(a -> builder.addAttendance(a.tutorial().name(),
+                        a.student().getName(), a.weeks(), a.presence()));
+        addressBook.getSubmissionList().forEach(s -> builder.addSubmission(s.assignment().tutorial().name(),
+                        s.assignment().name(), s.student().getName(), s.status()));
+        return builder;
+    }
+
+    @Test
+    public void build_typicalRecords_sameAsAddingOneByOne() {
+        AddressBook expected = getTypicalAddressBook();
+
+        AddressBook addressBook = builderOf(expected).build();
+
+        assertEquals(expected, addressBook);
+        assertDoesNotThrow(addressBook::check);
+        assertDoesNotThrow(addressBook::audit);
+    }
+
+    @Test
+    public void build_recordsBeforeStudents_sameAsAddingInOrder() {
+        AddressBook expected = getTypicalAddressBook();
+        var builder = new AddressBookBuilder();
+        expected.getSubmissionList().forEach(s -> builder.addSubmission(s.assignment().tutorial().name(),
+                        s.assignment().name(), s.student().getName(), s.status()));
+        expected.getAttendanceList().forEach(a -> builder.addAttendance(a.tutorial().name(),
+                        a.student().getName(), a.weeks(), a.presence()));
+        expected.getTutorialList().forEach(t -> t.assignments().forEach(builder::addAssignment));
+        expected.getStudentList().forEach(builder::addStudent);
+        expected.getTutorialList().forEach(builder::addTutorial);
+
+        assertEquals(expected, builder.build());
+    }
+
+    @Test
+    public void build_unknownReferences_skipped() {
+        AddressBook expected = getTypicalAddressBook();
+
+        AddressBook addressBook = builderOf(expected)
+                        .addStudent(new StudentBuilder(HOON).appendTutorial(new Tutorial("Missing")).build())
+                        .addAttendance(T1.name(), new Name("Nobody"), WeekRange.DEFAULT, 1)
+                        .addSubmission(T1.name(), "Missing", ALICE.getName(), SubmissionStatus.GRADED)
+                        .addSubmission(T1.name(), "Week 10 Tasks", HOON.getName(), SubmissionStatus.GRADED)
+                        .build();
+
+        expected.addStudent(new StudentBuilder(HOON).build());
+        assertEquals(expected, addressBook);
+        assertTrue(addressBook.findStudent(HOON.getName()).orElseThrow().getTutorials().isEmpty());
+        assertDoesNotThrow(addressBook::audit);
+    }
+
+    @Test
+    public void build_duplicateStudent_firstKept() {
+        AddressBook expected = getTypicalAddressBook();
+
+        AddressBook addressBook = builderOf(expected)
+                        .addStudent(new StudentBuilder(HOON).withName(ALICE.getName().fullName).build()).build();
+
+        assertEquals(expected, addressBook);
+    }
+}
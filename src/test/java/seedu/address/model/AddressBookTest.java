@@ -2,11 +2,16 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_HANDLE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TUTORIAL_2;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.BENSON;
+import static seedu.address.testutil.TypicalAddressBook.T1;
+import static seedu.address.testutil.TypicalAddressBook.T2;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -21,7 +26,10 @@ import javafx.collections.ObservableList;
 import seedu.address.model.attendance.Attendance;
 import seedu.address.model.student.Student;
 import seedu.address.model.submission.Submission;
+import seedu.address.model.submission.SubmissionStatus;
+import seedu.address.model.tutorial.Assignment;
 import seedu.address.model.tutorial.Tutorial;
+import seedu.address.model.uniquelist.exceptions.ItemNotFoundException;
 import seedu.address.testutil.StudentBuilder;
 
 public class AddressBookTest {
@@ -96,6 +104,144 @@ public class AddressBookTest {
         assertEquals(expected, addressBook.toString());
     }
 
+    @Test
+    public void findAttendance_afterMarkAndRemove_staysInSync() throws ItemNotFoundException {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.markAttendance(T1, 5, ALICE);
+
+        var attendance = typicalAddressBook.findAttendance(T1, ALICE).orElseThrow();
+        assertEquals(List.of(0, 1, 1), attendance.attendances().subList(0, 3));
+        assertTrue(typicalAddressBook.findAttendance(T2, ALICE).isEmpty());
+
+        typicalAddressBook.removeStudent(typicalAddressBook.getStudentList().get(0));
+        assertTrue(typicalAddressBook.findAttendance(T1, ALICE).isEmpty());
+    }
+
+    @Test
+    public void markAttendance_studentNotInTutorial_throwsItemNotFoundException() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        assertThrows(ItemNotFoundException.class, (
+        ) -> typicalAddressBook.markAttendance(T2, 4, ALICE));
+    }
+
+    @Test
+    public void setSubmissionStatus_afterRename_resolvesStudentByNewName() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.addAssignment(new Assignment("Lab 1", T1));
+        Student alice = typicalAddressBook.findStudent(ALICE.getName()).orElseThrow();
+        Student renamedAlice = new StudentBuilder(alice).withName("Alice Tan").build();
+
+        typicalAddressBook.setStudent(alice, renamedAlice);
+        assertTrue(typicalAddressBook.findStudent(ALICE.getName()).isEmpty());
+        assertThrows(ItemNotFoundException.class, (
+        ) -> typicalAddressBook.setSubmissionStatus(T1.name(), "Lab 1", ALICE.getName().fullName,
+                        SubmissionStatus.SUBMITTED));
+
+        typicalAddressBook.setSubmissionStatus(T1.name(), "Lab 1", "Alice Tan", SubmissionStatus.SUBMITTED);
+        assertEquals(SubmissionStatus.SUBMITTED, typicalAddressBook.getSubmissionList().stream()
+                        .filter(s -> s.student() == alice).findAny().orElseThrow().status());
+    }
+
+    @Test
+    public void getStudentsInTutorial_afterMembershipChanges_staysInSync() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Student alice = typicalAddressBook.findStudent(ALICE.getName()).orElseThrow();
+        Student benson = typicalAddressBook.findStudent(BENSON.getName()).orElseThrow();
+        assertEquals(List.of(benson), typicalAddressBook.getStudentsInTutorial(T2));
+
+        typicalAddressBook.addStudentToTutorial(T2, alice);
+        assertEquals(List.of(alice, benson), typicalAddressBook.getStudentsInTutorial(T2));
+
+        typicalAddressBook.removeStudentFromTutorial(T2, benson);
+        assertEquals(List.of(alice), typicalAddressBook.getStudentsInTutorial(T2));
+
+        typicalAddressBook.removeStudent(alice);
+        assertEquals(List.of(), typicalAddressBook.getStudentsInTutorial(T2));
+
+        typicalAddressBook.removeTutorial(T1);
+        assertEquals(List.of(), typicalAddressBook.getStudentsInTutorial(T1));
+        assertFalse(benson.hasTutorial(T1));
+    }
+
+    @Test
+    public void check_afterConsistentChanges_agreesWithAudit() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.addAssignment(new Assignment("Lab 1", T1));
+        typicalAddressBook.removeStudent(typicalAddressBook.findStudent(ALICE.getName()).orElseThrow());
+        typicalAddressBook.removeTutorial(T2);
+
+        assertTrue(typicalAddressBook.check());
+        assertTrue(typicalAddressBook.audit());
+    }
+
+    @Test
+    public void check_studentLinkedToMissingTutorial_throwsIllegalStateException() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.check();
+        Student alice = typicalAddressBook.findStudent(ALICE.getName()).orElseThrow();
+
+        alice.addTutorial(new Tutorial("Missing"));
+        typicalAddressBook.setStudent(alice, alice);
+
+        assertThrows(IllegalStateException.class, typicalAddressBook::check);
+        assertThrows(IllegalStateException.class, typicalAddressBook::audit);
+    }
+
+    @Test
+    public void snapshot_laterChanges_notVisible() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        ReadOnlyAddressBook snapshot = typicalAddressBook.snapshot();
+        List<Student> students = List.copyOf(typicalAddressBook.getStudentList());
+
+        typicalAddressBook.removeStudent(typicalAddressBook.findStudent(ALICE.getName()).orElseThrow());
+        typicalAddressBook.removeTutorial(T2);
+
+        assertEquals(students, snapshot.getStudentList());
+        assertTrue(snapshot.getTutorialList().contains(T2));
+        assertSame(snapshot, snapshot.snapshot());
+    }
+
+    @Test
+    public void snapshot_laterEditsInPlace_notVisible() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Student alice = typicalAddressBook.findStudent(ALICE.getName()).orElseThrow();
+        Tutorial tutorial = alice.getTutorials().iterator().next();
+        ReadOnlyAddressBook snapshot = typicalAddressBook.snapshot();
+
+        typicalAddressBook.setStudent(alice, new StudentBuilder(alice).withName("Alice Tan").build());
+        typicalAddressBook.markAttendance(tutorial, 3, alice);
+
+        Student copy = snapshot.getStudentList().stream().filter(s -> s.isSameStudent(ALICE)).findFirst()
+                        .orElseThrow();
+        assertNotSame(alice, copy);
+        assertEquals(ALICE.getName(), copy.getName());
+        assertTrue(snapshot.getAttendanceList().stream().filter(a -> a.student() == copy)
+                        .noneMatch(a -> a.isPresent(3)));
+        assertTrue(snapshot.getSubmissionList().stream().allMatch(s -> snapshot.getStudentList()
+                        .contains(s.student())));
+    }
+
+    @Test
+    public void snapshot_unchangedItems_shared() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        Student alice = typicalAddressBook.findStudent(ALICE.getName()).orElseThrow();
+        ReadOnlyAddressBook first = typicalAddressBook.snapshot();
+
+        assertSame(first, typicalAddressBook.snapshot());
+
+        typicalAddressBook.setStudent(alice, new StudentBuilder(alice).withName("Alice Tan").build());
+        ReadOnlyAddressBook second = typicalAddressBook.snapshot();
+
+        assertSame(first.getTutorialList().get(0), second.getTutorialList().get(0));
+        Student benson = first.getStudentList().stream().filter(s -> s.isSameStudent(BENSON)).findFirst()
+                        .orElseThrow();
+        assertTrue(second.getStudentList().stream().anyMatch(s -> s == benson));
+        assertTrue(second.getAttendanceList().stream().filter(a -> a.student().getName().equals(alice.getName()))
+                        .allMatch(a -> second.getStudentList().contains(a.student())));
+        assertTrue(second.getSubmissionList().stream().noneMatch(s -> s.student().getName().equals(ALICE.getName())));
+        assertEquals(typicalAddressBook.getAttendanceList().size(), second.getAttendanceList().size());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose students list can violate interface
      * constraints.
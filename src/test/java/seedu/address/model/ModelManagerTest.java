@@ -9,6 +9,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.ALICE;
 import static seedu.address.testutil.TypicalAddressBook.BENSON;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -17,7 +18,8 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.model.student.NameContainsKeywordsPredicate;
+import seedu.address.model.student.Student;
+import seedu.address.model.student.StudentContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -119,6 +121,21 @@ public class ModelManagerTest {
         ) -> modelManager.getFilteredStudentList().remove(0));
     }
 
+    @Test
+    public void getFilteredSnapshot_filteredStudents_copiesOfShownStudents() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager.updateFilteredStudentList(student -> student.isSameStudent(BENSON));
+
+        ReadOnlyAddressBook snapshot = modelManager.getFilteredSnapshot();
+        modelManager.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+
+        assertEquals(1, snapshot.getStudentList().size());
+        Student benson = snapshot.getStudentList().get(0);
+        assertEquals(BENSON.getName(), benson.getName());
+        assertFalse(modelManager.getAddressBook().getStudentList().stream().anyMatch(s -> s == benson));
+        assertEquals(modelManager.getAddressBook().getAttendanceList().size(), snapshot.getAttendanceList().size());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withStudent(ALICE).withStudent(BENSON).build();
@@ -144,7 +161,7 @@ public class ModelManagerTest {
 
         // different filteredList -> fail
         String[] keywords = ALICE.getName().fullName.split("\\s+");
-        modelManager.updateFilteredStudentList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        modelManager.updateFilteredStudentList(new StudentContainsKeywordsPredicate(Arrays.asList(keywords)));
         assertNotEquals(modelManager, new ModelManager(addressBook, userPrefs));
 
         // resets modelManager to initial state for upcoming tests
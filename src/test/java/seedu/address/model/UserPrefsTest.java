@@ -1,9 +1,13 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.attendance.WeekRange;
+
 public class UserPrefsTest {
 
     @Test
@@ -20,4 +24,18 @@ public class UserPrefsTest {
         ) -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setWeekRange_validWeeks_copiedWithPrefs() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertEquals(WeekRange.DEFAULT, userPrefs.getWeekRange());
+
+        userPrefs.setWeekRange(new WeekRange(1, 13));
+
+        assertEquals(new WeekRange(1, 13), userPrefs.getWeekRange());
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+        assertNotEquals(new UserPrefs(), userPrefs);
+        assertThrows(NullPointerException.class, (
+        ) -> userPrefs.setWeekRange(null));
+    }
+
 }
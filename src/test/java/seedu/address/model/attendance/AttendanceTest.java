@@ -0,0 +1,64 @@
+package seedu.address.model.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.T1;
+
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+public class AttendanceTest {
+    @Test
+    public void constructor_attendanceList_paddedToDefaultWeeks() {
+        var attendance = new Attendance(T1, ALICE, List.of(1, 0, 1));
+
+        assertEquals(WeekRange.DEFAULT, attendance.weeks());
+        assertEquals(List.of(1, 0, 1, 0, 0, 0, 0, 0, 0, 0, 0), attendance.attendances());
+        assertEquals(attendance, new Attendance(T1, ALICE, attendance.attendances()));
+    }
+
+    @Test
+    public void setAttendance_weekInRange_updatesWeek() {
+        var attendance = new Attendance(T1, ALICE);
+        attendance.setAttendance(3, true);
+        attendance.setAttendance(13, true);
+        attendance.setAttendance(13, false);
+
+        assertTrue(attendance.isPresent(3));
+        assertFalse(attendance.isPresent(13));
+        assertEquals(0b1, attendance.presence());
+    }
+
+    @Test
+    public void setAttendance_weekOutOfRange_throwsIllegalArgumentException() {
+        var attendance = new Attendance(T1, ALICE);
+
+        assertThrows(IllegalArgumentException.class, (
+        ) -> attendance.setAttendance(2, true));
+        assertThrows(IllegalArgumentException.class, (
+        ) -> attendance.setAttendance(14, true));
+    }
+
+    @Test
+    public void aggregates_customWeeks_success() {
+        var attendance = new Attendance(T1, ALICE, new WeekRange(1, 8), 0b1110_1011);
+
+        assertEquals(6, attendance.countPresent());
+        assertEquals(3, attendance.longestStreak());
+        assertEquals(OptionalInt.of(3), attendance.firstAbsence());
+        assertEquals(OptionalInt.empty(), new Attendance(T1, ALICE, new WeekRange(1, 64), -1L).firstAbsence());
+    }
+
+    @Test
+    public void constructor_invalidWeekRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, (
+        ) -> new WeekRange(3, 0));
+        assertThrows(IllegalArgumentException.class, (
+        ) -> new WeekRange(3, 65));
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudentBuilder;
+
+public class StudentContainsKeywordsPredicateTest {
+
+    private static final Student STUDENT = new StudentBuilder().withName("Alice Bob").withStudentId("A0284985I")
+                    .withPhone("12345678").withEmail("alice@email.com").withHandle("@alice_bob")
+                    .withDetails("Prefers Python").build();
+
+    @Test
+    public void equals() {
+        StudentContainsKeywordsPredicate firstPredicate = new StudentContainsKeywordsPredicate(List.of("first"));
+
+        assertEquals(firstPredicate, firstPredicate);
+        assertEquals(firstPredicate, new StudentContainsKeywordsPredicate(List.of("first")));
+        assertNotEquals(firstPredicate, 1);
+        assertNotEquals(firstPredicate, null);
+        assertNotEquals(firstPredicate, new StudentContainsKeywordsPredicate(List.of("first", "second")));
+    }
+
+    @Test
+    public void test_fieldContainsKeywords_returnsTrue() {
+        // Name, mixed case
+        assertTrue(new StudentContainsKeywordsPredicate(List.of("aLIce")).test(STUDENT));
+
+        // Student ID, email and handle
+        assertTrue(new StudentContainsKeywordsPredicate(List.of("a0284985i")).test(STUDENT));
+        assertTrue(new StudentContainsKeywordsPredicate(List.of("alice@email.com")).test(STUDENT));
+        assertTrue(new StudentContainsKeywordsPredicate(List.of("@alice_bob")).test(STUDENT));
+
+        // Word of details, with a non-matching keyword
+        assertTrue(new StudentContainsKeywordsPredicate(List.of("Carol", "python")).test(STUDENT));
+    }
+
+    @Test
+    public void test_fieldDoesNotContainKeywords_returnsFalse() {
+        // Zero keywords
+        assertFalse(new StudentContainsKeywordsPredicate(Collections.emptyList()).test(STUDENT));
+
+        // Phone is not searched, and keywords match whole words only
+        assertFalse(new StudentContainsKeywordsPredicate(List.of("12345678", "Ali", "alice_bob")).test(STUDENT));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        StudentContainsKeywordsPredicate predicate = new StudentContainsKeywordsPredicate(keywords);
+
+        String expected = StudentContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
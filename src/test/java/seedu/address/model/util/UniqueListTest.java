@@ -4,18 +4,30 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_HANDLE_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TUTORIAL_2;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.BENSON;
 import static seedu.address.testutil.TypicalAddressBook.BOB;
+import static seedu.address.testutil.TypicalAddressBook.CARL;
+import static seedu.address.testutil.TypicalAddressBook.DANIEL;
+import static seedu.address.testutil.TypicalAddressBook.T1;
+import static seedu.address.testutil.TypicalAddressBook.T2;
+import static seedu.address.testutil.TypicalAddressBook.T3;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.model.student.Name;
 import seedu.address.model.student.Student;
+import seedu.address.model.uniquelist.GroupKey;
 import seedu.address.model.uniquelist.UniqueList;
 import seedu.address.model.uniquelist.exceptions.DuplicateItemException;
 import seedu.address.model.uniquelist.exceptions.ItemNotFoundException;
@@ -24,6 +36,7 @@ import seedu.address.testutil.StudentBuilder;
 public class UniqueListTest {
 
     private final UniqueList<Student> uniqueStudentList = new UniqueList<>();
+    private final UniqueList<Student> indexedStudentList = new UniqueList<>(List.of(), Student.IDENTITY_KEYS);
 
     @Test
     public void containsIdentity_null_throwsNullPointerException() {
@@ -194,4 +207,131 @@ public class UniqueListTest {
     public void toStringMethod() {
         assertEquals(uniqueStudentList.asUnmodifiableObservableList().toString(), uniqueStudentList.toString());
     }
+
+    @Test
+    public void containsIdentity_indexedListEntityWithAnySameKey_returnsTrue() {
+        indexedStudentList.add(BOB);
+        var studentWithBobPhone = new StudentBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertTrue(indexedStudentList.containsIdentity(studentWithBobPhone));
+        assertFalse(indexedStudentList.containsIdentity(ALICE));
+    }
+
+    @Test
+    public void set_indexedListEntityMutatedInPlace_reindexed() throws DuplicateItemException, ItemNotFoundException {
+        var alice = new StudentBuilder(ALICE).build();
+        indexedStudentList.add(alice);
+        alice.setName(new Name(VALID_NAME_BOB));
+        indexedStudentList.set(alice, alice);
+
+        assertTrue(indexedStudentList.find(new StudentBuilder().withName(VALID_NAME_BOB).build()).isPresent());
+        assertFalse(indexedStudentList.containsIdentity(new StudentBuilder(BOB).withName(ALICE.getName().fullName)
+                        .build()));
+    }
+
+    @Test
+    public void removeIf_indexedList_indexUpdated() {
+        indexedStudentList.add(ALICE);
+        indexedStudentList.add(BOB);
+        indexedStudentList.removeIf(s -> s.equals(ALICE));
+
+        assertFalse(indexedStudentList.containsIdentity(ALICE));
+        assertTrue(indexedStudentList.containsIdentity(BOB));
+        assertTrue(indexedStudentList.add(ALICE));
+    }
+
+    @Test
+    public void remove_indexedList_success() {
+        indexedStudentList.add(ALICE);
+        assertTrue(indexedStudentList.remove(ALICE));
+        assertFalse(indexedStudentList.remove(ALICE));
+        assertFalse(indexedStudentList.remove(null));
+        assertEquals(new UniqueList<Student>(), indexedStudentList);
+    }
+
+    @Test
+    public void findDuplicateGroups_indexedList_groupsSharingAnyKey() {
+        var aliceWithBobPhone = new StudentBuilder(ALICE).withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB).build();
+        var students = List.of(ALICE, BOB, aliceWithBobPhone, BENSON);
+
+        assertEquals(List.of(List.of(ALICE, BOB, aliceWithBobPhone)),
+                        indexedStudentList.findDuplicateGroups(students));
+        assertEquals(uniqueStudentList.findDuplicateGroups(students),
+                        indexedStudentList.findDuplicateGroups(students));
+        assertEquals(List.of(), indexedStudentList.findDuplicateGroups(List.of(ALICE, BOB, BENSON)));
+    }
+
+    @Test
+    public void findGroup_groupedList_returnsItemsInListOrder() {
+        GroupKey<Student> byTutorial = Student::getTutorials;
+        var groupedStudentList = new UniqueList<>(List.of(ALICE, BENSON, CARL), Student.IDENTITY_KEYS,
+                        List.of(byTutorial));
+
+        assertEquals(List.of(ALICE, BENSON), groupedStudentList.findGroup(byTutorial, T1));
+        assertEquals(List.of(BENSON), groupedStudentList.findGroup(byTutorial, T2));
+        assertEquals(List.of(), groupedStudentList.findGroup(byTutorial, T3));
+    }
+
+    @Test
+    public void isInGroup_groupedList_usesIndexedKeys() {
+        GroupKey<Student> byTutorial = Student::getTutorials;
+        var groupedStudentList = new UniqueList<>(List.of(ALICE, BENSON), Student.IDENTITY_KEYS,
+                        List.of(byTutorial));
+
+        assertTrue(groupedStudentList.isInGroup(BENSON, byTutorial, T2));
+        assertFalse(groupedStudentList.isInGroup(ALICE, byTutorial, T2));
+        assertFalse(groupedStudentList.isInGroup(CARL, byTutorial, T1));
+        assertThrows(IllegalArgumentException.class, (
+        ) -> groupedStudentList.isInGroup(ALICE, Student::getTutorials, T1));
+    }
+
+    @Test
+    public void removeItems_groupedList_groupsAndPositionsUpdated() {
+        GroupKey<Student> byTutorial = Student::getTutorials;
+        var groupedStudentList = new UniqueList<>(List.of(ALICE, BENSON, CARL, DANIEL), Student.IDENTITY_KEYS,
+                        List.of(byTutorial));
+
+        assertTrue(groupedStudentList.removeItems(groupedStudentList.findGroup(byTutorial, T1)));
+        assertFalse(groupedStudentList.removeItems(List.of(ALICE)));
+
+        assertEquals(List.of(CARL, DANIEL), groupedStudentList);
+        assertEquals(List.of(), groupedStudentList.findGroup(byTutorial, T2));
+        assertEquals(1, groupedStudentList.indexOf(DANIEL));
+        assertFalse(groupedStudentList.containsIdentity(ALICE));
+    }
+
+    @Test
+    public void commitTransaction_severalMutations_publishesSingleChange() {
+        var uniqueList = new UniqueList<>(List.of(ALICE, BENSON, CARL), Student.IDENTITY_KEYS);
+        var changes = new ArrayList<ListChangeListener.Change<? extends Student>>();
+        uniqueList.asUnmodifiableObservableList().addListener((ListChangeListener<Student>) changes::add);
+
+        uniqueList.beginTransaction();
+        uniqueList.add(DANIEL);
+        uniqueList.remove(BENSON);
+        uniqueList.beginTransaction();
+        uniqueList.removeIf(s -> s == ALICE);
+        uniqueList.commitTransaction();
+        assertEquals(0, changes.size());
+
+        uniqueList.commitTransaction();
+        assertEquals(1, changes.size());
+        assertEquals(List.of(CARL, DANIEL), uniqueList);
+        assertThrows(IllegalStateException.class, uniqueList::commitTransaction);
+    }
+
+    @Test
+    public void removeIf_indexedList_publishesSingleChange() {
+        var uniqueList = new UniqueList<>(List.of(ALICE, BENSON, CARL, DANIEL), Student.IDENTITY_KEYS);
+        var removed = new ArrayList<Student>();
+        uniqueList.asUnmodifiableObservableList().addListener((ListChangeListener<Student>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+            removed.add(null);
+        });
+
+        assertTrue(uniqueList.removeIf(s -> s == BENSON || s == DANIEL));
+        assertEquals(Arrays.asList(BENSON, DANIEL, null), removed);
+        assertEquals(List.of(ALICE, CARL), uniqueList);
+    }
 }
@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.storage.binary.BinaryAddressBookStorage;
+import seedu.address.storage.database.DatabaseAddressBookStorage;
+import seedu.address.storage.json.JsonAddressBookStorage;
+import seedu.address.storage.json.ShardedAddressBookStorage;
+
+public class AddressBookConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void forPath_pickedByExtension() {
+        assertTrue(AddressBookConverter.forPath(testFolder.resolve("addressbook.bin"))
+                        instanceof BinaryAddressBookStorage);
+        assertTrue(AddressBookConverter.forPath(testFolder.resolve("addressbook.mv.db"))
+                        instanceof DatabaseAddressBookStorage);
+        assertTrue(AddressBookConverter.forPath(testFolder.resolve("manifest.json"))
+                        instanceof ShardedAddressBookStorage);
+        assertTrue(AddressBookConverter.forPath(testFolder.resolve("addressbook.json"))
+                        instanceof JsonAddressBookStorage);
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        var json = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        var binary = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        var jsonCopy = new JsonAddressBookStorage(testFolder.resolve("copy.json"));
+        json.saveAddressBook(original);
+
+        assertTrue(AddressBookConverter.convert(json, binary));
+        assertTrue(AddressBookConverter.convert(binary, jsonCopy));
+
+        assertEquals(original, new AddressBook(binary.readAddressBook().get()));
+        assertEquals(original, new AddressBook(jsonCopy.readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        var target = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+
+        assertFalse(AddressBookConverter.convert(new JsonAddressBookStorage(testFolder.resolve("missing.json")),
+                        target));
+        assertFalse(Files.exists(target.getAddressBookFilePath()));
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.storage.binary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalAddressBook.HOON;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.json.JsonAddressBookStorage;
+
+public class CachedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Returns a storage for the JSON file at {@code filePath} that fails the
+     * test if the file is parsed.
+     */
+    private static CachedAddressBookStorage cachedOnly(Path filePath) {
+        var storage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public Optional<ReadOnlyAddressBook> readAddressBook() {
+                throw new AssertionError("Data file should not be parsed");
+            }
+        };
+        return new CachedAddressBookStorage(storage, CachedAddressBookStorage.getCachePath(filePath));
+    }
+
+    private static CachedAddressBookStorage cached(Path filePath) {
+        return new CachedAddressBookStorage(new JsonAddressBookStorage(filePath),
+                        CachedAddressBookStorage.getCachePath(filePath));
+    }
+
+    @Test
+    public void getCachePath_suffixAdded() {
+        assertEquals(Paths.get("data", "addressbook.json.cache"),
+                        CachedAddressBookStorage.getCachePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_cacheSaved_dataFileNotParsed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        CachedAddressBookStorage storage = cached(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.saveCache();
+
+        assertEquals(original, new AddressBook(cachedOnly(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_savedAfterRead_cacheHoldsSavedData() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        CachedAddressBookStorage storage = cached(filePath);
+        storage.saveAddressBook(original);
+        storage.saveCache();
+
+        original.addStudent(HOON);
+        storage = cachedOnly(filePath);
+        storage.readAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveCache();
+
+        assertEquals(original, new AddressBook(cachedOnly(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_dataFileChanged_cacheIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        CachedAddressBookStorage storage = cached(filePath);
+        storage.saveAddressBook(original);
+        storage.saveCache();
+
+        original.addStudent(HOON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(cached(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedCache_cacheIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        CachedAddressBookStorage storage = cached(filePath);
+        storage.saveAddressBook(original);
+        storage.saveCache();
+
+        Path cachePath = storage.getCacheFilePath();
+        byte[] bytes = Files.readAllBytes(cachePath);
+        Files.write(cachePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertEquals(original, new AddressBook(cached(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveCache_dataUnknown_noCacheWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        CachedAddressBookStorage storage = cached(filePath);
+
+        assertFalse(storage.readAddressBook().isPresent());
+        storage.saveCache();
+
+        assertFalse(Files.exists(storage.getCacheFilePath()));
+    }
+}
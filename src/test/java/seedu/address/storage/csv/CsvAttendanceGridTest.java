@@ -0,0 +1,42 @@
+package seedu.address.storage.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.BENSON;
+import static seedu.address.testutil.TypicalAddressBook.CARL;
+import static seedu.address.testutil.TypicalAddressBook.T1;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.attendance.WeekRange;
+
+public class CsvAttendanceGridTest {
+
+    @Test
+    public void getRows_differentWeekRanges_cellsAlignedByWeek() {
+        CsvAttendanceGrid grid = new CsvAttendanceGrid();
+        grid.addStudent(ALICE);
+        grid.addStudent(BENSON);
+        grid.addAttendance(new Attendance(T1, BENSON, new WeekRange(4, 2), 0b10));
+        grid.addAttendance(new Attendance(T1, ALICE, new WeekRange(3, 2), 0b01));
+        grid.addAttendance(new Attendance(T1, CARL, new WeekRange(1, 1), 1));
+
+        assertEquals(List.of("NAME", "ID", "W3", "W4", "W5"), grid.getHeader());
+        assertEquals(List.of(List.of("Alice Pauline", "A0743062E", "1", "0", ""),
+                        List.of("Benson Meier", "A0179034R", "", "0", "1")),
+                        grid.getRows().stream().map(CsvRecord::toRow).toList());
+    }
+
+    @Test
+    public void getRows_noAttendance_noWeekColumns() {
+        CsvAttendanceGrid grid = new CsvAttendanceGrid();
+        grid.addStudent(ALICE);
+
+        assertEquals(List.of("NAME", "ID"), grid.getHeader());
+        assertEquals(List.of(List.of("Alice Pauline", "A0743062E")),
+                        grid.getRows().stream().map(CsvRecord::toRow).toList());
+    }
+}
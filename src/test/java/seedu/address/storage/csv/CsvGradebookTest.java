@@ -0,0 +1,47 @@
+package seedu.address.storage.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.BENSON;
+import static seedu.address.testutil.TypicalAddressBook.T1;
+import static seedu.address.testutil.TypicalAddressBook.T1_ASSIGN1;
+import static seedu.address.testutil.TypicalAddressBook.T2_ASSIGN1;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.submission.Submission;
+import seedu.address.model.submission.SubmissionStatus;
+import seedu.address.model.tutorial.Assignment;
+
+public class CsvGradebookTest {
+
+    @Test
+    public void getRows_submissions_cellsInAssignmentColumns() {
+        Assignment lab = new Assignment("Lab 1").setTutorial(T1);
+        CsvGradebook gradebook = new CsvGradebook(List.of(T1_ASSIGN1, lab));
+        gradebook.addStudent(ALICE);
+        gradebook.addStudent(BENSON);
+        gradebook.addSubmission(new Submission(lab, ALICE, SubmissionStatus.GRADED));
+        gradebook.addSubmission(new Submission(T1_ASSIGN1, BENSON, SubmissionStatus.NOT_SUBMITTED));
+        gradebook.addSubmission(new Submission(new Assignment("Unknown").setTutorial(T1), ALICE,
+                        SubmissionStatus.SUBMITTED));
+
+        assertEquals(List.of("NAME", "ID", T1_ASSIGN1.name(), "Lab 1"), gradebook.getHeader());
+        assertEquals(List.of(List.of("Alice Pauline", "A0743062E", "", "GRADED"),
+                        List.of("Benson Meier", "A0179034R", "NOT_SUBMITTED", "")),
+                        gradebook.getRows().stream().map(CsvRecord::toRow).toList());
+    }
+
+    @Test
+    public void getRows_noAssignments_noAssignmentColumns() {
+        CsvGradebook gradebook = new CsvGradebook(List.of());
+        gradebook.addStudent(ALICE);
+        gradebook.addSubmission(new Submission(T2_ASSIGN1, ALICE, SubmissionStatus.GRADED));
+
+        assertEquals(List.of("NAME", "ID"), gradebook.getHeader());
+        assertEquals(List.of(List.of("Alice Pauline", "A0743062E")),
+                        gradebook.getRows().stream().map(CsvRecord::toRow).toList());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.storage.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.attendance.Attendance;
+import seedu.address.model.submission.Submission;
+import seedu.address.model.tutorial.Tutorial;
+
+public class CsvListStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveCsvList_tutorials_headerAndQuotedRows() throws Exception {
+        Path filePath = testFolder.resolve("tutorials.csv");
+        List<Long> progress = new ArrayList<>();
+
+        new CsvListStorage<CsvAdaptedTutorial>(filePath, CsvAdaptedTutorial.HEADER).saveCsvList(
+                        List.of(new CsvAdaptedTutorial("CS2103-T1"), new CsvAdaptedTutorial("Say \"hi\"")),
+                        progress::add);
+
+        assertEquals(List.of("\"NAME\"", "\"CS2103-T1\"", "\"Say \"\"hi\"\"\""), Files.readAllLines(filePath));
+        assertEquals(List.of(1L, 2L), progress);
+    }
+
+    @Test
+    public void saveCsvList_attendancesAndSubmissions_oneRowEach() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Attendance attendance = addressBook.getAttendanceList().get(0);
+        Submission submission = addressBook.getSubmissionList().get(0);
+        Path attendancePath = testFolder.resolve("attendances.csv");
+        Path submissionPath = testFolder.resolve("submissions.csv");
+
+        new CsvListStorage<CsvAdaptedAttendance>(attendancePath, CsvAdaptedAttendance.HEADER)
+                        .saveCsvList(addressBook.getAttendanceList().stream().map(CsvAdaptedAttendance::new).toList());
+        new CsvListStorage<CsvAdaptedSubmission>(submissionPath, CsvAdaptedSubmission.HEADER)
+                        .saveCsvList(addressBook.getSubmissionList().stream().map(CsvAdaptedSubmission::new).toList());
+
+        List<String> attendanceLines = Files.readAllLines(attendancePath);
+        assertEquals(addressBook.getAttendanceList().size() + 1, attendanceLines.size());
+        assertEquals(String.join(",", attendance.student().getName().fullName, attendance.tutorial().name(),
+                        String.valueOf(attendance.weeks().firstWeek()),
+                        String.valueOf(attendance.weeks().numberOfWeeks()),
+                        String.join(";", attendance.attendances().stream().map(String::valueOf).toList())),
+                        attendanceLines.get(1).replace("\"", ""));
+        List<String> submissionLines = Files.readAllLines(submissionPath);
+        assertEquals(addressBook.getSubmissionList().size() + 1, submissionLines.size());
+        assertEquals(String.join(",", submission.student().getName().fullName,
+                        submission.assignment().tutorial().name(), submission.assignment().name(),
+                        submission.status().name()), submissionLines.get(1).replace("\"", ""));
+    }
+
+    @Test
+    public void saveCsvList_interrupted_previousFileKept() throws Exception {
+        Path filePath = testFolder.resolve("tutorials.csv");
+        var storage = new CsvListStorage<CsvAdaptedTutorial>(filePath, CsvAdaptedTutorial.HEADER);
+        storage.saveCsvList(List.of(new CsvAdaptedTutorial(new Tutorial("CS2103-T1"))));
+        List<String> previous = Files.readAllLines(filePath);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(InterruptedIOException.class, (
+            ) -> storage.saveCsvList(List.of(new CsvAdaptedTutorial("CS2103-T2"))));
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertEquals(previous, Files.readAllLines(filePath));
+        try (var files = Files.list(testFolder)) {
+            assertEquals(List.of(filePath), files.toList());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package seedu.address.storage.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.HOON;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.StudentBuilder;
+
+public class DatabaseAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getDatabasePath_replacesExtension() {
+        assertEquals(Paths.get("data", "addressbook.mv.db"),
+                        DatabaseAddressBookStorage.getDatabasePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("addressbook.mv.db"),
+                        DatabaseAddressBookStorage.getDatabasePath(Paths.get("addressbook.mv.db")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new DatabaseAddressBookStorage(testFolder.resolve("missing.mv.db")).readAddressBook()
+                        .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        AddressBook original = getTypicalAddressBook();
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertSame(original, storage.readAddressBook().get());
+
+        original.addStudent(HOON);
+        original.removeStudent(original.findStudent(ALICE.getName()).orElseThrow());
+        storage.saveAddressBook(original);
+        assertSame(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_databaseWrittenByOtherStorage_onlyChangesKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        AddressBook original = getTypicalAddressBook();
+        new DatabaseAddressBookStorage(filePath).saveAddressBook(original);
+
+        var student = original.findStudent(ALICE.getName()).orElseThrow();
+        original.setStudent(student, new StudentBuilder(student).withPhone("91234567").build());
+        original.removeStudent(original.getStudentList().get(1));
+        new DatabaseAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertSame(original, new DatabaseAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_studentsRemovedAndRenamed_otherListIndicesKept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        AddressBook original = getTypicalAddressBook();
+        DatabaseAddressBookStorage storage = new DatabaseAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        Map<String, Long> listIndices = readStudentListIndices(filePath);
+
+        var removed = original.getStudentList().get(0);
+        var renamed = original.getStudentList().get(2);
+        Map<String, Long> expectedListIndices = new HashMap<>(listIndices);
+        expectedListIndices.remove(removed.getName().fullName);
+        expectedListIndices.remove(renamed.getName().fullName);
+
+        original.removeStudent(removed);
+        original.setStudent(renamed, new StudentBuilder(renamed).withName("Renamed Student").build());
+        storage.saveAddressBook(original);
+
+        Map<String, Long> savedListIndices = readStudentListIndices(filePath);
+        savedListIndices.remove("Renamed Student");
+        assertEquals(expectedListIndices, savedListIndices);
+        assertSame(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_notDatabase_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.mv.db");
+        Files.writeString(filePath, "{\"students\": []}");
+
+        assertThrows(DataLoadingException.class, (
+        ) -> new DatabaseAddressBookStorage(filePath).readAddressBook());
+    }
+
+    /**
+     * Returns the list index of each student in the database at {@code filePath}.
+     */
+    private static Map<String, Long> readStudentListIndices(Path filePath) throws SQLException {
+        String path = filePath.toAbsolutePath().toString();
+        String url = "jdbc:h2:file:" + path.substring(0, path.length() - DatabaseAddressBookStorage.FILE_EXTENSION
+                        .length());
+        Map<String, Long> listIndices = new HashMap<>();
+        try (Connection connection = DriverManager.getConnection(url);
+                        Statement statement = connection.createStatement();
+                        ResultSet resultSet = statement.executeQuery("SELECT name, list_index FROM students")) {
+            while (resultSet.next()) {
+                listIndices.put(resultSet.getString(1), resultSet.getLong(2));
+            }
+        }
+        return listIndices;
+    }
+
+    /**
+     * Asserts that {@code actual} has the same records as {@code expected}, with
+     * the students in the same order.
+     */
+    private static void assertSame(AddressBook expected, ReadOnlyAddressBook actual) {
+        assertEquals(expected, new AddressBook(actual));
+        assertEquals(expected.getStudentList(), actual.getStudentList());
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.storage.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.HOON;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.student.Phone;
+import seedu.address.model.student.Student;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = JournalAddressBookStorage.getJournalPath(filePath);
+        addressBook = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(addressBook);
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(testFolder.resolve("missing.json")).readAddressBook()
+                        .isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        assertFalse(Files.exists(journalPath));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsChangesToJournal() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        String snapshot = Files.readString(filePath);
+
+        addressBook.addStudent(HOON);
+        addressBook.removeStudent(addressBook.findStudent(ALICE.getName()).orElseThrow());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertTrue(Files.readAllLines(journalPath).stream().anyMatch(line -> line.contains(HOON.getName().fullName)));
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_studentEditedInPlace_onlyEditedRecordAppended() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+
+        Student student = addressBook.findStudent(ALICE.getName()).orElseThrow();
+        student.setPhone(new Phone("91234567"));
+        storage.saveAddressBook(addressBook);
+
+        List<String> entries = Files.readAllLines(journalPath);
+        assertEquals(1, entries.size());
+        assertTrue(entries.get(0).contains("91234567"));
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_writesNothing() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_foldedIntoSnapshot() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false, 0);
+        storage.readAddressBook();
+
+        addressBook.addStudent(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.awaitCompaction();
+
+        assertFalse(JournalAddressBookStorage.hasJournal(filePath));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshots_onlyChangesSincePreviousSaveAppended() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        storage.saveAddressBook(addressBook.snapshot());
+
+        Student student = addressBook.findStudent(ALICE.getName()).orElseThrow();
+        student.setPhone(new Phone("91234567"));
+        addressBook.setStudent(student, student);
+        // Taken by something else, like an export, between two saves
+        addressBook.snapshot();
+        addressBook.addStudent(HOON);
+        storage.saveAddressBook(addressBook.snapshot());
+
+        List<String> entries = Files.readAllLines(journalPath);
+        assertEquals(2, entries.size());
+        assertTrue(entries.get(0).contains("91234567"));
+        assertTrue(entries.get(1).contains(HOON.getName().fullName));
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotWithStudentRemoved_removalAppended() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        storage.saveAddressBook(addressBook.snapshot());
+
+        addressBook.removeStudent(addressBook.findStudent(ALICE.getName()).orElseThrow());
+        storage.saveAddressBook(addressBook.snapshot());
+
+        assertFalse(Files.readAllLines(journalPath).isEmpty());
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_foldingJournalLeft_replayedBeforeJournal() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        addressBook.addStudent(HOON);
+        storage.saveAddressBook(addressBook);
+        // As left by a folding that did not finish
+        Files.move(journalPath, filePath.resolveSibling("addressbook.json.journal.folding"));
+
+        addressBook.removeStudent(addressBook.findStudent(HOON.getName()).orElseThrow());
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(JournalAddressBookStorage.hasJournal(filePath));
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        addressBook.addStudent(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Files.writeString(journalPath, "{\"section\":\"stud", UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void jsonStorage_pendingJournal_replayedThenRemoved() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.readAddressBook();
+        addressBook.addStudent(HOON);
+        storage.saveAddressBook(addressBook);
+
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        assertEquals(addressBook, new AddressBook(jsonStorage.readAddressBook().get()));
+
+        jsonStorage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalPath));
+    }
+}
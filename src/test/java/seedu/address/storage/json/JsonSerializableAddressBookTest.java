@@ -2,6 +2,8 @@ package seedu.address.storage.json;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalAddressBook.ALICE;
 
 import java.nio.file.Path;
@@ -9,6 +11,11 @@ import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.tutorial.Tutorial;
@@ -18,6 +25,7 @@ public class JsonSerializableAddressBookTest {
 
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
     private static final Path TYPICAL_FILE_NAME = TEST_DATA_FOLDER.resolve("typicalAddressBook.json");
+    private static final Path TYPICAL_V2_FILE_NAME = TEST_DATA_FOLDER.resolve("typicalAddressBookV2.json");
     private static final Path DUPLICATE_STUDENT_FILE = TEST_DATA_FOLDER.resolve("duplicateStudentAddressBook.json");
 
     @Test
@@ -35,6 +43,30 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalStudentsAddressBook);
     }
 
+    @Test
+    public void toModelType_typicalVersion2_success() throws Exception {
+        AddressBook addressBookFromFile = JsonUtil
+                        .readJsonFile(TYPICAL_V2_FILE_NAME, JsonSerializableAddressBook.class).get().toModelType();
+
+        assertDoesNotThrow((
+        ) -> addressBookFromFile.check());
+        assertEquals(TypicalAddressBook.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void constructor_fromVersion1_writesReferences() throws Exception {
+        AddressBook addressBookFromFile = JsonUtil
+                        .readJsonFile(TYPICAL_FILE_NAME, JsonSerializableAddressBook.class).get().toModelType();
+
+        JsonNode json = JsonUtil.toJsonTree(new JsonSerializableAddressBook(addressBookFromFile));
+
+        assertEquals(JsonSerializableAddressBook.CURRENT_VERSION, json.get("version").asInt());
+        assertTrue(json.get("submissions").get(0).get("student").isTextual());
+        assertTrue(json.get("attendances").get(0).get("student").isTextual());
+        assertEquals(addressBookFromFile,
+                        JsonUtil.fromJsonTree(json, JsonSerializableAddressBook.class).toModelType());
+    }
+
     @Test
     public void toModelType_missingAlice() throws Exception {
         Path filepath = TEST_DATA_FOLDER.resolve("missingAlice.json");
@@ -78,4 +110,50 @@ public class JsonSerializableAddressBookTest {
         ) -> ab.check());
         assertEquals(dataFromFile, ab);
     }
+
+    @Test
+    public void toModelType_invalidStudents_reportsEveryError() throws Exception {
+        AddressBook addressBook = TypicalAddressBook.getTypicalAddressBook();
+        var json = (ObjectNode) JsonUtil.toJsonTree(new JsonSerializableAddressBook(addressBook));
+        ArrayNode students = json.withArray("students");
+        ObjectNode.class.cast(students.get(1)).put("phone", "948asdf2424");
+        ObjectNode.class.cast(students.get(3)).put("email", "not an email");
+        var dataFromFile = JsonUtil.fromJsonTree(json, JsonSerializableAddressBook.class);
+
+        var e = assertThrows(DataLoadingException.class, dataFromFile::toModelType);
+
+        String message = e.getCause().getMessage();
+        assertTrue(message.indexOf("student 2") >= 0);
+        assertTrue(message.indexOf("student 4") > message.indexOf("student 2"));
+    }
+
+    @Test
+    public void toModelType_invalidRecords_skipped() throws Exception {
+        AddressBook expected = TypicalAddressBook.getTypicalAddressBook();
+        var json = (ObjectNode) JsonUtil.toJsonTree(new JsonSerializableAddressBook(expected));
+        json.withArray("attendances").insertObject(0).put("tutorial", "CS2103-T1").put("student", "Not a name!");
+        json.withArray("submissions").addObject().put("tutorial", "CS2103-T1")
+                        .put("student", ALICE.getName().fullName).put("assignment", "Week 10 Tasks");
+
+        AddressBook addressBook = JsonUtil.fromJsonTree(json, JsonSerializableAddressBook.class).toModelType();
+
+        assertDoesNotThrow(addressBook::check);
+        assertEquals(expected, addressBook);
+    }
+
+    @Test
+    public void toModelType_invalidAttendanceWeeks_skipped() throws Exception {
+        AddressBook expected = TypicalAddressBook.getTypicalAddressBook();
+        var json = (ObjectNode) JsonUtil.toJsonTree(new JsonSerializableAddressBook(expected));
+        ArrayNode attendances = json.withArray("attendances");
+        attendances.insertObject(0).put("tutorial", "CS2103-T1").put("student", ALICE.getName().fullName)
+                        .putArray("attendances").add(1).addNull();
+        attendances.addObject().put("tutorial", "CS2103-T1").put("student", ALICE.getName().fullName)
+                        .putArray("attendances").add(0).add(2);
+
+        AddressBook addressBook = JsonUtil.fromJsonTree(json, JsonSerializableAddressBook.class).toModelType();
+
+        assertDoesNotThrow(addressBook::check);
+        assertEquals(expected, addressBook);
+    }
 }
@@ -0,0 +1,102 @@
+package seedu.address.storage.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.ALICE;
+import static seedu.address.testutil.TypicalAddressBook.HOON;
+import static seedu.address.testutil.TypicalAddressBook.T1;
+import static seedu.address.testutil.TypicalAddressBook.T2;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getManifestPath_folderNamedAfterFile() {
+        assertEquals(Paths.get("data", "addressbook", "manifest.json"),
+                        ShardedAddressBookStorage.getManifestPath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(testFolder.resolve("manifest.json")).readAddressBook()
+                        .isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addStudent(HOON);
+        original.removeStudent(original.findStudent(ALICE.getName()).orElseThrow());
+        original.removeTutorial(T2);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+        assertFalse(Files.exists(testFolder.resolve(T2.name() + ".json")));
+    }
+
+    @Test
+    public void saveAddressBook_attendanceMarked_onlyTutorialFileRewritten() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        AddressBook original = getTypicalAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        // Files that are rewritten lose these marks
+        Path studentsFile = testFolder.resolve(ShardedAddressBookStorage.STUDENTS_FILE_NAME);
+        Path otherTutorialFile = testFolder.resolve(T2.name() + ".json");
+        Path tutorialFile = testFolder.resolve(T1.name() + ".json");
+        String tutorialContents = FileUtil.readFromFile(tutorialFile);
+        FileUtil.writeToFile(studentsFile, FileUtil.readFromFile(studentsFile) + " ");
+        FileUtil.writeToFile(otherTutorialFile, FileUtil.readFromFile(otherTutorialFile) + " ");
+
+        original.markAttendance(T1, 6, ALICE);
+        storage.saveAddressBook(original);
+
+        assertTrue(FileUtil.readFromFile(studentsFile).endsWith(" "));
+        assertTrue(FileUtil.readFromFile(otherTutorialFile).endsWith(" "));
+        assertNotEquals(tutorialContents, FileUtil.readFromFile(tutorialFile));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingTutorialFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        new ShardedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.delete(testFolder.resolve(T1.name() + ".json"));
+
+        assertThrows(DataLoadingException.class, (
+        ) -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_fileOutsideFolder_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("manifest.json");
+        FileUtil.writeToFile(filePath, "{\"tutorials\": [{\"name\": \"T1\", \"file\": \"../T1.json\"}]}");
+        FileUtil.writeToFile(testFolder.resolve(ShardedAddressBookStorage.STUDENTS_FILE_NAME), "{}");
+
+        assertThrows(DataLoadingException.class, (
+        ) -> new ShardedAddressBookStorage(filePath).readAddressBook());
+    }
+}
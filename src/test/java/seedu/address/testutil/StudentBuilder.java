@@ -136,7 +136,7 @@ public class StudentBuilder {
     }
 
     public Student build() {
-        return new Student(name, studentId, phone, email, handle, tutorials);
+        return new Student(name, studentId, phone, email, handle, tutorials, details);
     }
 
 }